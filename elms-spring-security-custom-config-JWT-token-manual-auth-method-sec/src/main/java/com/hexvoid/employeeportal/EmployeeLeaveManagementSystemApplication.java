@@ -2,6 +2,7 @@ package com.hexvoid.employeeportal;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 
@@ -34,12 +35,16 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
  *   which is useful for development and debugging purposes. This should be set to {@code false}
  *   in production environments to avoid unnecessary logging and potential security risks.
  * 
- * {@code @EnableMethodSecurity(jsr250Enabled = true, securedEnabled = true)}
+ * {@code @EnableMethodSecurity(prePostEnabled = false, jsr250Enabled = true, securedEnabled = true)}
  * - Enables method-level security annotations throughout the application:
  *   - {@code @Secured}: Allows role-based access control at the method level.
  *   - {@code @RolesAllowed}: Enables support for JSR-250 standard security annotations.
- *   - Also supports {@code @PreAuthorize}, {@code @PostAuthorize}, and filtering annotations
- *     like {@code @PreFilter}, {@code @PostFilter} if enabled.
+ *   - {@code @PreAuthorize}, {@code @PostAuthorize} and {@code @PostFilter} are enabled by
+ *     {@code MethodSecurityConfig} instead, which caches authority-only {@code @PreAuthorize}
+ *     decisions. {@code @PreFilter} is not enabled.
+ *
+ * {@code @EnableScheduling}
+ * - Runs {@code @Scheduled} housekeeping, e.g. purging expired refresh tokens.
  *
  * -----------------------------------------------------------------------------
  * Application Responsibilities
@@ -62,7 +67,8 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
  */
 @SpringBootApplication
 @EnableWebSecurity(debug = true)
-@EnableMethodSecurity(jsr250Enabled = true, securedEnabled = true)
+@EnableMethodSecurity(prePostEnabled = false, jsr250Enabled = true, securedEnabled = true)
+@EnableScheduling
 public class EmployeeLeaveManagementSystemApplication {
 
     /**
@@ -0,0 +1,102 @@
+package com.hexvoid.employeeportal.cache;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Building blocks shared by the application's in-memory caches.
+ *
+ * <ul>
+ *   <li>{@link #bounded} builds a size-bounded Caffeine cache that records hit/miss statistics and
+ *       publishes them to Micrometer.</li>
+ *   <li>{@link #afterCommit} and {@link #beforeCommit} tie a cache update to the outcome of the
+ *       current transaction, so a cache never serves changes that were rolled back.</li>
+ * </ul>
+ */
+public final class CacheSupport {
+
+	private CacheSupport() {
+	}
+
+	/**
+	 * Builds a cache holding at most {@code maxSize} entries and recording statistics.
+	 *
+	 * @param builder       builder carrying the expiry policy of the cache, if any
+	 * @param maxSize       the maximum number of entries
+	 * @param cacheName     name under which the statistics are published as {@code cache.*{cache=<name>}}
+	 * @param meterRegistry registry the statistics are published to, if available
+	 * @return the new cache
+	 */
+	public static <K, V> Cache<K, V> bounded(Caffeine<? super K, ? super V> builder, long maxSize,
+			String cacheName, ObjectProvider<MeterRegistry> meterRegistry) {
+		Cache<K, V> cache = bounded(builder, maxSize);
+		meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, cacheName));
+		return cache;
+	}
+
+	/**
+	 * Builds a cache holding at most {@code maxSize} entries and recording statistics, for caches that
+	 * publish them later with {@link CaffeineCacheMetrics#monitor}.
+	 *
+	 * @param builder builder carrying the expiry policy of the cache, if any
+	 * @param maxSize the maximum number of entries
+	 * @return the new cache
+	 */
+	public static <K, V> Cache<K, V> bounded(Caffeine<? super K, ? super V> builder, long maxSize) {
+		return builder.maximumSize(maxSize).recordStats().<K, V>build();
+	}
+
+	/**
+	 * Runs {@code action} once the current transaction commits, or immediately when no transaction is active.
+	 * Nothing runs if the transaction rolls back.
+	 *
+	 * @param action the cache update, e.g. an eviction
+	 */
+	public static void afterCommit(Runnable action) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					action.run();
+				}
+			});
+		} else {
+			action.run();
+		}
+	}
+
+	/**
+	 * Runs {@code action} just before the current transaction commits, while its row locks are still
+	 * held, or immediately when no transaction is active. If the transaction then fails to commit,
+	 * {@code onRollback} undoes it.
+	 *
+	 * @param action     the cache update
+	 * @param onRollback drops whatever {@code action} may have cached
+	 */
+	public static void beforeCommit(Runnable action, Runnable onRollback) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void beforeCommit(boolean readOnly) {
+					action.run();
+				}
+
+				@Override
+				public void afterCompletion(int status) {
+					if (status != STATUS_COMMITTED) {
+						onRollback.run();
+					}
+				}
+			});
+		} else {
+			action.run();
+		}
+	}
+}
@@ -1,5 +1,7 @@
 package com.hexvoid.employeeportal.constants;
 
+import java.time.Duration;
+
 /**
  * This class contains all application-level constants that are commonly used
  * throughout the Employee Portal project — especially related to JWT security
@@ -32,6 +34,24 @@ package com.hexvoid.employeeportal.constants;
  *     <li>The most common standard name for this is "Authorization".</li>
  * </ul>
  *
+ * <h3>JWT_ACCESS_TOKEN_VALIDITY</h3>
+ * <ul>
+ *     <li>Lifetime of the short-lived access token (JWT); accepts duration strings such as {@code 15m}.</li>
+ *     <li>Clients renew expired access tokens through {@code /api/token/refresh} instead of logging in again.</li>
+ * </ul>
+ *
+ * <h3>DEFAULT_PAGE_SIZE / MAX_PAGE_SIZE</h3>
+ * <ul>
+ *     <li>List endpoints return keyset pages ({@code ?after=<id>&limit=}) instead of whole tables.</li>
+ *     <li>{@code limit} defaults to {@link #DEFAULT_PAGE_SIZE} and is capped at {@link #MAX_PAGE_SIZE}.</li>
+ * </ul>
+ *
+ * <h3>MAX_BULK_STATUS_IDS</h3>
+ * <ul>
+ *     <li>{@code POST /api/leave/status} changes the status of many leave requests in one UPDATE.</li>
+ *     <li>Its ID list is bound to a single {@code IN} list, so it is limited to {@link #MAX_BULK_STATUS_IDS} IDs.</li>
+ * </ul>
+ *
  * <p><b>Example usage for local development (in application.properties or as ENV var):</b></p>
  * <pre>
  *     # As system environment variable or in application.properties
@@ -61,6 +81,31 @@ public final class ApplicationConstants {
 	 */
 	public static final String JWT_HEADER_NAME = "Authorization";
 
+	/**
+	 * Property key for the lifetime of issued access tokens.
+	 */
+	public static final String JWT_ACCESS_TOKEN_VALIDITY = "jwt.access-token-validity";
+
+	/**
+	 * Default access-token lifetime: short enough that a leaked token is only briefly useful.
+	 */
+	public static final Duration JWT_DEFAULT_ACCESS_TOKEN_VALIDITY = Duration.ofMinutes(15);
+
+	/**
+	 * Page size of list endpoints when the request has no {@code limit}.
+	 */
+	public static final int DEFAULT_PAGE_SIZE = 50;
+
+	/**
+	 * Hard upper bound on {@code limit} for list endpoints; larger values are capped.
+	 */
+	public static final int MAX_PAGE_SIZE = 500;
+
+	/**
+	 * Maximum number of leave request IDs in one bulk status change; larger requests are rejected.
+	 */
+	public static final int MAX_BULK_STATUS_IDS = 1000;
+
 
 	/**
 	 * Example of setting the JWT secret securely as environment variable (Do not hardcode secrets):
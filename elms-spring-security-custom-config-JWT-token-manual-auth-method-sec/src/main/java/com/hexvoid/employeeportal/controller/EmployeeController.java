@@ -4,6 +4,7 @@ import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -11,6 +12,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.hexvoid.employeeportal.entity.Employees;
@@ -93,15 +95,20 @@ public class EmployeeController {
 	 * - Used to **retrieve resources** (list of employees).
 	 * - Returns a **List<Employees>** as a response.
 	 *
-	 * **Best Practice:**
-	 * - For larger datasets, implement pagination to improve performance.
+	 * **Keyset Pagination:**
+	 * - `?after=<id>&limit=<n>` returns up to `n` employees with an ID greater than `after`, ordered by ID.
+	 * - `limit` defaults to 50 and is capped at 500.
+	 * - The next page is linked in the `Link: <...>; rel="next"` response header (absent on the last page).
 	 *
-	 * @return A list of all employees currently in the system.
+	 * @param after Cursor from the previous page (omit for the first page).
+	 * @param limit Page size (optional).
+	 * @return One page of employees.
 	 */
 	@GetMapping(value = "/employees")
-	public List<Employees> getEmployee() {
-		logger.info("Fetching all employees...");
-		return theEmployeeServiceMethod.findAll();
+	public ResponseEntity<List<Employees>> getEmployee(@RequestParam(required = false) Long after,
+			@RequestParam(required = false) Integer limit) {
+		logger.info("Fetching employees after ID {} (limit {})...", after, limit);
+		return KeysetPageResponses.ok(theEmployeeServiceMethod.findPage(after, limit));
 	}
 
 	/**
@@ -1,28 +1,43 @@
 package com.hexvoid.employeeportal.controller;
 
+import java.io.IOException;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PostFilter;
-import org.springframework.security.access.prepost.PreFilter;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.hexvoid.employeeportal.entity.BulkInsertResult;
 import com.hexvoid.employeeportal.entity.Employees;
+import com.hexvoid.employeeportal.entity.LeaveRequestSearch;
 import com.hexvoid.employeeportal.entity.LeaveRequests;
+import com.hexvoid.employeeportal.entity.LeaveStatus;
+import com.hexvoid.employeeportal.entity.LeaveStatusChangeRequest;
 import com.hexvoid.employeeportal.exceptionhandler.MyCustomExceptionClass;
 import com.hexvoid.employeeportal.service.EmployeeService;
 import com.hexvoid.employeeportal.service.LeaveRequestService;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
 /*
  ===================================================================================================
  OVERVIEW:
@@ -175,21 +190,26 @@ public class EmployeeLeaveRequestController {
 	private final EmployeeService employeeService;
 	// Service responsible for leave request operations.
 	private final LeaveRequestService leaveRequestService;
+	// Application JSON mapper, used by the NDJSON export.
+	private final ObjectMapper objectMapper;
 
 	/**
 	 * Constructor-based dependency injection for the required services.
 	 * 
 	 * @param theEmpService      Instance of EmployeeService.
 	 * @param theLeaveRequest    Instance of LeaveRequestService.
+	 * @param theObjectMapper    The ObjectMapper configured by Spring Boot.
 	 *
 	 * This approach (constructor injection) is preferred because:
 	 *   • It allows the fields to be declared as final (ensuring immutability).
 	 *   • Helps with testing, as mocked dependencies can be easily injected.
 	 */
 	@Autowired
-	public EmployeeLeaveRequestController(EmployeeService theEmpService, LeaveRequestService theLeaveRequest) {
+	public EmployeeLeaveRequestController(EmployeeService theEmpService, LeaveRequestService theLeaveRequest,
+			ObjectMapper theObjectMapper) {
 		this.employeeService = theEmpService;
 		this.leaveRequestService = theLeaveRequest;
+		this.objectMapper = theObjectMapper;
 	}
 
 	//===================================================================================
@@ -197,35 +217,26 @@ public class EmployeeLeaveRequestController {
 	//===================================================================================
 
 	/**
-	 * Adds a list of new Employees to the system with input-level filtering using @PreFilter.
+	 * Adds a list of new Employees to the system.
 	 *
-	 *  PreFilter Explanation:
-	 *   - Evaluates the condition *before* the method is executed.
-	 *   - Ensures that only those Employees from the input list with:
-	 *       → Non-null email,
-	 *       → Containing "@",
-	 *       → Ending with ".com",
-	 *     are passed to the method.
-	 *   -  Safe for DB updates because invalid data is filtered out before processing.
+	 *  Bulk insert:
+	 *   - Every valid employee is saved, in one transaction and in JDBC batches.
+	 *   - Rows that fail validation (ID provided, no name, email that is missing, has no "@"
+	 *     or does not end with ".com", duplicate email) are skipped and reported in the response.
+	 *   - Row numbers refer to the list as sent, so the caller can match every outcome to its row.
 	 *
 	 * @param newEmployees List of Employee objects sent in request.
-	 * @return ResponseEntity with success message or error.
+	 * @return ResponseEntity with the per-row outcome: HTTP 201 if at least one employee
+	 *         was added, HTTP 400 if every row was rejected.
 	 */
 	@PostMapping(value = "/employee")
-	@PreFilter("filterObject.email != null and"
-			+ " filterObject.email.contains('@') and"
-			+ " filterObject.email.endsWith('.com')")
-	public ResponseEntity<String> addEmployee(@RequestBody List<Employees> newEmployees) {
+	public ResponseEntity<BulkInsertResult> addEmployee(@RequestBody List<Employees> newEmployees) {
 		if (newEmployees.isEmpty()) {
-			throw new MyCustomExceptionClass("Please Provide valid Mail ID");
-		}
-		Employees requestedEmployees = newEmployees.get(0);
-		if (requestedEmployees.getId() != null) {
-			return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-					.body("Employee ID should not be provided for a new employee.");
+			throw new MyCustomExceptionClass("Please provide at least one employee");
 		}
-		employeeService.save(requestedEmployees);
-		return new ResponseEntity<>("Employee Added Successfully", HttpStatus.CREATED);
+		BulkInsertResult result = employeeService.saveAll(newEmployees);
+		HttpStatus status = result.accepted() > 0 ? HttpStatus.CREATED : HttpStatus.BAD_REQUEST;
+		return new ResponseEntity<>(result, status);
 	}
 
 	/**
@@ -236,29 +247,34 @@ public class EmployeeLeaveRequestController {
 	 * - The method will only execute if the authenticated user has the 'VIEW' authority.
 	 *
 	 * Flow:
-	 * 1. Maps to HTTP GET at /api/employee.
-	 * 2. Calls employeeService.findAll() to fetch the list of all employees.
-	 * 3. Returns the result with HTTP 200 using ResponseEntity.ok().
+	 * 1. Maps to HTTP GET at /api/employee?after=&limit=.
+	 * 2. Calls employeeService.findPage() to fetch one keyset page of employees, ordered by ID.
+	 * 3. Returns the page with HTTP 200 and, if more rows exist, a Link: <...>; rel="next" header.
 	 *
 	 * Note:
 	 * - If the user lacks the required authority, Spring Security prevents method execution altogether.
+	 * - limit defaults to 50 and is capped at 500.
 	 *
-	 * @return List of Employees wrapped in ResponseEntity with HTTP 200 status.
+	 * @param after Cursor from the previous page (omit for the first page).
+	 * @param limit Page size (optional).
+	 * @return One page of Employees wrapped in ResponseEntity with HTTP 200 status.
 	 */
 	@GetMapping(value = "/employee")
-	public ResponseEntity<List<Employees>> getAllEmployees() {
+	public ResponseEntity<List<Employees>> getAllEmployees(@RequestParam(required = false) Long after,
+			@RequestParam(required = false) Integer limit) {
 
 		System.out.println("Using @PreAuthorize – if the user doesn't have VIEW access, this DAO method won't be executed at all.");
 
-		return ResponseEntity.ok(employeeService.findAll());
+		return KeysetPageResponses.ok(employeeService.findPage(after, limit));
 	}
 
 	/**
 	 * Retrieves an Employee by their ID.
 	 *
 	 * Security:
-	 * - Secured with @PostAuthorize("hasAuthority('VIEW')") at DAO level.
-	 * - Authorization is applied **after** the method executes and the return value is available.
+	 * - Secured with @PreAuthorize("hasAuthority('VIEW')") at DAO level.
+	 * - Authorization is applied **before** the employee is loaded, since the rule does not depend
+	 *   on the returned object.
 	 *
 	 * Flow:
 	 * 1. Maps to HTTP GET at /api/employee/{id}.
@@ -266,21 +282,16 @@ public class EmployeeLeaveRequestController {
 	 * 3. employeeService.findById(id) fetches the Employee entity from the database.
 	 * 4. The result is returned in a ResponseEntity with HTTP 200 status.
 	 *
-	 * PostAuthorize Behavior:
-	 * 🔸 If the employee ID doesn't exist in the database, the method returns null.
-	 *     ➤ PostAuthorize doesn't block it since there's no object to evaluate.
-	 * 🔸 If the employee exists and the user lacks VIEW authority,
-	 *     ➤ Spring throws AccessDeniedException after evaluating the returned object.
+	 * PreAuthorize Behavior:
+	 * 🔸 If the user lacks VIEW authority,
+	 *     ➤ Spring throws AccessDeniedException and no query is run, whether or not the employee exists.
+	 * 🔸 Otherwise, an unknown employee ID results in a "not found" error.
 	 *
 	 * @param id The ID of the employee to retrieve.
 	 * @return ResponseEntity containing the Employee data with HTTP 200 status.
 	 */
 	@GetMapping(value = "/employee/{id}")
 	public ResponseEntity<Employees> getEmployeeById(@PathVariable int id) {
-
-		System.out.println("PostAuthorize check: If employee ID " + id + " doesn't exist, method returns null and PostAuthorize doesn't block it.");
-		System.out.println("But if the employee exists and the user lacks VIEW access, Spring throws AccessDeniedException after evaluating the result.");
-
 		return ResponseEntity.status(HttpStatus.OK).body(employeeService.findById(id));
 	}
 
@@ -299,6 +310,8 @@ public class EmployeeLeaveRequestController {
 	 *       </ul>
 	 *   </li>
 	 *   <li>{@code @PostFilter} filters only the response, not the execution logic.</li>
+	 *   <li>Like every method security expression, the filter is compiled to bytecode after its first
+	 *       evaluations (see {@code MethodSecurityConfig#methodSecurityExpressionHandler}).</li>
 	 * </ul>
 	 *
 	 * <p><strong>Important Notes:</strong></p>
@@ -329,6 +342,27 @@ public class EmployeeLeaveRequestController {
 		return theEmployees;
 	}
 
+	/**
+	 * Partially updates an Employee, with optimistic locking.
+	 *
+	 * Detailed Flow:
+	 * 1. Maps to an HTTP PATCH request at /api/employee/{id}.
+	 * 2. The body carries only the fields to change (name, email, department) and the
+	 *    "version" returned by the last read of this employee.
+	 * 3. employeeService.patchById() issues one UPDATE ... WHERE id = ? AND version = ?,
+	 *    without loading the employee first.
+	 * 4. The response is HTTP 200 with the changed fields and the new version, or HTTP 409
+	 *    (Conflict) if the employee was changed by someone else since it was read.
+	 *
+	 * @param changes The fields to change and the expected version.
+	 * @param id      The ID of the employee to be updated.
+	 * @return ResponseEntity containing the changed fields and the new version with HTTP 200 status.
+	 */
+	@PatchMapping(value = "/employee/{id}")
+	public ResponseEntity<Employees> patchEmployee(@RequestBody Employees changes, @PathVariable int id) {
+		return ResponseEntity.ok(employeeService.patchById(changes, id));
+	}
+
 	/**
 	 * Deletes an Employee by ID.
 	 *
@@ -373,16 +407,110 @@ public class EmployeeLeaveRequestController {
 	 * Retrieves all Leave Requests.
 	 *
 	 * Detailed Flow:
-	 * 1. Maps to an HTTP GET request at /api/leave.
-	 * 2. leaveRequestService.findAllLeaveRequest() returns a list of all leave requests.
-	 * 3. The response is built using ResponseEntity.status(HttpStatus.OK).body(), ensuring
-	 *    explicit declaration of HTTP 200 status.
+	 * 1. Maps to an HTTP GET request at /api/leave?after=&limit=.
+	 * 2. leaveRequestService.findPage() returns one keyset page of leave requests, ordered by ID.
+	 * 3. The response is HTTP 200 with the page as body and, if more rows exist,
+	 *    a Link: <...>; rel="next" header carrying the next cursor.
 	 *
-	 * @return ResponseEntity containing a list of leave requests and HTTP 200 status.
+	 * @param after Cursor from the previous page (omit for the first page).
+	 * @param limit Page size (optional, default 50, max 500).
+	 * @return ResponseEntity containing one page of leave requests and HTTP 200 status.
 	 */
 	@GetMapping("/leave")
-	public ResponseEntity<List<LeaveRequests>> getAllLeaveRequests() {
-		return ResponseEntity.status(HttpStatus.OK).body(leaveRequestService.findAll());
+	public ResponseEntity<List<LeaveRequests>> getAllLeaveRequests(@RequestParam(required = false) Long after,
+			@RequestParam(required = false) Integer limit) {
+		return KeysetPageResponses.ok(leaveRequestService.findPage(after, limit));
+	}
+
+	/**
+	 * Searches Leave Requests by employee, status and date range.
+	 *
+	 * Detailed Flow:
+	 * 1. Maps to an HTTP GET request at
+	 *    /api/leave/search?employeeId=&status=&from=&to=&after=&limit=; every filter is optional.
+	 * 2. from/to select the leave requests overlapping that period (dates as yyyy-MM-dd).
+	 * 3. leaveRequestService.search() filters in the database, using the leave_requests indexes,
+	 *    and returns one keyset page ordered by ID.
+	 * 4. The response is HTTP 200 with the page as body and, if more rows match,
+	 *    a Link: <...>; rel="next" header that keeps the filters.
+	 *
+	 * Security:
+	 * - Admin only at URL level, like the full list at /api/leave.
+	 *
+	 * @param employeeId Only leave requests of this employee (optional).
+	 * @param status     Only leave requests in this status (optional).
+	 * @param from       Only leave requests ending on or after this date (optional).
+	 * @param to         Only leave requests starting on or before this date (optional).
+	 * @param after      Cursor from the previous page (omit for the first page).
+	 * @param limit      Page size (optional, default 50, max 500).
+	 * @return ResponseEntity containing one page of matching leave requests and HTTP 200 status.
+	 */
+	@GetMapping("/leave/search")
+	public ResponseEntity<List<LeaveRequests>> searchLeaveRequests(@RequestParam(required = false) Long employeeId,
+			@RequestParam(required = false) LeaveStatus status,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+			@RequestParam(required = false) Long after, @RequestParam(required = false) Integer limit) {
+		LeaveRequestSearch criteria = new LeaveRequestSearch(employeeId, status, from, to);
+		return KeysetPageResponses.ok(leaveRequestService.search(criteria, after, limit));
+	}
+
+	/**
+	 * Imports Leave Requests in bulk from an NDJSON or CSV body.
+	 *
+	 * Detailed Flow:
+	 * 1. Maps to an HTTP POST request at /api/leave/import with Content-Type
+	 *    application/x-ndjson (one leave request JSON per line) or text/csv (header row required).
+	 * 2. The body is read one row at a time and handed to leaveRequestService.importAll(), which
+	 *    checks employee IDs with one query per chunk and commits each chunk separately.
+	 * 3. Malformed or invalid rows are skipped; the response lists them with the reason.
+	 *
+	 * @param request The servlet request whose body holds the rows.
+	 * @return ResponseEntity with the import summary: HTTP 201 if at least one leave request
+	 *         was added, HTTP 400 if every row was rejected.
+	 * @throws IOException If the request body cannot be read.
+	 */
+	@PostMapping(value = "/leave/import", consumes = { "application/x-ndjson", "text/csv" })
+	public ResponseEntity<BulkInsertResult> importLeaveRequests(HttpServletRequest request) throws IOException {
+		LeaveRequestImportReader rows = LeaveRequestImportReader.create(
+				LeaveRequestFormat.ofContentType(request.getContentType()), request.getInputStream(), objectMapper);
+		BulkInsertResult result = leaveRequestService.importAll(rows);
+		HttpStatus status = result.accepted() > 0 ? HttpStatus.CREATED : HttpStatus.BAD_REQUEST;
+		return new ResponseEntity<>(result, status);
+	}
+
+	/**
+	 * Exports all Leave Requests as NDJSON or CSV.
+	 *
+	 * Detailed Flow:
+	 * 1. Maps to an HTTP GET request at /api/leave/export?format=ndjson|csv (ndjson by default).
+	 * 2. leaveRequestService.exportAll() reads the table through a database cursor and hands over
+	 *    one row at a time; each row is written straight to the response body, nothing is collected.
+	 * 3. The response is HTTP 200 sent as an attachment, chunked since its length is unknown upfront.
+	 *
+	 * Security:
+	 * - Admin only at URL level, and secured with @PreAuthorize("hasAuthority('VIEW')") at DAO level.
+	 *   The check runs before the first row is written, so a denied call still gets a clean 403.
+	 *
+	 * @param format   Export format, "ndjson" or "csv" (case-insensitive).
+	 * @param response The servlet response the rows are written to.
+	 * @throws IOException If the response cannot be written.
+	 */
+	@GetMapping("/leave/export")
+	public void exportLeaveRequests(@RequestParam(defaultValue = "ndjson") String format,
+			HttpServletResponse response) throws IOException {
+		LeaveRequestFormat exportFormat = LeaveRequestFormat.of(format);
+		if (exportFormat == null) {
+			response.sendError(HttpStatus.BAD_REQUEST.value(), "Unsupported export format: " + format);
+			return;
+		}
+		response.setContentType(exportFormat.contentType());
+		response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+				"attachment; filename=\"" + exportFormat.fileName() + "\"");
+		LeaveRequestExportWriter writer =
+				LeaveRequestExportWriter.create(exportFormat, response.getOutputStream(), objectMapper);
+		leaveRequestService.exportAll(writer);
+		writer.finish();
 	}
 
 	/**
@@ -425,6 +553,61 @@ public class EmployeeLeaveRequestController {
 				.body(leaveRequestService.updateById(updatedLeaveRequest, id));
 	}
 
+	/**
+	 * Partially updates a Leave Request, e.g. approves it, with optimistic locking.
+	 *
+	 * Detailed Flow:
+	 * 1. Maps to an HTTP PATCH request at /api/leave/{id}.
+	 * 2. The body carries only the fields to change (leaveType, startDate, endDate, leaveStatus)
+	 *    and the "version" returned by the last read of this leave request.
+	 * 3. leaveRequestService.patchById() issues one UPDATE ... WHERE id = ? AND version = ?.
+	 *    A change of dates or status first locks the leave request and checks it against the
+	 *    employee's other leave.
+	 * 4. The response is HTTP 200 with the changed fields and the new version, or HTTP 409
+	 *    (Conflict) if another request changed it first, e.g. a concurrent approval, or if the
+	 *    changed leave overlaps other leave of the employee.
+	 *
+	 * Note:
+	 * - LeaveRequests defaults leaveStatus to PENDING, so an absent leaveStatus is cleared before
+	 *   the update; otherwise patching only the dates would reset an approval.
+	 *
+	 * @param changes The JSON body with the fields to change and the expected version.
+	 * @param id      The ID of the leave request to be updated.
+	 * @return ResponseEntity containing the changed fields and the new version with HTTP 200 status.
+	 * @throws JsonProcessingException If the body does not describe a leave request.
+	 */
+	@PatchMapping("/leave/{id}")
+	public ResponseEntity<LeaveRequests> patchLeaveRequestById(@RequestBody ObjectNode changes,
+			@PathVariable int id) throws JsonProcessingException {
+		LeaveRequests leaveRequest = objectMapper.treeToValue(changes, LeaveRequests.class);
+		if (!changes.hasNonNull("leaveStatus")) {
+			leaveRequest.setLeaveStatus(null);
+		}
+		return ResponseEntity.ok(leaveRequestService.patchById(leaveRequest, id));
+	}
+
+	/**
+	 * Changes the status of many Leave Requests at once, e.g. to approve a batch.
+	 *
+	 * Detailed Flow:
+	 * 1. Maps to an HTTP POST request at /api/leave/status with a body like
+	 *    {"ids": [1, 2, 3], "status": "APPROVED"}.
+	 * 2. leaveRequestService.updateStatus() changes all of them with one UPDATE statement,
+	 *    refreshing updated_at and the version of every changed row.
+	 * 3. The response is HTTP 200 with the IDs that were changed; IDs that do not exist or
+	 *    already have the status are not listed.
+	 *
+	 * Security:
+	 * - Admin only at URL level, like PUT and PATCH /api/leave/{id}.
+	 *
+	 * @param statusChange The leave request IDs and the new status.
+	 * @return ResponseEntity containing the changed IDs with HTTP 200 status.
+	 */
+	@PostMapping("/leave/status")
+	public ResponseEntity<List<Long>> updateLeaveStatus(@RequestBody LeaveStatusChangeRequest statusChange) {
+		return ResponseEntity.ok(leaveRequestService.updateStatus(statusChange.ids(), statusChange.status()));
+	}
+
 	/**
 	 * Deletes a Leave Request by its ID.
 	 *
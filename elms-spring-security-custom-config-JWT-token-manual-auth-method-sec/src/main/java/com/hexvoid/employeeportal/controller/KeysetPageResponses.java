@@ -0,0 +1,39 @@
+package com.hexvoid.employeeportal.controller;
+
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import com.hexvoid.employeeportal.entity.KeysetPage;
+
+/**
+ * Renders a {@link KeysetPage} for the list endpoints.
+ *
+ * <p>The body stays a plain JSON array, as before pagination, and the next page is advertised in an
+ * RFC 8288 {@code Link} header, e.g. {@code Link: </api/leave?after=250&limit=50>; rel="next"}.
+ * The header is absent on the last page.
+ */
+final class KeysetPageResponses {
+
+	private KeysetPageResponses() {
+	}
+
+	/**
+	 * @param <T>  the element type
+	 * @param page the page to return
+	 * @return HTTP 200 with the page items as body and a {@code rel="next"} link if another page exists
+	 */
+	static <T> ResponseEntity<List<T>> ok(KeysetPage<T> page) {
+		ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+		if (page.hasNext()) {
+			String next = ServletUriComponentsBuilder.fromCurrentRequest()
+					.replaceQueryParam("after", page.nextAfter())
+					.build()
+					.toUriString();
+			response.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+		}
+		return response.body(page.items());
+	}
+}
@@ -4,6 +4,7 @@ import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -11,6 +12,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.hexvoid.employeeportal.entity.LeaveRequests;
@@ -99,16 +101,23 @@ public class LeaveRequestController {
 	 * - Used to **retrieve all leave requests**.
 	 * - Returns a **List<LeaveRequests>** as a response.
 	 *
+	 * **Keyset Pagination:**
+	 * - `?after=<id>&limit=<n>` returns up to `n` leave requests with an ID greater than `after`, ordered by ID.
+	 * - `limit` defaults to 50 and is capped at 500.
+	 * - The next page is linked in the `Link: <...>; rel="next"` response header (absent on the last page).
+	 *
 	 * **Best Practices:**
-	 * - For large datasets, implement pagination to improve performance.
 	 * - Return only necessary data fields instead of the entire object if the list is extensive.
 	 *
-	 * @return A list of all leave requests in the system.
+	 * @param after Cursor from the previous page (omit for the first page).
+	 * @param limit Page size (optional).
+	 * @return One page of leave requests.
 	 */
 	@GetMapping(value = "/leaves")
-	public List<LeaveRequests> getAllLeaveRequests() {
-		logger.info("Fetching all leave requests...");
-		return theLeaveRequestService.findAll();
+	public ResponseEntity<List<LeaveRequests>> getAllLeaveRequests(@RequestParam(required = false) Long after,
+			@RequestParam(required = false) Integer limit) {
+		logger.info("Fetching leave requests after ID {} (limit {})...", after, limit);
+		return KeysetPageResponses.ok(theLeaveRequestService.findPage(after, limit));
 	}
 
 	/**
@@ -0,0 +1,153 @@
+package com.hexvoid.employeeportal.controller;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.hexvoid.employeeportal.entity.Employees;
+import com.hexvoid.employeeportal.entity.LeaveRequests;
+
+/**
+ * Writes leave requests to the response body one row at a time, for {@code GET /api/leave/export}.
+ *
+ * <p>Each row is encoded into a small buffer as soon as it is read and nothing is collected, so the
+ * export needs the same memory for ten rows as for ten million. The formats are described in
+ * {@link LeaveRequestFormat}.
+ *
+ * <p>Write failures, typically a client that went away, are rethrown as {@link UncheckedIOException}
+ * so they abort the database cursor too.
+ */
+abstract class LeaveRequestExportWriter implements Consumer<LeaveRequests> {
+
+	/**
+	 * @param format       the export format
+	 * @param out          the response body; it is flushed but not closed by {@link #finish()}
+	 * @param objectMapper the application's JSON mapper, used for NDJSON
+	 * @return a writer for the given format
+	 * @throws IOException if the output cannot be opened
+	 */
+	static LeaveRequestExportWriter create(LeaveRequestFormat format, OutputStream out, ObjectMapper objectMapper)
+			throws IOException {
+		return format == LeaveRequestFormat.CSV ? new Csv(out) : new Ndjson(out, objectMapper);
+	}
+
+	@Override
+	public final void accept(LeaveRequests leaveRequest) {
+		try {
+			write(leaveRequest);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	abstract void write(LeaveRequests leaveRequest) throws IOException;
+
+	/**
+	 * Flushes the buffered rows. Only called once every row was written: flushing commits the
+	 * response, after which an error status could no longer be sent.
+	 *
+	 * @throws IOException if the output cannot be written
+	 */
+	abstract void finish() throws IOException;
+
+	/**
+	 * One JSON document per line, written through a single generator.
+	 */
+	private static final class Ndjson extends LeaveRequestExportWriter {
+
+		private final JsonGenerator generator;
+		private final ObjectWriter rowWriter;
+
+		Ndjson(OutputStream out, ObjectMapper objectMapper) throws IOException {
+			this.generator = objectMapper.getFactory().createGenerator(out);
+			// Lines are terminated explicitly below, Jackson must not add its own separator.
+			this.generator.setRootValueSeparator(null);
+			this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+			// Flushing after every row would turn each row into its own network write.
+			this.rowWriter = objectMapper.writerFor(LeaveRequests.class)
+					.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+		}
+
+		@Override
+		void write(LeaveRequests leaveRequest) throws IOException {
+			rowWriter.writeValue(generator, leaveRequest);
+			generator.writeRaw('\n');
+		}
+
+		@Override
+		void finish() throws IOException {
+			generator.close();
+		}
+	}
+
+	/**
+	 * Comma-separated values, quoted only where RFC 4180 requires it.
+	 */
+	private static final class Csv extends LeaveRequestExportWriter {
+
+		private static final String HEADER =
+				"id,employee_id,employee_name,employee_email,leave_type,start_date,end_date,status,reason";
+
+		private final Writer writer;
+
+		Csv(OutputStream out) throws IOException {
+			this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+			writer.write(HEADER);
+			writer.write("\r\n");
+		}
+
+		@Override
+		void write(LeaveRequests leaveRequest) throws IOException {
+			Employees employee = leaveRequest.getEmployee();
+			field(leaveRequest.getId(), ',');
+			field(employee != null ? employee.getId() : null, ',');
+			field(employee != null ? employee.getName() : null, ',');
+			field(employee != null ? employee.getEmail() : null, ',');
+			field(leaveRequest.getLeaveType(), ',');
+			field(leaveRequest.getStartDate(), ',');
+			field(leaveRequest.getEndDate(), ',');
+			field(leaveRequest.getLeaveStatus(), ',');
+			field(leaveRequest.getReason(), '\r');
+			writer.write('\n');
+		}
+
+		private void field(Object value, char terminator) throws IOException {
+			if (value != null) {
+				String text = value.toString();
+				if (needsQuoting(text)) {
+					writer.write('"');
+					writer.write(text.replace("\"", "\"\""));
+					writer.write('"');
+				} else {
+					writer.write(text);
+				}
+			}
+			writer.write(terminator);
+		}
+
+		private static boolean needsQuoting(String text) {
+			for (int i = 0; i < text.length(); i++) {
+				char c = text.charAt(i);
+				if (c == ',' || c == '"' || c == '\r' || c == '\n') {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		@Override
+		void finish() throws IOException {
+			// Flush only: the servlet container owns the response stream.
+			writer.flush();
+		}
+	}
+}
@@ -0,0 +1,56 @@
+package com.hexvoid.employeeportal.controller;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Bulk formats of leave requests, shared by {@code GET /api/leave/export} and {@code POST /api/leave/import}.
+ *
+ * <ul>
+ *   <li>{@code ndjson}: one JSON object per line, with the same shape as {@code GET /api/leave/{id}}.</li>
+ *   <li>{@code csv}: RFC 4180 with a header row, columns
+ *       {@code id,employee_id,employee_name,employee_email,leave_type,start_date,end_date,status,reason}.</li>
+ * </ul>
+ */
+enum LeaveRequestFormat {
+
+	NDJSON("application/x-ndjson"),
+	CSV("text/csv;charset=UTF-8");
+
+	private final String contentType;
+
+	LeaveRequestFormat(String contentType) {
+		this.contentType = contentType;
+	}
+
+	/**
+	 * @param name the {@code format} request parameter, case-insensitive
+	 * @return the matching format, or {@code null} if it is not supported
+	 */
+	static LeaveRequestFormat of(String name) {
+		for (LeaveRequestFormat format : values()) {
+			if (format.name().equalsIgnoreCase(name)) {
+				return format;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * @param contentType the {@code Content-Type} of a request body, may be {@code null}
+	 * @return {@link #CSV} for {@code text/csv}, otherwise {@link #NDJSON}
+	 */
+	static LeaveRequestFormat ofContentType(String contentType) {
+		if (contentType != null && MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.valueOf("text/csv"))) {
+			return CSV;
+		}
+		return NDJSON;
+	}
+
+	String contentType() {
+		return contentType;
+	}
+
+	String fileName() {
+		return "leave-requests." + name().toLowerCase();
+	}
+}
@@ -0,0 +1,271 @@
+package com.hexvoid.employeeportal.controller;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.hexvoid.employeeportal.entity.Employees;
+import com.hexvoid.employeeportal.entity.LeaveRequests;
+import com.hexvoid.employeeportal.entity.LeaveStatus;
+import com.hexvoid.employeeportal.entity.LeaveType;
+import com.hexvoid.employeeportal.exceptionhandler.MyCustomExceptionClass;
+
+/**
+ * Reads leave requests from the request body one row at a time, for {@code POST /api/leave/import}.
+ *
+ * <p>Only the current row is held in memory, so the body can be far larger than the heap. The formats
+ * are described in {@link LeaveRequestFormat}; CSV columns are matched by header name, so the
+ * {@code employee_name}/{@code employee_email} columns of an export are simply ignored.
+ *
+ * <p>{@link #hasNext()} only reads the next raw line or record. {@link #next()} converts it and throws
+ * {@link IllegalArgumentException} when the row is malformed, so the caller can reject that row and go
+ * on with the next one. Read failures are rethrown as {@link UncheckedIOException}.
+ */
+abstract class LeaveRequestImportReader implements Iterator<LeaveRequests> {
+
+	/** Whether a row was read by {@link #advance()} and not yet returned by {@link #next()}. */
+	private boolean pending;
+	private boolean exhausted;
+
+	/**
+	 * @param format       the body format
+	 * @param in           the request body
+	 * @param objectMapper the application's JSON mapper, used for NDJSON
+	 * @return a reader for the given format
+	 * @throws MyCustomExceptionClass if a CSV header lacks a required column
+	 */
+	static LeaveRequestImportReader create(LeaveRequestFormat format, InputStream in, ObjectMapper objectMapper) {
+		Reader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+		return format == LeaveRequestFormat.CSV ? new Csv(reader) : new Ndjson(reader, objectMapper);
+	}
+
+	/**
+	 * Reads the next raw row.
+	 *
+	 * @return {@code true} if a row was read
+	 * @throws IOException if the body cannot be read
+	 */
+	abstract boolean advance() throws IOException;
+
+	/**
+	 * Converts the row read by the last {@link #advance()}.
+	 *
+	 * @return the leave request
+	 * @throws IllegalArgumentException if the row is malformed
+	 */
+	abstract LeaveRequests convert();
+
+	@Override
+	public final boolean hasNext() {
+		if (!pending && !exhausted) {
+			try {
+				pending = advance();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			exhausted = !pending;
+		}
+		return pending;
+	}
+
+	@Override
+	public final LeaveRequests next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		pending = false;
+		return convert();
+	}
+
+	/**
+	 * One JSON document per line; blank lines are skipped.
+	 */
+	private static final class Ndjson extends LeaveRequestImportReader {
+
+		private final BufferedReader reader;
+		private final ObjectReader rowReader;
+		private String line;
+
+		Ndjson(Reader reader, ObjectMapper objectMapper) {
+			this.reader = (BufferedReader) reader;
+			this.rowReader = objectMapper.readerFor(LeaveRequests.class);
+		}
+
+		@Override
+		boolean advance() throws IOException {
+			do {
+				line = reader.readLine();
+			} while (line != null && line.isBlank());
+			return line != null;
+		}
+
+		@Override
+		LeaveRequests convert() {
+			try {
+				return rowReader.readValue(line);
+			} catch (JsonProcessingException e) {
+				throw new IllegalArgumentException("Malformed JSON: " + e.getOriginalMessage());
+			}
+		}
+	}
+
+	/**
+	 * RFC 4180 records: quoted fields may contain commas, doubled quotes and line breaks.
+	 */
+	private static final class Csv extends LeaveRequestImportReader {
+
+		private static final String[] REQUIRED_COLUMNS = { "employee_id", "leave_type", "start_date", "end_date" };
+
+		private final Reader reader;
+		private final Map<String, Integer> columns = new HashMap<>();
+		private final StringBuilder field = new StringBuilder();
+		private List<String> record;
+
+		Csv(Reader reader) {
+			this.reader = reader;
+			try {
+				if (!advance()) {
+					throw new MyCustomExceptionClass("The CSV body is empty, a header row is required.");
+				}
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			for (int i = 0; i < record.size(); i++) {
+				columns.put(record.get(i).trim().toLowerCase(Locale.ROOT), i);
+			}
+			for (String column : REQUIRED_COLUMNS) {
+				if (!columns.containsKey(column)) {
+					throw new MyCustomExceptionClass("The CSV header has no '" + column + "' column.");
+				}
+			}
+		}
+
+		@Override
+		boolean advance() throws IOException {
+			do {
+				record = readRecord();
+			} while (record != null && record.size() == 1 && record.get(0).isBlank());
+			return record != null;
+		}
+
+		@Override
+		LeaveRequests convert() {
+			LeaveRequests leaveRequest = new LeaveRequests();
+			String id = value("id");
+			if (id != null) {
+				leaveRequest.setId(parse("id", id, Long::valueOf));
+			}
+			String employeeId = value("employee_id");
+			if (employeeId != null) {
+				Employees employee = new Employees();
+				employee.setId(parse("employee_id", employeeId, Long::valueOf));
+				leaveRequest.setEmployee(employee);
+			}
+			String leaveType = value("leave_type");
+			if (leaveType != null) {
+				leaveRequest.setLeaveType(parse("leave_type", leaveType, v -> LeaveType.valueOf(v.toUpperCase(Locale.ROOT))));
+			}
+			String startDate = value("start_date");
+			if (startDate != null) {
+				leaveRequest.setStartDate(parse("start_date", startDate, LocalDate::parse));
+			}
+			String endDate = value("end_date");
+			if (endDate != null) {
+				leaveRequest.setEndDate(parse("end_date", endDate, LocalDate::parse));
+			}
+			String status = value("status");
+			if (status != null) {
+				leaveRequest.setLeaveStatus(parse("status", status, v -> LeaveStatus.valueOf(v.toUpperCase(Locale.ROOT))));
+			}
+			leaveRequest.setReason(value("reason"));
+			return leaveRequest;
+		}
+
+		/**
+		 * @return the trimmed value of a column in the current record, or {@code null} if absent or empty
+		 */
+		private String value(String column) {
+			Integer index = columns.get(column);
+			if (index == null || index >= record.size()) {
+				return null;
+			}
+			String value = record.get(index).trim();
+			return value.isEmpty() ? null : value;
+		}
+
+		private static <T> T parse(String column, String value, Function<String, T> parser) {
+			try {
+				return parser.apply(value);
+			} catch (RuntimeException e) {
+				throw new IllegalArgumentException("Invalid " + column + ": '" + value + "'");
+			}
+		}
+
+		/**
+		 * @return the fields of the next record, or {@code null} at the end of the body
+		 */
+		private List<String> readRecord() throws IOException {
+			int c = reader.read();
+			if (c == -1) {
+				return null;
+			}
+			List<String> fields = new ArrayList<>();
+			field.setLength(0);
+			boolean quoted = false;
+			while (true) {
+				if (quoted) {
+					if (c == -1) {
+						// Unterminated quote: end the record here, the row is then rejected by convert().
+						break;
+					}
+					if (c == '"') {
+						reader.mark(1);
+						int following = reader.read();
+						if (following == '"') {
+							field.append('"');
+						} else {
+							quoted = false;
+							reader.reset();
+						}
+					} else {
+						field.append((char) c);
+					}
+				} else if (c == '"' && field.length() == 0) {
+					quoted = true;
+				} else if (c == ',') {
+					fields.add(field.toString());
+					field.setLength(0);
+				} else if (c == '\n' || c == -1) {
+					break;
+				} else if (c == '\r') {
+					reader.mark(1);
+					if (reader.read() != '\n') {
+						reader.reset();
+					}
+					break;
+				} else {
+					field.append((char) c);
+				}
+				c = reader.read();
+			}
+			fields.add(field.toString());
+			return fields;
+		}
+	}
+}
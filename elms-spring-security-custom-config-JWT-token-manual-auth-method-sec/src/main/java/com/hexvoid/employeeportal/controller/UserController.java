@@ -1,24 +1,19 @@
 package com.hexvoid.employeeportal.controller;
 
-import java.nio.charset.StandardCharsets;
-import java.util.Date;
-import java.util.stream.Collectors;
-
-import javax.crypto.SecretKey;
-
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.env.Environment;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -27,10 +22,14 @@ import com.hexvoid.employeeportal.entity.EmployeeAuthorities;
 import com.hexvoid.employeeportal.entity.EmployeeCredentials;
 import com.hexvoid.employeeportal.entity.LoginRequest;
 import com.hexvoid.employeeportal.entity.LoginResponse;
+import com.hexvoid.employeeportal.entity.RefreshTokenRequest;
+import com.hexvoid.employeeportal.security.EmployeeUserDetailsService;
+import com.hexvoid.employeeportal.security.JWTTokenCodec;
+import com.hexvoid.employeeportal.security.JWTTokenDenylist;
 import com.hexvoid.employeeportal.service.EmployeeSecretServiceImpl;
+import com.hexvoid.employeeportal.service.RefreshTokenService;
 
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.Claims;
 
 /**
  * The {@code UserController} class exposes REST endpoints for handling user authentication, registration, and profile retrieval.
@@ -39,6 +38,8 @@ import io.jsonwebtoken.security.Keys;
  * <ul>
  *   <li>User registration with password encryption and authority mapping.</li>
  *   <li>Authenticating users using JWT token strategy via {@link #customAuthentication(LoginRequest)}.</li>
+ *   <li>Renewing access tokens with a refresh token via {@link #refreshToken(RefreshTokenRequest)}.</li>
+ *   <li>Revoking the current access and refresh token via {@code /api/logout}.</li>
  *   <li>Retrieving authenticated user details via {@link #getEmployeesDetailsAfterLogin(Authentication)}.</li>
  *   <li>Fetching user information by email and supporting admin-level queries.</li>
  * </ul>
@@ -62,19 +63,21 @@ import io.jsonwebtoken.security.Keys;
  * <ul>
  *   <li>The {@link #customAuthentication(LoginRequest)} method generates JWT tokens after successful login.</li>
  *   <li>JWT tokens include user-specific claims such as email and granted authorities.</li>
- *   <li>Tokens are signed using a secret key fetched from application properties to ensure integrity.</li>
+ *   <li>Tokens are signed by the shared {@link JWTTokenCodec}, whose key is derived once at startup.</li>
  * </ul>
  *
  * <p><b>Flow of Authentication and Token Generation:</b></p>
  * <ol>
  *   <li>Users send login credentials to the <code>/api/login</code> endpoint.</li>
  *   <li>The credentials are validated using a custom authentication provider via {@link AuthenticationManager}.</li>
- *   <li>Upon success, a JWT token is generated and:
+ *   <li>Upon success, a short-lived JWT access token is generated and:
  *     <ul>
- *       <li>Returned in the response body.</li>
+ *       <li>Returned in the response body together with a long-lived refresh token.</li>
  *       <li>Also set in the HTTP response header under a custom header key.</li>
  *     </ul>
  *   </li>
+ *   <li>When the access token expires, the client posts the refresh token to <code>/api/token/refresh</code>
+ *       and receives a new access token and a new refresh token, without any password check.</li>
  * </ol>
  */
 
@@ -84,7 +87,10 @@ public class UserController {
 	private final EmployeeSecretServiceImpl employeeSecretService;
 	private final PasswordEncoder passwordEncoder;
 	private final AuthenticationManager authenticationManager;
-	private final Environment environment;
+	private final JWTTokenCodec jwtTokenCodec;
+	private final RefreshTokenService refreshTokenService;
+	private final EmployeeUserDetailsService employeeUserDetailsService;
+	private final JWTTokenDenylist tokenDenylist;
 
 	/**
 	 * Constructs a {@code UserController} with the specified services and components.
@@ -92,16 +98,24 @@ public class UserController {
 	 * @param employeeSecretService the service for employee-related operations
 	 * @param passwordEncoder       the encoder for password encryption
 	 * @param authenticationManager the authentication manager for login handling
-	 * @param environment           the environment for fetching application properties
+	 * @param jwtTokenCodec         the shared codec used to sign issued JWT tokens
+	 * @param refreshTokenService   the service issuing and rotating refresh tokens
+	 * @param employeeUserDetailsService the service used to reload authorities on refresh
+	 * @param tokenDenylist         the revocation list used by {@code /api/logout}
 	 */
 
 	@Autowired
 	public UserController(EmployeeSecretServiceImpl employeeSecretService, PasswordEncoder passwordEncoder
-			,AuthenticationManager authenticationManager ,Environment environment) {
+			,AuthenticationManager authenticationManager ,JWTTokenCodec jwtTokenCodec
+			,RefreshTokenService refreshTokenService ,EmployeeUserDetailsService employeeUserDetailsService
+			,JWTTokenDenylist tokenDenylist) {
 		this.employeeSecretService = employeeSecretService;
 		this.passwordEncoder = passwordEncoder;
 		this.authenticationManager=authenticationManager;
-		this.environment=environment;
+		this.jwtTokenCodec=jwtTokenCodec;
+		this.refreshTokenService=refreshTokenService;
+		this.employeeUserDetailsService=employeeUserDetailsService;
+		this.tokenDenylist=tokenDenylist;
 	}
 
 	/**
@@ -252,14 +266,15 @@ public class UserController {
 	 * <p>If authentication is successful:
 	 * <ul>
 	 *   <li>Generates a JWT token with claims including email and authorities.</li>
-	 *   <li>Signs the token using a secret key fetched from application properties.</li>
+	 *   <li>Signs the token with the key held by {@link JWTTokenCodec}.</li>
 	 *   <li>Sets the JWT token in both the response body and HTTP headers.</li>
+	 *   <li>Issues a refresh token for {@code /api/token/refresh}.</li>
 	 * </ul>
 	 *
 	 * <p>Record Classes:
 	 * <ul>
 	 *   <li>{@code LoginRequest} – A record holding login input (username, password).</li>
-	 *   <li>{@code LoginResponse} – A record holding response status and generated JWT.</li>
+	 *   <li>{@code LoginResponse} – A record holding response status, generated JWT and refresh token.</li>
 	 * </ul>
 	 *
 	 * @param loginRequest the incoming login credentials
@@ -268,6 +283,7 @@ public class UserController {
 	@PostMapping("/api/login")
 	ResponseEntity<LoginResponse> customAuthentication(@RequestBody LoginRequest loginRequest) {
 		String jwt = null;
+		String refreshToken = null;
 
 		// Create unauthenticated authentication token using username and password
 		Authentication authentication = UsernamePasswordAuthenticationToken.unauthenticated(
@@ -278,35 +294,75 @@ public class UserController {
 
 		// On successful authentication, generate JWT token
 		if (authenticationResponse != null && authenticationResponse.isAuthenticated()) {
-			if (environment != null) {
-				String secret = environment.getProperty(
-						ApplicationConstants.JWT_SECRET_KEY,
-						ApplicationConstants.JWT_DEFAULT_SECRET_VALUE);
-
-				System.out.println("JWT Secret Key For Debug: " + secret);
-
-				SecretKey secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
-
-				jwt = Jwts.builder()
-						.issuer("Hex Void")
-						.subject("JWT Token")
-						.claim("email", authenticationResponse.getName())
-						.claim("authorities", authenticationResponse.getAuthorities().stream()
-								.map(grantedAuthority -> grantedAuthority.getAuthority())
-								.collect(Collectors.joining(",")))
-						.issuedAt(new Date())
-						.expiration(new Date(System.currentTimeMillis() + 1000 * 60 * 60 * 24)) // 24 hrs
-						.signWith(secretKey)
-						.compact();
-			}
+			jwt = jwtTokenCodec.generateToken(authenticationResponse);
+			refreshToken = refreshTokenService.createRefreshToken(authenticationResponse.getName());
 		}
 
+		return tokenResponse(jwt, refreshToken);
+	}
+
+	/**
+	 * <h2>Endpoint: POST /api/token/refresh</h2>
+	 * <p>
+	 * Exchanges a refresh token for a new access token and a new refresh token.
+	 * The presented refresh token is consumed (single-use rotation), so replaying it fails.
+	 * </p>
+	 * <p>
+	 * Unlike {@code /api/login} this never runs the password encoder: the refresh token is checked
+	 * with one primary-key lookup, and the user's current authorities are reloaded so that
+	 * permission changes take effect on the next refresh.
+	 * </p>
+	 *
+	 * @param refreshTokenRequest the refresh token issued by {@code /api/login} or a previous refresh
+	 * @return {@code ResponseEntity<LoginResponse>} containing the new tokens, or 401 if the refresh token is invalid
+	 */
+	@PostMapping("/api/token/refresh")
+	ResponseEntity<LoginResponse> refreshToken(@RequestBody RefreshTokenRequest refreshTokenRequest) {
+		// Throws BadCredentialsException (401) for unknown, expired or already used tokens
+		String email = refreshTokenService.consumeRefreshToken(refreshTokenRequest.refreshToken());
+
+		UserDetails userDetails = employeeUserDetailsService.loadUserByUsername(email);
+		String jwt = jwtTokenCodec.generateToken(userDetails.getUsername(), userDetails.getAuthorities());
+		String refreshToken = refreshTokenService.createRefreshToken(userDetails.getUsername());
+
+		return tokenResponse(jwt, refreshToken);
+	}
+
+	/**
+	 * <h2>Endpoint: POST /api/logout</h2>
+	 * <p>
+	 * Revokes the access token sent in the request header, so it is rejected from now on instead of
+	 * staying valid until it expires. If the body carries the session's refresh token, that token is
+	 * revoked as well, so the session cannot be renewed either; a refresh token issued to another user
+	 * than the access token's {@code email} is left alone.
+	 * </p>
+	 *
+	 * @param jwt                 the access token, already validated by {@code JWTTokenValidatorFilter}
+	 * @param refreshTokenRequest optional refresh token of the same session
+	 * @return 204 No Content
+	 */
+	@PostMapping("/api/logout")
+	ResponseEntity<Void> logout(@RequestHeader(ApplicationConstants.JWT_HEADER_NAME) String jwt,
+			@RequestBody(required = false) RefreshTokenRequest refreshTokenRequest) {
+		// parseClaims rejects tokens without an expiration, so the denylist entry always ends
+		Claims claims = jwtTokenCodec.parseClaims(jwt);
+		tokenDenylist.revoke(claims.getId(), claims.getExpiration().toInstant());
+
+		if (refreshTokenRequest != null) {
+			refreshTokenService.revokeRefreshToken(refreshTokenRequest.refreshToken(),
+					String.valueOf(claims.get("email")));
+		}
+		return ResponseEntity.noContent().build();
+	}
+
+	private ResponseEntity<LoginResponse> tokenResponse(String jwt, String refreshToken) {
 		// Set JWT token in HTTP header
 		HttpHeaders headers = new HttpHeaders();
 		headers.set(ApplicationConstants.JWT_HEADER_NAME, jwt);
 
-		// Create response body with status and token
-		LoginResponse responseBody = new LoginResponse(HttpStatus.OK.getReasonPhrase(), jwt);
+		// Create response body with status and tokens
+		LoginResponse responseBody = new LoginResponse(HttpStatus.OK.getReasonPhrase(), jwt,
+				jwtTokenCodec.getTokenValiditySeconds(), refreshToken);
 
 		return new ResponseEntity<>(responseBody, headers, HttpStatus.OK);
 	}
@@ -0,0 +1,82 @@
+package com.hexvoid.employeeportal.dao;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+
+import javax.cache.CacheManager;
+
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.hexvoid.employeeportal.entity.EmployeeAuthorities;
+import com.hexvoid.employeeportal.entity.EmployeeCredentials;
+import com.hexvoid.employeeportal.entity.Employees;
+
+/**
+ * Creates the JCache regions of the Hibernate second-level cache as bounded Caffeine caches.
+ *
+ * <p>The cache itself is switched on with {@code spring.jpa.properties.hibernate.cache.use_second_level_cache}
+ * (and {@code use_query_cache} for the cached queries). When it is on, every region is created here with at
+ * most {@code employees.second-level-cache.max-size} entries that expire
+ * {@code employees.second-level-cache.ttl} after they were written, and handed to Hibernate as its
+ * {@link CacheManager}. Hibernate is configured to fail on any other region, so an entity annotated
+ * with {@code @Cache} cannot end up in an unbounded cache by accident.
+ *
+ * <p>The expiry bounds how long a change made by another instance stays invisible here, since the
+ * {@code EmployeeCacheEvictionEvent} is only published locally; see {@link EmployeeCacheInvalidator}.
+ */
+@Configuration
+public class EmployeeCacheConfig {
+
+	/** Regions holding entities, collections and query results: bounded and expiring. */
+	static final List<String> BOUNDED_REGIONS = List.of(
+			Employees.CACHE_REGION,
+			EmployeeCredentials.CACHE_REGION,
+			EmployeeCredentials.AUTHORITIES_CACHE_REGION,
+			EmployeeAuthorities.CACHE_REGION,
+			EmployeeCacheInvalidator.EMPLOYEES_BY_NAME_REGION,
+			EmployeeCacheInvalidator.CREDENTIALS_BY_EMAIL_REGION,
+			RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME);
+
+	/**
+	 * Passes the cache manager to Hibernate when the second-level cache is enabled.
+	 *
+	 * @param ttl     how long a cached entry is kept after it was written
+	 * @param maxSize the maximum number of entries per region
+	 * @return the customizer adding {@code hibernate.javax.cache.cache_manager}
+	 */
+	@Bean
+	HibernatePropertiesCustomizer secondLevelCacheManager(
+			@Value("${employees.second-level-cache.ttl:10m}") Duration ttl,
+			@Value("${employees.second-level-cache.max-size:10000}") long maxSize) {
+		return properties -> {
+			if (Boolean.parseBoolean(String.valueOf(properties.get("hibernate.cache.use_second_level_cache")))) {
+				properties.put("hibernate.javax.cache.cache_manager", createCacheManager(ttl, maxSize));
+			}
+		};
+	}
+
+	/**
+	 * Hibernate closes the returned manager when the session factory is closed.
+	 */
+	static CacheManager createCacheManager(Duration ttl, long maxSize) {
+		// A provider of its own, so the regions never clash with another application context in the same JVM.
+		CacheManager cacheManager = new CaffeineCachingProvider().getCacheManager();
+		for (String region : BOUNDED_REGIONS) {
+			CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+			configuration.setMaximumSize(OptionalLong.of(maxSize));
+			configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+			cacheManager.createCache(region, configuration);
+		}
+		// The last change time of each table, checked before a cached query result is used: never evicted.
+		cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+				new CaffeineConfiguration<>());
+		return cacheManager;
+	}
+}
@@ -0,0 +1,113 @@
+package com.hexvoid.employeeportal.dao;
+
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import com.hexvoid.employeeportal.cache.CacheSupport;
+import com.hexvoid.employeeportal.entity.EmployeeAuthorities;
+import com.hexvoid.employeeportal.entity.EmployeeCredentials;
+import com.hexvoid.employeeportal.entity.Employees;
+import com.hexvoid.employeeportal.events.EmployeeCacheEvictionEvent;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Invalidation hook of the Hibernate second-level cache of employees and credentials.
+ *
+ * <p>Hibernate keeps the cache of its own instance coherent: saves, merges, deletes and bulk
+ * JPQL updates evict or replace the affected entries and invalidate the cached queries of the
+ * changed tables. Other instances do not see those changes: their entries are only refreshed when
+ * they expire ({@code employees.second-level-cache.ttl}).
+ *
+ * <p>The services still report every change here, and it is published as a local
+ * {@link EmployeeCacheEvictionEvent} once the transaction commits. Nothing in this application
+ * listens for it; it is the hook a transport between instances would use, with {@link #evict} on the
+ * receiving side.
+ *
+ * <p>Nothing is published while the second-level cache is disabled.
+ */
+@Component
+public class EmployeeCacheInvalidator {
+
+	/** Query cache region of {@link EmployeeDAO#findByName(String)}. */
+	public static final String EMPLOYEES_BY_NAME_REGION = "employees.byName";
+
+	/** Query cache region of {@link EmployeeCredentialsDao#findByEmail(String)}. */
+	public static final String CREDENTIALS_BY_EMAIL_REGION = "employeeCredentials.byEmail";
+
+	private final Cache cache;
+	private final boolean enabled;
+	private final ApplicationEventPublisher eventPublisher;
+
+	/**
+	 * @param entityManagerFactory the JPA entity manager factory, backed by Hibernate
+	 * @param eventPublisher       publishes the eviction events
+	 */
+	@Autowired
+	public EmployeeCacheInvalidator(EntityManagerFactory entityManagerFactory, ApplicationEventPublisher eventPublisher) {
+		SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+		this.cache = sessionFactory.getCache();
+		this.enabled = sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled();
+		this.eventPublisher = eventPublisher;
+	}
+
+	/**
+	 * Reports a changed or deleted employee.
+	 *
+	 * @param id the ID of the employee
+	 */
+	public void employeeChanged(long id) {
+		publishAfterCommit(new EmployeeCacheEvictionEvent(Employees.class, id));
+	}
+
+	/**
+	 * Reports a batch of new employees, naming every cached employee in the published event.
+	 */
+	public void employeesChanged() {
+		publishAfterCommit(new EmployeeCacheEvictionEvent(Employees.class, null));
+	}
+
+	/**
+	 * Reports changed credentials. Credentials are changed by email, so every cached credential is
+	 * evicted; they change rarely enough for that not to matter.
+	 */
+	public void credentialsChanged() {
+		publishAfterCommit(new EmployeeCacheEvictionEvent(EmployeeCredentials.class, null));
+	}
+
+	/**
+	 * Evicts the entries named by an event from this instance's cache. Not called by this application;
+	 * it is the receiving side of a transport between instances.
+	 *
+	 * @param event the event published by the instance that made the change
+	 */
+	public void evict(EmployeeCacheEvictionEvent event) {
+		if (!enabled) {
+			return;
+		}
+		if (event.entityType() == Employees.class) {
+			if (event.id() != null) {
+				cache.evictEntityData(Employees.class, event.id());
+			} else {
+				cache.evictEntityData(Employees.class);
+			}
+			cache.evictQueryRegion(EMPLOYEES_BY_NAME_REGION);
+		} else if (event.entityType() == EmployeeCredentials.class) {
+			cache.evictEntityData(EmployeeCredentials.class);
+			cache.evictEntityData(EmployeeAuthorities.class);
+			cache.evictCollectionData(EmployeeCredentials.class.getName() + ".employeeAuthorities");
+			cache.evictQueryRegion(CREDENTIALS_BY_EMAIL_REGION);
+		} else {
+			throw new IllegalArgumentException("Not an employee cache entity: " + event.entityType());
+		}
+	}
+
+	private void publishAfterCommit(EmployeeCacheEvictionEvent event) {
+		if (enabled) {
+			CacheSupport.afterCommit(() -> eventPublisher.publishEvent(event));
+		}
+	}
+}
@@ -1,9 +1,17 @@
 package com.hexvoid.employeeportal.dao;
 
+import java.util.List;
+
 import com.hexvoid.employeeportal.entity.EmployeeCredentials;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.QueryHint;
 
 /**
  * Repository interface for accessing EmployeeCredentials data from the database.
@@ -18,15 +26,42 @@ public interface EmployeeCredentialsDao extends JpaRepository<EmployeeCredential
 	 * <p>
 	 * The LEFT JOIN FETCH ensures authorities are loaded in the same query to avoid
 	 * LazyInitializationException when accessed outside the persistence context.
+	 * With the query cache enabled, the result is cached in the
+	 * {@value EmployeeCacheInvalidator#CREDENTIALS_BY_EMAIL_REGION} region.
 	 *
 	 * @param email the email of the employee
 	 * @return the EmployeeCredentials entity with roles/authorities loaded
 	 */
 
 	@Query("SELECT ec FROM EmployeeCredentials ec LEFT JOIN FETCH ec.employeeAuthorities WHERE ec.email = :email")
+	@QueryHints({
+			@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+			@QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = EmployeeCacheInvalidator.CREDENTIALS_BY_EMAIL_REGION)
+	})
 	EmployeeCredentials findByEmail(@Param("email") String email);
 
+	/**
+	 * Lists every distinct authority name stored in {@code employee_authorities}.
+	 *
+	 * @return the distinct authority names
+	 */
+	@Query("SELECT DISTINCT ea.authority FROM EmployeeAuthorities ea")
+	List<String> findDistinctAuthorities();
+
 	// save() is inherited from JpaRepository; explicitly redeclared for clarity or documentation.
 	EmployeeCredentials save(EmployeeCredentials employeeCredentials);
+
+	/**
+	 * Replaces the stored password hash of a user with a single UPDATE,
+	 * without loading the entity or its authorities.
+	 *
+	 * @param email    the email of the employee
+	 * @param password the new encoded password
+	 * @return the number of updated rows
+	 */
+	@Transactional
+	@Modifying
+	@Query("UPDATE EmployeeCredentials ec SET ec.password = :password WHERE ec.email = :email")
+	int updatePassword(@Param("email") String email, @Param("password") String password);
 }
 
@@ -1,8 +1,9 @@
 package com.hexvoid.employeeportal.dao;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
-import org.springframework.security.access.prepost.PostAuthorize;
 import org.springframework.security.access.prepost.PreAuthorize;
 
 import com.hexvoid.employeeportal.entity.Employees;
@@ -29,6 +30,41 @@ public interface EmployeeDAO {
 	 */
 	void save(Employees theEmployee);
 
+	/**
+	 * Saves many new employee records in JDBC batches.
+	 *
+	 * Important Notes:
+	 * - The persistence context is flushed and cleared after every batch, so the entities are
+	 *   detached once this returns; their generated IDs are set.
+	 * - Must be called inside a transaction.
+	 *
+	 * @param theEmployees Employee entities to insert; none may have an ID.
+	 */
+	void saveAll(List<Employees> theEmployees);
+
+	/**
+	 * Returns which of the given emails already belong to an employee.
+	 *
+	 * @param emails Emails to look up.
+	 * @return The subset of {@code emails} that already exist.
+	 */
+	Set<String> findExistingEmails(Collection<String> emails);
+
+	/**
+	 * Locks the rows of the given employees until the end of the current transaction.
+	 *
+	 * Important Notes:
+	 * - Uses `SELECT ... FOR UPDATE`, in ascending ID order so that two transactions locking
+	 *   overlapping sets of employees cannot deadlock.
+	 * - Leave writes lock the employee before checking for overlapping leave, so two writes for
+	 *   the same employee run one after the other.
+	 * - Must be called inside a transaction.
+	 *
+	 * @param ids Employee IDs to lock.
+	 * @return The subset of {@code ids} that exist.
+	 */
+	Set<Long> lockByIds(Collection<Long> ids);
+
 	/**
 	 * Retrieves all employees from the database.
 	 * 
@@ -37,13 +73,28 @@ public interface EmployeeDAO {
 	@PreAuthorize("hasAuthority('VIEW')")
 	List<Employees> findAll();
 
+	/**
+	 * Retrieves one keyset page of employees, ordered by ID.
+	 *
+	 * @param afterId only employees with an ID greater than this are returned; {@code 0} for the first page
+	 * @param limit   maximum number of employees to return
+	 * @return up to {@code limit} employees in ascending ID order, possibly empty
+	 */
+	@PreAuthorize("hasAuthority('VIEW')")
+	List<Employees> findPage(long afterId, int limit);
+
 	/**
 	 * Finds an employee by their unique ID.
 	 *
+	 * Important Notes:
+	 * - The rule only depends on the caller's authorities, so it is checked with `@PreAuthorize`:
+	 *   a caller without VIEW is rejected before the entity is queried and loaded.
+	 * - Keep `@PostAuthorize` for rules that need `returnObject`.
+	 *
 	 * @param id Employee ID to search for.
 	 * @return Employee entity if found, otherwise `null`.
 	 */
-	@PostAuthorize("hasAuthority('VIEW')")
+	@PreAuthorize("hasAuthority('VIEW')")
 	Employees findById(int id);
 
 	/**
@@ -59,6 +110,21 @@ public interface EmployeeDAO {
 	 */
 	Employees updateById(Employees employee, int id);
 
+	/**
+	 * Updates only the given fields of an employee with one UPDATE statement, without loading it.
+	 *
+	 * Important Notes:
+	 * - The row is only updated while it still has {@code expectedVersion}; its version is then incremented.
+	 * - Null fields of {@code changes} are left untouched.
+	 * - Must be called inside a transaction.
+	 *
+	 * @param id Employee ID to update.
+	 * @param expectedVersion The version the client read.
+	 * @param changes Holder of the new field values (name, email, department).
+	 * @return The number of updated rows, 0 if the employee does not exist or has another version.
+	 */
+	int updateFields(int id, long expectedVersion, Employees changes);
+
 	/**
 	 * Deletes an employee record based on the given ID.
 	 *
@@ -1,15 +1,23 @@
 package com.hexvoid.employeeportal.dao;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
 import com.hexvoid.employeeportal.entity.Employees;
 import com.hexvoid.employeeportal.exceptionhandler.MyCustomExceptionClass;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import jakarta.persistence.NoResultException;
+import jakarta.persistence.Query;
 import jakarta.persistence.TypedQuery;
 
 /**
@@ -25,6 +33,9 @@ import jakarta.persistence.TypedQuery;
 @Repository
 public class EmployeeDaoImpl implements EmployeeDAO {
 
+	/** Maximum number of values bound to one {@code IN} list. */
+	private static final int IN_LIST_CHUNK_SIZE = 1000;
+
 	/**
 	 * EntityManager is responsible for handling database operations in JPA.
 	 * It allows us to perform CRUD (Create, Read, Update, Delete) operations.
@@ -36,15 +47,24 @@ public class EmployeeDaoImpl implements EmployeeDAO {
 	 */
 	private final EntityManager entityManager;
 
+	/**
+	 * Number of rows per JDBC batch in {@link #saveAll(List)}, kept equal to
+	 * {@code hibernate.jdbc.batch_size} so each flush sends exactly one batch.
+	 */
+	private final int batchSize;
+
 	/**
 	 * Constructor-based Dependency Injection for EntityManager.
 	 * Spring Boot automatically injects the required bean at runtime.
 	 *
 	 * @param entityManager The JPA EntityManager that interacts with the database.
+	 * @param batchSize     The configured Hibernate JDBC batch size.
 	 */
 	@Autowired
-	public EmployeeDaoImpl(EntityManager entityManager) {
+	public EmployeeDaoImpl(EntityManager entityManager,
+			@Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
 		this.entityManager = entityManager;
+		this.batchSize = Math.max(1, batchSize);
 	}
 
 	/**
@@ -61,6 +81,74 @@ public class EmployeeDaoImpl implements EmployeeDAO {
 		entityManager.persist(theEmployee);  // Inserts the employee object into the database
 	}
 
+	/**
+	 * Saves many new employees with batched INSERTs.
+	 *
+	 * persist() only assigns the ID from the pooled sequence; the INSERTs are queued until the
+	 * flush, which sends them as one JDBC batch. clear() then drops the inserted entities so the
+	 * persistence context, and the dirty checking done at each flush, never grows past one batch.
+	 *
+	 * @param theEmployees Employee entities to insert.
+	 */
+	@Override
+	public void saveAll(List<Employees> theEmployees) {
+		for (int i = 0; i < theEmployees.size(); i++) {
+			entityManager.persist(theEmployees.get(i));
+			if ((i + 1) % batchSize == 0) {
+				entityManager.flush();
+				entityManager.clear();
+			}
+		}
+		entityManager.flush();
+		entityManager.clear();
+	}
+
+	/**
+	 * Looks up existing emails with one IN query per batch of emails.
+	 *
+	 * @param emails Emails to look up.
+	 * @return The emails that already exist.
+	 */
+	@Override
+	public Set<String> findExistingEmails(Collection<String> emails) {
+		return findExisting("select e.email from Employees e where e.email in :values", String.class, emails);
+	}
+
+	/**
+	 * Locks the employee rows with one {@code SELECT ... FOR UPDATE} per batch of IDs. The IDs are
+	 * sorted first, so the rows are always locked in the same order.
+	 *
+	 * @param ids Employee IDs to lock.
+	 * @return The IDs that exist.
+	 */
+	@Override
+	public Set<Long> lockByIds(Collection<Long> ids) {
+		Set<Long> existing = new HashSet<>();
+		List<Long> sorted = ids.stream().distinct().sorted().toList();
+		for (int from = 0; from < sorted.size(); from += IN_LIST_CHUNK_SIZE) {
+			existing.addAll(entityManager.createQuery(
+					"select e.id from Employees e where e.id in :ids order by e.id", Long.class)
+					.setParameter("ids", sorted.subList(from, Math.min(from + IN_LIST_CHUNK_SIZE, sorted.size())))
+					.setLockMode(LockModeType.PESSIMISTIC_WRITE)
+					.getResultList());
+		}
+		return existing;
+	}
+
+	/**
+	 * Runs an {@code IN :values} query in chunks of {@value #IN_LIST_CHUNK_SIZE} values.
+	 */
+	private <T> Set<T> findExisting(String jpql, Class<T> type, Collection<T> values) {
+		Set<T> existing = new HashSet<>();
+		List<T> all = new ArrayList<>(values);
+		for (int from = 0; from < all.size(); from += IN_LIST_CHUNK_SIZE) {
+			existing.addAll(entityManager.createQuery(jpql, type)
+					.setParameter("values", all.subList(from, Math.min(from + IN_LIST_CHUNK_SIZE, all.size())))
+					.getResultList());
+		}
+		return existing;
+	}
+
 	/**
 	 * Retrieves all employees from the database.
 	 *
@@ -82,6 +170,26 @@ public class EmployeeDaoImpl implements EmployeeDAO {
 		return employeesList;
 	}
 
+	/**
+	 * Retrieves one keyset page of employees.
+	 *
+	 * Unlike {@link #findAll()}, this reads only {@code limit} rows through the primary key index
+	 * ({@code WHERE id > :afterId ORDER BY id}), so the cost does not grow with the table or with the page number.
+	 * An empty result is a normal last page, not an error.
+	 *
+	 * @param afterId Cursor: the last ID of the previous page, or 0 for the first page.
+	 * @param limit Maximum number of rows to return.
+	 * @return Employees with an ID greater than {@code afterId}, in ascending ID order.
+	 */
+	@Override
+	public List<Employees> findPage(long afterId, int limit) {
+		return entityManager.createQuery(
+				"select e from Employees e where e.id > :afterId order by e.id", Employees.class)
+				.setParameter("afterId", afterId)
+				.setMaxResults(limit)
+				.getResultList();
+	}
+
 	/**
 	 * Finds an employee based on the given ID.
 	 *
@@ -117,6 +225,46 @@ public class EmployeeDaoImpl implements EmployeeDAO {
 		return entityManager.merge(theEmployee);
 	}
 
+	/**
+	 * Updates only the non-null fields of an employee with one conditional UPDATE, without loading it.
+	 *
+	 * The WHERE clause matches the ID and the expected version, so a row changed by another
+	 * transaction since the client read it is simply not updated. The version is incremented
+	 * explicitly because {@code @Version} is not maintained for JPQL bulk updates.
+	 *
+	 * @param id              Employee ID to update.
+	 * @param expectedVersion The version the row must still have.
+	 * @param changes         Holder of the new name, email and department.
+	 * @return The number of updated rows.
+	 */
+	@Override
+	public int updateFields(int id, long expectedVersion, Employees changes) {
+		StringBuilder jpql = new StringBuilder("update Employees e set e.version = e.version + 1");
+		if (changes.getName() != null) {
+			jpql.append(", e.name = :name");
+		}
+		if (changes.getEmail() != null) {
+			jpql.append(", e.email = :email");
+		}
+		if (changes.getDepartment() != null) {
+			jpql.append(", e.department = :department");
+		}
+		jpql.append(" where e.id = :id and e.version = :version");
+		Query update = entityManager.createQuery(jpql.toString())
+				.setParameter("id", (long) id)
+				.setParameter("version", expectedVersion);
+		if (changes.getName() != null) {
+			update.setParameter("name", changes.getName());
+		}
+		if (changes.getEmail() != null) {
+			update.setParameter("email", changes.getEmail());
+		}
+		if (changes.getDepartment() != null) {
+			update.setParameter("department", changes.getDepartment());
+		}
+		return update.executeUpdate();
+	}
+
 	/**
 	 * Deletes an employee by ID.
 	 *
@@ -141,6 +289,8 @@ public class EmployeeDaoImpl implements EmployeeDAO {
 	 * Uses a JPQL query to search for employees by name.
 	 * - `getSingleResult()` is used because we expect a unique employee.
 	 * - If no result is found, a `NoResultException` is thrown and handled appropriately.
+	 * - The query is cacheable: with the query cache enabled, repeated lookups of the same name
+	 *   are answered from the {@value EmployeeCacheInvalidator#EMPLOYEES_BY_NAME_REGION} region.
 	 *
 	 * Spring Security & Exception Handling:
 	 * - This method’s endpoint is configured with `permitAll()`, making it accessible without authentication.
@@ -164,6 +314,8 @@ public class EmployeeDaoImpl implements EmployeeDAO {
 				"select r from Employees r where r.name =:name", Employees.class
 				);
 		empByName.setParameter("name", name);
+		empByName.setHint(HibernateHints.HINT_CACHEABLE, true);
+		empByName.setHint(HibernateHints.HINT_CACHE_REGION, EmployeeCacheInvalidator.EMPLOYEES_BY_NAME_REGION);
 		Employees employeeName;
 
 		try {
@@ -0,0 +1,100 @@
+package com.hexvoid.employeeportal.dao;
+
+import java.util.List;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.generator.Generator;
+import org.hibernate.id.enhanced.DatabaseStructure;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hexvoid.employeeportal.entity.Employees;
+import com.hexvoid.employeeportal.entity.LeaveRequests;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Startup check of the pooled ID generators of {@link Employees} and {@link LeaveRequests}.
+ *
+ * <p>Both entities take their IDs from a pooled generator so that inserts can be batched. On MySQL,
+ * which has no sequences, the generator is a one-row table ({@code employees_seq},
+ * {@code leave_requests_seq}) holding the next value. A database whose rows were inserted with
+ * AUTO_INCREMENT before the switch still has that table at its initial value, and the generator
+ * would hand out IDs that are already taken.
+ *
+ * <p>The pooled optimizer uses the IDs from {@code next_val - allocationSize + 1} up to the
+ * {@code next_val} it reads, so before the application serves requests each table is moved to at
+ * least {@code MAX(id) + allocationSize}. The update only ever raises the value, so it is a no-op on
+ * aligned databases and safe when several instances start together. Generators backed by a real
+ * database sequence are left alone: the application never filled those tables with AUTO_INCREMENT.
+ */
+@Component
+public class IdGeneratorAlignment implements SmartInitializingSingleton {
+
+	private static final Logger logger = LoggerFactory.getLogger(IdGeneratorAlignment.class);
+
+	/** Entities whose IDs come from a pooled generator. */
+	static final List<Class<?>> ENTITIES = List.of(Employees.class, LeaveRequests.class);
+
+	/** Column of the generator table holding the next value (Hibernate's default name). */
+	private static final String VALUE_COLUMN = "next_val";
+
+	private final EntityManager entityManager;
+	private final TransactionTemplate transactionTemplate;
+
+	/**
+	 * @param entityManager      the shared JPA entity manager, backed by Hibernate
+	 * @param transactionManager runs each alignment in its own transaction
+	 */
+	public IdGeneratorAlignment(EntityManager entityManager, PlatformTransactionManager transactionManager) {
+		this.entityManager = entityManager;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		SessionFactoryImplementor sessionFactory =
+				entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class);
+		for (Class<?> entity : ENTITIES) {
+			Generator generator = sessionFactory.getMappingMetamodel().getEntityDescriptor(entity).getGenerator();
+			if (generator instanceof SequenceStyleGenerator sequenceStyle
+					&& !sequenceStyle.getDatabaseStructure().isPhysicalSequence()) {
+				DatabaseStructure structure = sequenceStyle.getDatabaseStructure();
+				transactionTemplate.executeWithoutResult(status ->
+						align(entity, structure.getPhysicalName().render(), structure.getIncrementSize()));
+			}
+		}
+	}
+
+	/**
+	 * Raises the generator table of one entity past its highest ID. Must be called inside a transaction.
+	 *
+	 * @param entity        the entity using the generator
+	 * @param table         the generator table
+	 * @param incrementSize the allocation size of the generator
+	 * @return the number of updated rows, 0 if the generator was already aligned
+	 */
+	int align(Class<?> entity, String table, int incrementSize) {
+		long maxId = entityManager
+				.createQuery("SELECT COALESCE(MAX(e.id), 0) FROM " + entity.getSimpleName() + " e", Long.class)
+				.getSingleResult();
+		if (maxId == 0) {
+			return 0;
+		}
+		long nextValue = maxId + incrementSize;
+		int updated = entityManager
+				.createNativeQuery("UPDATE " + table + " SET " + VALUE_COLUMN + " = :next WHERE " + VALUE_COLUMN + " < :next")
+				.setParameter("next", nextValue)
+				.executeUpdate();
+		if (updated > 0) {
+			logger.warn("Moved ID generator {} to {}, past the highest existing {} ID {}", table, nextValue,
+					entity.getSimpleName(), maxId);
+		}
+		return updated;
+	}
+}
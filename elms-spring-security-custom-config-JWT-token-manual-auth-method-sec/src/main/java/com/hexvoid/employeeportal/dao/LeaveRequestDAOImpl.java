@@ -1,14 +1,31 @@
 package com.hexvoid.employeeportal.dao;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
+import com.hexvoid.employeeportal.entity.Employees;
+import com.hexvoid.employeeportal.entity.LeavePeriod;
+import com.hexvoid.employeeportal.entity.LeaveRequestSearch;
 import com.hexvoid.employeeportal.entity.LeaveRequests;
+import com.hexvoid.employeeportal.entity.LeaveStatus;
 import com.hexvoid.employeeportal.exceptionhandler.MyCustomExceptionClass;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.Query;
 import jakarta.persistence.TypedQuery;
 
 /**
@@ -16,20 +33,67 @@ import jakarta.persistence.TypedQuery;
  * 
  * This class provides the actual database interaction logic using JPA's EntityManager.
  * It follows the DAO pattern and is marked as a Spring Repository component.
+ * 
+ * Every read loads the associated employee in the same statement, so a list of N leave requests
+ * costs one query instead of 1 + N. How it is loaded is chosen with
+ * {@code leave-requests.employee-fetch}:
+ * - {@code fetch-join} (default): the JPQL queries {@code join fetch lr.employee}.
+ * - {@code entity-graph}: the queries stay plain and the {@link LeaveRequests#WITH_EMPLOYEE}
+ *   entity graph is passed as a load graph hint.
+ * Both produce a single select with an inner join; the switch exists to compare them and to
+ * let new queries reuse the graph without rewriting JPQL.
  */
 @Repository  // Marks this class as a Spring repository, making it eligible for component scanning and exception translation.
 public class LeaveRequestDAOImpl implements LeaveRequestDao {
 
+	/** Rows fetched per JDBC round trip, and rows between two persistence context clears, while streaming. */
+	private static final int STREAM_BATCH_SIZE = 500;
+
+	/**
+	 * How the employee association is loaded with the leave requests.
+	 */
+	public enum EmployeeFetch {
+		/** {@code join fetch} in the JPQL query. */
+		FETCH_JOIN,
+		/** The {@link LeaveRequests#WITH_EMPLOYEE} named entity graph as a load graph hint. */
+		ENTITY_GRAPH
+	}
+
 	private final EntityManager entityManagerForLeaveRequest;
+	private final EmployeeFetch employeeFetch;
+	private final int batchSize;
 
 	/**
 	 * Constructor-based dependency injection for EntityManager.
 	 * 
 	 * @param theEntityManager EntityManager instance provided by Spring Boot.
+	 * @param theEmployeeFetch How the employee association is loaded.
+	 * @param theBatchSize The configured Hibernate JDBC batch size, used as flush interval by {@link #saveAll(List)}.
 	 */
 	@Autowired  // Enables automatic injection of the EntityManager dependency.
-	public LeaveRequestDAOImpl(EntityManager theEntityManager) {
+	public LeaveRequestDAOImpl(EntityManager theEntityManager,
+			@Value("${leave-requests.employee-fetch:fetch-join}") EmployeeFetch theEmployeeFetch,
+			@Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int theBatchSize) {
 		this.entityManagerForLeaveRequest = theEntityManager;
+		this.employeeFetch = theEmployeeFetch;
+		this.batchSize = Math.max(1, theBatchSize);
+	}
+
+	/**
+	 * Creates a leave request query that loads the employee in the same statement.
+	 * 
+	 * @param condition Optional JPQL suffix (where / order by) using the alias {@code lr}.
+	 * @return The typed query, with the load graph hint set when using entity graphs.
+	 */
+	private TypedQuery<LeaveRequests> createLeaveQuery(String condition) {
+		if (employeeFetch == EmployeeFetch.FETCH_JOIN) {
+			return entityManagerForLeaveRequest.createQuery(
+					"select lr from LeaveRequests lr join fetch lr.employee " + condition, LeaveRequests.class);
+		}
+		return entityManagerForLeaveRequest
+				.createQuery("select lr from LeaveRequests lr " + condition, LeaveRequests.class)
+				.setHint(SpecHints.HINT_SPEC_LOAD_GRAPH,
+						entityManagerForLeaveRequest.getEntityGraph(LeaveRequests.WITH_EMPLOYEE));
 	}
 
 	/**
@@ -42,6 +106,30 @@ public class LeaveRequestDAOImpl implements LeaveRequestDao {
 		entityManagerForLeaveRequest.persist(theLeaveRequest); // Adds the entity to the persistence context.
 	}
 
+	/**
+	 * Persists many leave requests with batched INSERTs.
+	 * 
+	 * The employee is replaced by a reference built from its ID, which costs no query, and the
+	 * persistence context is flushed as one JDBC batch and cleared every {@code batchSize} rows.
+	 * 
+	 * @param theLeaveRequests The LeaveRequests entities to insert.
+	 */
+	@Override
+	public void saveAll(List<LeaveRequests> theLeaveRequests) {
+		for (int i = 0; i < theLeaveRequests.size(); i++) {
+			LeaveRequests leaveRequest = theLeaveRequests.get(i);
+			leaveRequest.setEmployee(entityManagerForLeaveRequest.getReference(
+					Employees.class, leaveRequest.getEmployee().getId()));
+			entityManagerForLeaveRequest.persist(leaveRequest);
+			if ((i + 1) % batchSize == 0) {
+				entityManagerForLeaveRequest.flush();
+				entityManagerForLeaveRequest.clear();
+			}
+		}
+		entityManagerForLeaveRequest.flush();
+		entityManagerForLeaveRequest.clear();
+	}
+
 	/**
 	 * Retrieves all leave requests from the database.
 	 * 
@@ -50,8 +138,7 @@ public class LeaveRequestDAOImpl implements LeaveRequestDao {
 	 */
 	@Override
 	public List<LeaveRequests> findAll() {
-		TypedQuery<LeaveRequests> allLeaveRequest = entityManagerForLeaveRequest
-				.createQuery("from LeaveRequests", LeaveRequests.class);
+		TypedQuery<LeaveRequests> allLeaveRequest = createLeaveQuery("");
 
 		List<LeaveRequests> leaveRequestList = allLeaveRequest.getResultList();
 
@@ -62,6 +149,162 @@ public class LeaveRequestDAOImpl implements LeaveRequestDao {
 		}
 	}
 
+	/**
+	 * Retrieves one keyset page of leave requests.
+	 * 
+	 * Reads only {@code limit} rows through the primary key index instead of the whole table.
+	 * An empty result is a normal last page, not an error.
+	 * 
+	 * @param afterId The last ID of the previous page, or 0 for the first page.
+	 * @param limit Maximum number of rows to return.
+	 * @return Leave requests with an ID greater than {@code afterId}, in ascending ID order.
+	 */
+	@Override
+	public List<LeaveRequests> findPage(long afterId, int limit) {
+		return createLeaveQuery("where lr.id > :afterId order by lr.id")
+				.setParameter("afterId", afterId)
+				.setMaxResults(limit)
+				.getResultList();
+	}
+
+	/**
+	 * Retrieves one keyset page of matching leave requests.
+	 * 
+	 * Only the given filters are added to the WHERE clause, so each combination is a plain
+	 * equality/range query that the {@code leave_requests} indexes can serve: employee and status
+	 * by {@code (employee_id, status, start_date)}, status alone by {@code (status, start_date)}.
+	 * 
+	 * @param criteria The filters.
+	 * @param afterId The last ID of the previous page, or 0 for the first page.
+	 * @param limit Maximum number of rows to return.
+	 * @return Matching leave requests with an ID greater than {@code afterId}, in ascending ID order.
+	 */
+	@Override
+	public List<LeaveRequests> search(LeaveRequestSearch criteria, long afterId, int limit) {
+		StringBuilder condition = new StringBuilder("where lr.id > :afterId");
+		if (criteria.employeeId() != null) {
+			condition.append(" and lr.employeeId = :employeeId");
+		}
+		if (criteria.status() != null) {
+			condition.append(" and lr.leaveStatus = :status");
+		}
+		if (criteria.to() != null) {
+			condition.append(" and lr.startDate <= :to");
+		}
+		if (criteria.from() != null) {
+			condition.append(" and lr.endDate >= :from");
+		}
+		TypedQuery<LeaveRequests> query = createLeaveQuery(condition.append(" order by lr.id").toString())
+				.setParameter("afterId", afterId)
+				.setMaxResults(limit);
+		if (criteria.employeeId() != null) {
+			query.setParameter("employeeId", criteria.employeeId());
+		}
+		if (criteria.status() != null) {
+			query.setParameter("status", criteria.status());
+		}
+		if (criteria.to() != null) {
+			query.setParameter("to", criteria.to());
+		}
+		if (criteria.from() != null) {
+			query.setParameter("from", criteria.from());
+		}
+		return query.getResultList();
+	}
+
+	/**
+	 * Two periods overlap when each starts before the other ends. The employee's leave is read
+	 * through the {@code (employee_id, end_date, start_date)} index: {@code end_date >= :startDate}
+	 * skips the employee's past leave, which is most of it, and {@code start_date} is checked from
+	 * the index itself. The query stops at the first match.
+	 * 
+	 * @param employeeId The ID of the employee.
+	 * @param startDate The first day of the period.
+	 * @param endDate The last day of the period.
+	 * @param excludedId The ID of a leave request to ignore, or null.
+	 * @return {@code true} if the period overlaps leave that is not rejected.
+	 */
+	@Override
+	public boolean existsOverlapping(long employeeId, LocalDate startDate, LocalDate endDate, Long excludedId) {
+		TypedQuery<Long> query = entityManagerForLeaveRequest.createQuery("select lr.id from LeaveRequests lr"
+				+ " where lr.employeeId = :employeeId and lr.endDate >= :startDate and lr.startDate <= :endDate"
+				+ " and lr.leaveStatus <> :rejected" + (excludedId != null ? " and lr.id <> :excludedId" : ""), Long.class)
+				.setParameter("employeeId", employeeId)
+				.setParameter("startDate", startDate)
+				.setParameter("endDate", endDate)
+				.setParameter("rejected", LeaveStatus.REJECTED);
+		if (excludedId != null) {
+			query.setParameter("excludedId", excludedId);
+		}
+		return !query.setMaxResults(1).getResultList().isEmpty();
+	}
+
+	/**
+	 * Reads only the two date columns, without loading the entities.
+	 * 
+	 * @param employeeId The ID of the employee.
+	 * @return The periods of the employee's leave that is not rejected.
+	 */
+	@Override
+	public List<LeavePeriod> findPeriods(long employeeId) {
+		return entityManagerForLeaveRequest.createQuery("select new com.hexvoid.employeeportal.entity.LeavePeriod("
+				+ "lr.startDate, lr.endDate) from LeaveRequests lr"
+				+ " where lr.employeeId = :employeeId and lr.leaveStatus <> :rejected", LeavePeriod.class)
+				.setParameter("employeeId", employeeId)
+				.setParameter("rejected", LeaveStatus.REJECTED)
+				.getResultList();
+	}
+
+	/**
+	 * Reads only the employee ID and the two date columns, without loading the entities.
+	 * 
+	 * @param employeeIds The IDs of the employees.
+	 * @return The periods of the employees' leave that is not rejected, by employee ID.
+	 */
+	@Override
+	public Map<Long, List<LeavePeriod>> findPeriods(Collection<Long> employeeIds) {
+		Map<Long, List<LeavePeriod>> periods = new HashMap<>();
+		if (employeeIds.isEmpty()) {
+			return periods;
+		}
+		List<Object[]> rows = entityManagerForLeaveRequest.createQuery("select lr.employeeId, lr.startDate, lr.endDate"
+				+ " from LeaveRequests lr where lr.employeeId in :employeeIds and lr.leaveStatus <> :rejected", Object[].class)
+				.setParameter("employeeIds", employeeIds)
+				.setParameter("rejected", LeaveStatus.REJECTED)
+				.getResultList();
+		for (Object[] row : rows) {
+			periods.computeIfAbsent((Long) row[0], id -> new ArrayList<>())
+					.add(new LeavePeriod((LocalDate) row[1], (LocalDate) row[2]));
+		}
+		return periods;
+	}
+
+	/**
+	 * Streams all leave requests through a forward-only Hibernate scroll.
+	 * 
+	 * The employee is loaded with each row so it costs no extra query, the entities are loaded
+	 * read-only so no snapshot is kept for dirty checking, and the persistence context is cleared
+	 * every {@value #STREAM_BATCH_SIZE} rows so already written rows can be garbage collected.
+	 * 
+	 * @param action Receives each leave request.
+	 */
+	@Override
+	public void streamAll(Consumer<LeaveRequests> action) {
+		try (Stream<LeaveRequests> rows = createLeaveQuery("order by lr.id")
+				.setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_BATCH_SIZE)
+				.setHint(HibernateHints.HINT_READ_ONLY, true)
+				.getResultStream()) {
+			int count = 0;
+			Iterator<LeaveRequests> iterator = rows.iterator();
+			while (iterator.hasNext()) {
+				action.accept(iterator.next());
+				if (++count % STREAM_BATCH_SIZE == 0) {
+					entityManagerForLeaveRequest.clear();
+				}
+			}
+		}
+	}
+
 	/**
 	 * Retrieves a leave request from the database using its unique ID.
 	 * If the request is not found, an exception is thrown.
@@ -72,8 +315,18 @@ public class LeaveRequestDAOImpl implements LeaveRequestDao {
 	 */
 	@Override
 	public LeaveRequests findById(int theID) {
-		// Fetch the leave request entity by its ID.
-		LeaveRequests theSingleLeaveRequest = entityManagerForLeaveRequest.find(LeaveRequests.class, theID);
+		// Fetch the leave request entity and its employee by ID in one statement.
+		LeaveRequests theSingleLeaveRequest;
+		if (employeeFetch == EmployeeFetch.FETCH_JOIN) {
+			List<LeaveRequests> found = createLeaveQuery("where lr.id = :id")
+					.setParameter("id", (long) theID)
+					.getResultList();
+			theSingleLeaveRequest = found.isEmpty() ? null : found.get(0);
+		} else {
+			theSingleLeaveRequest = entityManagerForLeaveRequest.find(LeaveRequests.class, (long) theID,
+					Map.of(SpecHints.HINT_SPEC_LOAD_GRAPH,
+							entityManagerForLeaveRequest.getEntityGraph(LeaveRequests.WITH_EMPLOYEE)));
+		}
 
 		// If the leave request does not exist, throw an exception.
 		if (theSingleLeaveRequest == null) {
@@ -105,6 +358,143 @@ public class LeaveRequestDAOImpl implements LeaveRequestDao {
 		return entityManagerForLeaveRequest.merge(theLeaveRequest);
 	}
 
+	/**
+	 * Loads the leave request (with its employee) and the name of the referenced employee
+	 * in a single statement, through a left join on the employee ID. The statement is a
+	 * {@code select ... for update}, so the leave request cannot change until the transaction ends.
+	 * 
+	 * @param id The ID of the leave request.
+	 * @param employeeId The ID of the referenced employee.
+	 * @param employeeName The expected employee name, or null to skip the name check.
+	 * @return The detached leave request.
+	 * @throws MyCustomExceptionClass If the leave request or the employee does not exist, or the name does not match.
+	 */
+	@Override
+	public LeaveRequests findByIdForUpdate(int id, long employeeId, String employeeName) {
+		List<Object[]> rows = entityManagerForLeaveRequest.createQuery(
+				"select lr, e.name from LeaveRequests lr join fetch lr.employee"
+						+ " left join Employees e on e.id = :employeeId where lr.id = :id", Object[].class)
+				.setParameter("employeeId", employeeId)
+				.setParameter("id", (long) id)
+				.setLockMode(LockModeType.PESSIMISTIC_WRITE)
+				.getResultList();
+		if (rows.isEmpty()) {
+			throw new MyCustomExceptionClass("Leave Request ID: " + id + " Not Found");
+		}
+		String referencedName = (String) rows.get(0)[1];
+		if (referencedName == null) {
+			throw new MyCustomExceptionClass("Invalid Employee ID: " + employeeId);
+		}
+		if (employeeName != null && !employeeName.equals(referencedName)) {
+			throw new MyCustomExceptionClass("Employee with name '" + employeeName + "' does not exist.");
+		}
+		LeaveRequests leaveRequest = (LeaveRequests) rows.get(0)[0];
+		entityManagerForLeaveRequest.detach(leaveRequest);
+		return leaveRequest;
+	}
+
+	/**
+	 * Builds an UPDATE that sets only the non-null fields, plus {@code updatedAt} and {@code version},
+	 * which {@code @UpdateTimestamp} and {@code @Version} do not maintain for JPQL bulk updates.
+	 * 
+	 * @param id The ID of the leave request.
+	 * @param expectedVersion The version the row must still have, or null for an unconditional update.
+	 * @param changes Holder of the new field values.
+	 * @return The number of updated rows.
+	 */
+	@Override
+	public int updateFields(int id, Long expectedVersion, LeaveRequests changes) {
+		return updateFields(id, expectedVersion, changes, null);
+	}
+
+	@Override
+	public int updateFields(int id, Long expectedVersion, LeaveRequests changes, LeaveStatus skippedStatus) {
+		StringBuilder jpql = new StringBuilder(
+				"update LeaveRequests lr set lr.updatedAt = current_timestamp, lr.version = lr.version + 1");
+		if (changes.getLeaveType() != null) {
+			jpql.append(", lr.leaveType = :leaveType");
+		}
+		if (changes.getStartDate() != null) {
+			jpql.append(", lr.startDate = :startDate");
+		}
+		if (changes.getEndDate() != null) {
+			jpql.append(", lr.endDate = :endDate");
+		}
+		if (changes.getLeaveStatus() != null) {
+			jpql.append(", lr.leaveStatus = :leaveStatus");
+		}
+		jpql.append(" where lr.id = :id");
+		if (expectedVersion != null) {
+			jpql.append(" and lr.version = :version");
+		}
+		if (skippedStatus != null) {
+			jpql.append(" and lr.leaveStatus <> :skippedStatus");
+		}
+		Query update = entityManagerForLeaveRequest.createQuery(jpql.toString())
+				.setParameter("id", (long) id);
+		if (expectedVersion != null) {
+			update.setParameter("version", expectedVersion);
+		}
+		if (skippedStatus != null) {
+			update.setParameter("skippedStatus", skippedStatus);
+		}
+		if (changes.getLeaveType() != null) {
+			update.setParameter("leaveType", changes.getLeaveType());
+		}
+		if (changes.getStartDate() != null) {
+			update.setParameter("startDate", changes.getStartDate());
+		}
+		if (changes.getEndDate() != null) {
+			update.setParameter("endDate", changes.getEndDate());
+		}
+		if (changes.getLeaveStatus() != null) {
+			update.setParameter("leaveStatus", changes.getLeaveStatus());
+		}
+		return update.executeUpdate();
+	}
+
+	/**
+	 * Locks the rows with {@code select ... for update}, in ascending ID order so that two
+	 * transactions locking overlapping sets of leave requests cannot deadlock. The employee is
+	 * not fetched; its ID can still be read from the uninitialized reference.
+	 * 
+	 * @param ids The IDs of the leave requests.
+	 * @return The detached leave requests that exist, in ascending ID order.
+	 */
+	@Override
+	public List<LeaveRequests> findAllForUpdate(Collection<Long> ids) {
+		if (ids.isEmpty()) {
+			return List.of();
+		}
+		List<LeaveRequests> leaveRequests = entityManagerForLeaveRequest.createQuery(
+				"select lr from LeaveRequests lr where lr.id in :ids order by lr.id", LeaveRequests.class)
+				.setParameter("ids", ids)
+				.setLockMode(LockModeType.PESSIMISTIC_WRITE)
+				.getResultList();
+		leaveRequests.forEach(entityManagerForLeaveRequest::detach);
+		return leaveRequests;
+	}
+
+	/**
+	 * Sets the status with one bulk UPDATE, which also sets {@code updatedAt} and {@code version}
+	 * itself, as {@code @UpdateTimestamp} and {@code @Version} are not applied to JPQL bulk updates.
+	 * 
+	 * @param ids The IDs of the leave requests.
+	 * @param status The new status.
+	 * @return The number of updated rows.
+	 */
+	@Override
+	public int updateStatus(Collection<Long> ids, LeaveStatus status) {
+		if (ids.isEmpty()) {
+			return 0;
+		}
+		return entityManagerForLeaveRequest.createQuery("update LeaveRequests lr set lr.leaveStatus = :status,"
+				+ " lr.updatedAt = current_timestamp, lr.version = lr.version + 1 where lr.id in :ids")
+				.setParameter("status", status)
+				.setParameter("ids", ids)
+				.executeUpdate();
+	}
+
 	/**
 	 * Deletes a leave request by its ID.
 	 * If the leave request is not found, an exception is thrown.
@@ -122,4 +512,18 @@ public class LeaveRequestDAOImpl implements LeaveRequestDao {
 			throw new MyCustomExceptionClass("Leave request with ID: " + id + " does not exist for deletion.");
 		}
 	}
+
+	/**
+	 * Deletes the row with one bulk DELETE. The entity passed in is detached, and removing it
+	 * through the entity manager would select it again first.
+	 * 
+	 * @param leaveRequest The leave request to delete.
+	 * @return The number of deleted rows.
+	 */
+	@Override
+	public int delete(LeaveRequests leaveRequest) {
+		return entityManagerForLeaveRequest.createQuery("delete from LeaveRequests lr where lr.id = :id")
+				.setParameter("id", leaveRequest.getId())
+				.executeUpdate();
+	}
 }
\ No newline at end of file
@@ -1,8 +1,17 @@
 package com.hexvoid.employeeportal.dao;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
+import org.springframework.security.access.prepost.PreAuthorize;
+
+import com.hexvoid.employeeportal.entity.LeavePeriod;
+import com.hexvoid.employeeportal.entity.LeaveRequestSearch;
 import com.hexvoid.employeeportal.entity.LeaveRequests;
+import com.hexvoid.employeeportal.entity.LeaveStatus;
 
 /**
  * LeaveRequestDao interface defines the contract for database operations 
@@ -22,6 +31,15 @@ public interface LeaveRequestDao {
 	 */
 	void save(LeaveRequests theLeaveRequest);
 
+	/**
+	 * Saves many new leave requests in JDBC batches.
+	 * The employees must exist; only their IDs are used.
+	 * The persistence context is cleared afterwards. Must be called inside a transaction.
+	 * 
+	 * @param theLeaveRequests The LeaveRequests entities to insert.
+	 */
+	void saveAll(List<LeaveRequests> theLeaveRequests);
+
 	/**
 	 * Retrieves all leave requests from the database.
 	 * 
@@ -29,6 +47,62 @@ public interface LeaveRequestDao {
 	 */
 	List<LeaveRequests> findAll();
 
+	/**
+	 * Retrieves one keyset page of leave requests, ordered by ID.
+	 * 
+	 * @param afterId Only leave requests with an ID greater than this are returned; 0 for the first page.
+	 * @param limit Maximum number of leave requests to return.
+	 * @return Up to {@code limit} leave requests in ascending ID order, possibly empty.
+	 */
+	List<LeaveRequests> findPage(long afterId, int limit);
+
+	/**
+	 * Retrieves one keyset page of the leave requests matching the given filters, ordered by ID.
+	 * 
+	 * @param criteria The filters; null filters match every leave request.
+	 * @param afterId Only leave requests with an ID greater than this are returned; 0 for the first page.
+	 * @param limit Maximum number of leave requests to return.
+	 * @return Up to {@code limit} matching leave requests in ascending ID order, possibly empty.
+	 */
+	List<LeaveRequests> search(LeaveRequestSearch criteria, long afterId, int limit);
+
+	/**
+	 * Checks whether an employee has leave, other than rejected leave, on any day of the given period.
+	 * 
+	 * @param employeeId The ID of the employee.
+	 * @param startDate The first day of the period.
+	 * @param endDate The last day of the period.
+	 * @param excludedId The ID of a leave request to ignore, e.g. the one being changed, or null.
+	 * @return {@code true} if at least one such leave request overlaps the period.
+	 */
+	boolean existsOverlapping(long employeeId, LocalDate startDate, LocalDate endDate, Long excludedId);
+
+	/**
+	 * Retrieves the periods of all leave of an employee, other than rejected leave.
+	 * 
+	 * @param employeeId The ID of the employee.
+	 * @return The periods, in no particular order.
+	 */
+	List<LeavePeriod> findPeriods(long employeeId);
+
+	/**
+	 * Retrieves the periods of all leave of several employees, other than rejected leave, in one query.
+	 * 
+	 * @param employeeIds The IDs of the employees.
+	 * @return The periods by employee ID; employees without such leave are absent.
+	 */
+	Map<Long, List<LeavePeriod>> findPeriods(Collection<Long> employeeIds);
+
+	/**
+	 * Streams every leave request, with its employee, to {@code action} in ascending ID order.
+	 * Rows are read through a forward-only cursor and never collected into a list, so memory
+	 * use does not grow with the table. Must be called inside a transaction.
+	 * 
+	 * @param action Receives each leave request; it must not keep a reference to it after returning.
+	 */
+	@PreAuthorize("hasAuthority('VIEW')")
+	void streamAll(Consumer<LeaveRequests> action);
+
 	/**
 	 * Finds a specific leave request using its unique ID.
 	 * 
@@ -46,10 +120,78 @@ public interface LeaveRequestDao {
 	 */
 	LeaveRequests updateById(LeaveRequests theLeaveRequest, int id);
 
+	/**
+	 * Loads and locks a leave request with its employee and validates an employee reference, in one query.
+	 * The row stays locked until the end of the transaction. The returned entity is detached,
+	 * so changing it does not write anything.
+	 * 
+	 * @param id The ID of the leave request.
+	 * @param employeeId The ID of the referenced employee, which must exist.
+	 * @param employeeName The name of the referenced employee; if not null it must match.
+	 * @return The detached leave request.
+	 */
+	LeaveRequests findByIdForUpdate(int id, long employeeId, String employeeName);
+
+	/**
+	 * Updates only the given fields of a leave request with one UPDATE statement, without loading it.
+	 * Null fields of {@code changes} are left untouched; {@code updated_at} is always refreshed
+	 * and {@code version} always incremented.
+	 * 
+	 * @param id The ID of the leave request.
+	 * @param expectedVersion If not null, the row is only updated while it still has this version.
+	 * @param changes Holder of the new field values (leave type, dates, status).
+	 * @return The number of updated rows, 0 if the leave request does not exist or has another version.
+	 */
+	int updateFields(int id, Long expectedVersion, LeaveRequests changes);
+
+	/**
+	 * Same as {@link #updateFields(int, Long, LeaveRequests)}, but leaves the row untouched while it
+	 * has {@code skippedStatus}.
+	 * 
+	 * @param id The ID of the leave request.
+	 * @param expectedVersion If not null, the row is only updated while it still has this version.
+	 * @param changes Holder of the new field values (leave type, dates, status).
+	 * @param skippedStatus If not null, the row is only updated while it has another status.
+	 * @return The number of updated rows, 0 if the leave request does not exist, has another version
+	 *         or has {@code skippedStatus}.
+	 */
+	int updateFields(int id, Long expectedVersion, LeaveRequests changes, LeaveStatus skippedStatus);
+
+	/**
+	 * Loads and locks the given leave requests, without their employees, until the end of the transaction.
+	 * The rows are locked in ascending ID order and the returned entities are detached.
+	 * Must be called inside a transaction.
+	 * 
+	 * @param ids The IDs of the leave requests.
+	 * @return The leave requests that exist, in ascending ID order.
+	 */
+	List<LeaveRequests> findAllForUpdate(Collection<Long> ids);
+
+	/**
+	 * Sets the status of many leave requests with one UPDATE statement, without loading them.
+	 * Their {@code updated_at} is refreshed and their {@code version} incremented.
+	 * Must be called inside a transaction.
+	 * 
+	 * @param ids The IDs of the leave requests, usually locked with {@link #findAllForUpdate(Collection)}.
+	 * @param status The new status.
+	 * @return The number of updated rows.
+	 */
+	int updateStatus(Collection<Long> ids, LeaveStatus status);
+
 	/**
 	 * Deletes a leave request using its unique ID.
 	 * 
 	 * @param id The ID of the leave request to delete.
 	 */
 	void deleteById(int id);
+
+	/**
+	 * Deletes a leave request already loaded in this transaction, usually locked with
+	 * {@link #findAllForUpdate(Collection)}, without loading it again.
+	 * Must be called inside a transaction.
+	 * 
+	 * @param leaveRequest The leave request to delete; only its ID is used.
+	 * @return The number of deleted rows.
+	 */
+	int delete(LeaveRequests leaveRequest);
 }
\ No newline at end of file
@@ -0,0 +1,126 @@
+package com.hexvoid.employeeportal.dao;
+
+import java.time.Duration;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Sends read-only transactions to a replica database and everything else to the primary.
+ *
+ * <p>The application {@link DataSource} is a {@link LazyConnectionDataSourceProxy}: it only fetches a
+ * physical connection at the first statement, once the transaction manager has flagged the
+ * connection as read-only for {@code @Transactional(readOnly = true)}. Read-only connections come
+ * from the replica pool, all others (writes, and reads outside a transaction) from the primary pool.
+ * A user who committed a write within {@code datasource.replica.read-your-writes-window} keeps
+ * reading from the primary (see {@link ReadYourWritesTracker}).
+ *
+ * <p>Enabled with {@code datasource.replica.enabled=true}, which requires
+ * {@code spring.jpa.open-in-view=false}: an entity manager held open for the whole request keeps the
+ * first connection it got, so a write after a read-only call would reach the replica.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+	/**
+	 * @param openInView {@code spring.jpa.open-in-view}, which must be false
+	 */
+	public ReadReplicaConfig(@Value("${spring.jpa.open-in-view:true}") boolean openInView) {
+		if (openInView) {
+			throw new IllegalStateException(
+					"datasource.replica.enabled=true requires spring.jpa.open-in-view=false");
+		}
+	}
+
+	/**
+	 * @param properties the {@code spring.datasource.*} settings
+	 * @return the pool of the primary database, configured by {@code spring.datasource.hikari.*}
+	 */
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	HikariDataSource primaryDataSource(DataSourceProperties properties) {
+		HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+		primary.setPoolName("primary");
+		return primary;
+	}
+
+	/**
+	 * @param url      the JDBC URL of the replica
+	 * @param username the replica user, read-only access is enough
+	 * @param password the replica password
+	 * @return the pool of the replica database, configured by {@code datasource.replica.hikari.*}
+	 */
+	@Bean
+	@ConfigurationProperties("datasource.replica.hikari")
+	HikariDataSource replicaDataSource(@Value("${datasource.replica.url}") String url,
+			@Value("${datasource.replica.username:}") String username,
+			@Value("${datasource.replica.password:}") String password) {
+		HikariDataSource replica = DataSourceBuilder.create().type(HikariDataSource.class)
+				.url(url).username(username).password(password).build();
+		replica.setPoolName("replica");
+		replica.setReadOnly(true);
+		return replica;
+	}
+
+	/**
+	 * @param window  how long a user's reads stay on the primary after a committed write
+	 * @param maxSize the maximum number of users tracked at once
+	 * @return the tracker, registered with the transaction manager by Spring Boot
+	 */
+	@Bean
+	ReadYourWritesTracker readYourWritesTracker(
+			@Value("${datasource.replica.read-your-writes-window:5s}") Duration window,
+			@Value("${datasource.replica.read-your-writes-max-users:10000}") long maxSize) {
+		return new ReadYourWritesTracker(window, maxSize);
+	}
+
+	/**
+	 * @param primary the primary pool
+	 * @param replica the replica pool
+	 * @param tracker decides whether a read-only connection must still come from the primary
+	 * @return the routing data source used by JPA and JDBC
+	 */
+	@Bean
+	@Primary
+	DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+			@Qualifier("replicaDataSource") DataSource replica, ReadYourWritesTracker tracker) {
+		LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+		dataSource.setReadOnlyDataSource(new ReplicaRoutingDataSource(primary, replica, tracker));
+		return dataSource;
+	}
+
+	/**
+	 * Picks the pool of a read-only connection: the replica, unless the current user wrote recently.
+	 */
+	static final class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+		private final ReadYourWritesTracker tracker;
+
+		ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReadYourWritesTracker tracker) {
+			this.tracker = tracker;
+			setTargetDataSources(Map.of("primary", primary, "replica", replica));
+			setDefaultTargetDataSource(replica);
+			afterPropertiesSet();
+		}
+
+		@Override
+		protected Object determineCurrentLookupKey() {
+			return tracker.mustReadFromPrimary() ? "primary" : "replica";
+		}
+	}
+}
@@ -0,0 +1,64 @@
+package com.hexvoid.employeeportal.dao;
+
+import java.time.Duration;
+
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Remembers which users committed a write recently, so that their read-only transactions use the
+ * primary instead of a replica that may not have replayed the write yet.
+ *
+ * <p>Registered as a {@link TransactionExecutionListener}: every committed read-write transaction
+ * marks the authenticated user for {@code datasource.replica.read-your-writes-window}. The window
+ * should exceed the usual replica lag; a write only becomes visible to other users once the
+ * replica has caught up.
+ */
+public class ReadYourWritesTracker implements TransactionExecutionListener {
+
+	private final Cache<String, Boolean> recentWriters;
+
+	/**
+	 * @param window  how long a user's reads stay on the primary after a write
+	 * @param maxSize the maximum number of users tracked at once
+	 */
+	public ReadYourWritesTracker(Duration window, long maxSize) {
+		this.recentWriters = Caffeine.newBuilder()
+				.expireAfterWrite(window)
+				.maximumSize(maxSize)
+				.build();
+	}
+
+	@Override
+	public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+		if (commitFailure == null && transaction.isNewTransaction() && !transaction.isReadOnly()) {
+			String username = currentUsername();
+			if (username != null) {
+				recentWriters.put(username, Boolean.TRUE);
+			}
+		}
+	}
+
+	/**
+	 * @return {@code true} if the current user committed a write within the window
+	 */
+	public boolean mustReadFromPrimary() {
+		String username = currentUsername();
+		return username != null && recentWriters.getIfPresent(username) != null;
+	}
+
+	private static String currentUsername() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication == null || !authentication.isAuthenticated()
+				|| authentication instanceof AnonymousAuthenticationToken) {
+			return null;
+		}
+		return authentication.getName();
+	}
+}
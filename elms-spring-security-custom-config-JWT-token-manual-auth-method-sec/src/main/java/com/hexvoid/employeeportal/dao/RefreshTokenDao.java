@@ -0,0 +1,61 @@
+package com.hexvoid.employeeportal.dao;
+
+import java.time.Instant;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.hexvoid.employeeportal.entity.RefreshToken;
+
+/**
+ * Repository for {@link RefreshToken} rows, keyed by the token digest.
+ */
+public interface RefreshTokenDao extends JpaRepository<RefreshToken, String> {
+
+	/**
+	 * Deletes a token by its digest. Used to consume a token during rotation: only the caller
+	 * that actually removed the row (result {@code 1}) may issue a successor, so two concurrent
+	 * refreshes with the same token cannot both succeed.
+	 *
+	 * @param tokenHash the token digest
+	 * @return the number of deleted rows, {@code 0} or {@code 1}
+	 */
+	@Modifying
+	@Query("DELETE FROM RefreshToken rt WHERE rt.tokenHash = :tokenHash")
+	int deleteByTokenHash(@Param("tokenHash") String tokenHash);
+
+	/**
+	 * Deletes a token by its digest, but only if it was issued to the given user. Used on logout,
+	 * so a caller cannot revoke another user's session with a token it obtained.
+	 *
+	 * @param tokenHash the token digest
+	 * @param email     the user the token must belong to
+	 * @return the number of deleted rows, {@code 0} or {@code 1}
+	 */
+	@Modifying
+	@Query("DELETE FROM RefreshToken rt WHERE rt.tokenHash = :tokenHash AND rt.email = :email")
+	int deleteByTokenHashAndEmail(@Param("tokenHash") String tokenHash, @Param("email") String email);
+
+	/**
+	 * Deletes every token issued to a user, ending all of their sessions once the access tokens expire.
+	 * Used when the user's password changes.
+	 *
+	 * @param email the user's email
+	 * @return the number of deleted rows
+	 */
+	@Modifying
+	@Query("DELETE FROM RefreshToken rt WHERE rt.email = :email")
+	int deleteByEmail(@Param("email") String email);
+
+	/**
+	 * Removes every token that expired before the given instant.
+	 *
+	 * @param now the current time
+	 * @return the number of deleted rows
+	 */
+	@Modifying
+	@Query("DELETE FROM RefreshToken rt WHERE rt.expiresAt <= :now")
+	int deleteExpired(@Param("now") Instant now);
+}
@@ -0,0 +1,42 @@
+package com.hexvoid.employeeportal.dao;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.hexvoid.employeeportal.entity.RevokedToken;
+
+/**
+ * Repository for {@link RevokedToken} rows, keyed by the {@code jti} claim.
+ */
+public interface RevokedTokenDao extends JpaRepository<RevokedToken, String> {
+
+	/**
+	 * @param tokenId the {@code jti} claim
+	 * @param now     the current time
+	 * @return {@code true} if the token is revoked and not yet expired
+	 */
+	@Query("SELECT COUNT(rt) > 0 FROM RevokedToken rt WHERE rt.tokenId = :tokenId AND rt.expiresAt > :now")
+	boolean existsActive(@Param("tokenId") String tokenId, @Param("now") Instant now);
+
+	/**
+	 * @param now the current time
+	 * @return the ids of all revocations that have not yet expired
+	 */
+	@Query("SELECT rt.tokenId FROM RevokedToken rt WHERE rt.expiresAt > :now")
+	List<String> findActiveTokenIds(@Param("now") Instant now);
+
+	/**
+	 * Removes every revocation whose token expired before the given instant.
+	 *
+	 * @param now the current time
+	 * @return the number of deleted rows
+	 */
+	@Modifying
+	@Query("DELETE FROM RevokedToken rt WHERE rt.expiresAt <= :now")
+	int deleteExpired(@Param("now") Instant now);
+}
@@ -0,0 +1,54 @@
+package com.hexvoid.employeeportal.entity;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk insert: how many rows were stored or rejected, and why.
+ *
+ * <p>Each row is validated on its own, so one bad row does not fail the whole request; it is
+ * reported here with the reason instead.
+ *
+ * @param accepted number of rows stored
+ * @param rejected number of rows not stored
+ * @param rows     per-row outcomes, in input order; streaming imports list only the rejected rows
+ */
+public record BulkInsertResult(int accepted, int rejected, List<Row> rows) {
+
+	public BulkInsertResult {
+		rows = List.copyOf(rows);
+	}
+
+	/**
+	 * Builds the result from per-row outcomes.
+	 *
+	 * @param rows per-row outcomes, in input order
+	 * @return the result with the accepted and rejected counts
+	 */
+	public static BulkInsertResult of(List<Row> rows) {
+		int accepted = (int) rows.stream().filter(Row::isAccepted).count();
+		return new BulkInsertResult(accepted, rows.size() - accepted, rows);
+	}
+
+	/**
+	 * Outcome of one input row.
+	 *
+	 * @param row   zero-based position of the row in the input
+	 * @param key   natural key that identifies the row to the caller (e.g. the employee email), may be {@code null}
+	 * @param id    the generated ID if the row was stored, otherwise {@code null}
+	 * @param error why the row was rejected, or {@code null} if it was stored
+	 */
+	public record Row(int row, String key, Long id, String error) {
+
+		public static Row accepted(int row, String key, Long id) {
+			return new Row(row, key, id, null);
+		}
+
+		public static Row rejected(int row, String key, String error) {
+			return new Row(row, key, null, error);
+		}
+
+		public boolean isAccepted() {
+			return error == null;
+		}
+	}
+}
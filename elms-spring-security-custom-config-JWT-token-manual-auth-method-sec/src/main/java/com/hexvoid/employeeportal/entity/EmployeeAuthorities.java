@@ -1,5 +1,8 @@
 package com.hexvoid.employeeportal.entity;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import jakarta.persistence.Column;
@@ -13,8 +16,12 @@ import jakarta.persistence.Table;
 
 @Entity
 @Table(name="employee_authorities")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EmployeeAuthorities.CACHE_REGION)
 public class EmployeeAuthorities {
 
+	/** Second-level cache region of authorities, created by {@code EmployeeCacheConfig}. */
+	public static final String CACHE_REGION = "employeeAuthorities";
+
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	private int id;
@@ -3,6 +3,9 @@ package com.hexvoid.employeeportal.entity;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import jakarta.persistence.CascadeType;
@@ -16,8 +19,13 @@ import jakarta.persistence.Table;
 
 @Entity
 @Table(name="employee_Credentials")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EmployeeCredentials.CACHE_REGION)
 public class EmployeeCredentials {
 
+	/** Second-level cache regions of credentials and of their authority lists, created by {@code EmployeeCacheConfig}. */
+	public static final String CACHE_REGION = "employeeCredentials";
+	public static final String AUTHORITIES_CACHE_REGION = "employeeCredentials.authorities";
+
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	@Column(name="employee_id")
@@ -43,6 +51,7 @@ public class EmployeeCredentials {
 
 	@OneToMany(mappedBy = "employeeCredentials",
 			cascade = CascadeType.ALL)
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = AUTHORITIES_CACHE_REGION)
 	private List<EmployeeAuthorities> employeeAuthorities;
 	/*
 	  Method: associateAuthorities(EmployeeAuthorities employeeAuthoritiestoAssociate)
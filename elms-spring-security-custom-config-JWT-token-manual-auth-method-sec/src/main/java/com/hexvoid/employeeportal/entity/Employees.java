@@ -2,6 +2,8 @@ package com.hexvoid.employeeportal.entity;
 
 import java.sql.Timestamp;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 
 import jakarta.persistence.Column;
@@ -9,7 +11,9 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 
 /**
  * Represents an Employee in the system.
@@ -20,16 +24,25 @@ import jakarta.persistence.Table;
  */
 @Entity // Marks this class as a JPA entity (table in DB)
 @Table(name = "employees") // Maps this entity to the 'employees' table
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Employees.CACHE_REGION) // Second-level cache region, used only when the cache is enabled
 public class Employees {
 
+	/** Second-level cache region of employees, created by {@code EmployeeCacheConfig}. */
+	public static final String CACHE_REGION = "employees";
+
 	/**
 	 * PRIMARY KEY
 	 * - `@Id`: Marks this field as the primary key.
-	 * - `@GeneratedValue(strategy = GenerationType.IDENTITY)`: Uses AUTO_INCREMENT in MySQL.
+	 * - `@GeneratedValue(strategy = GenerationType.SEQUENCE)`: IDs come from the pooled `employees_seq`
+	 *   generator (a one-row table on MySQL, which has no sequences). Hibernate reserves
+	 *   `allocationSize` IDs per round trip and knows each ID before the INSERT, which lets
+	 *   `hibernate.jdbc.batch_size` group the INSERTs into JDBC batches. IDENTITY (AUTO_INCREMENT)
+	 *   needs the INSERT to run first to learn the ID, so it silently disables insert batching.
 	 * - `@Column(name = "id", updatable = false, nullable = false)`: Ensures `id` cannot be updated or null.
 	 */
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY) // Auto-increment ID (Primary Key)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employees_seq")
+	@SequenceGenerator(name = "employees_seq", sequenceName = "employees_seq", allocationSize = 50)
 	@Column(name = "id", updatable = false, nullable = false)
 	private Long id;
 
@@ -68,6 +81,16 @@ public class Employees {
 	@Column(name = "created_at", updatable = false)
 	private Timestamp createdAt;
 
+	/**
+	 * VERSION (OPTIMISTIC LOCKING)
+	 * - `@Version`: Incremented by every update. PATCH requests must send the version they read,
+	 *   and their UPDATE only matches the row while it still has that version, so a concurrent
+	 *   change is reported as a conflict instead of being silently overwritten.
+	 */
+	@Version
+	@Column(name = "version", nullable = false)
+	private Long version;
+
 	// ✅ Default Constructor (JPA requires a no-argument constructor)
 	public Employees() {}
 
@@ -104,6 +127,14 @@ public class Employees {
 		this.department = department;
 	}
 
+	public Long getVersion() {
+		return version;
+	}
+
+	public void setVersion(Long version) {
+		this.version = version;
+	}
+
 	@Override
 	public String toString() {
 		return "Employees{" +
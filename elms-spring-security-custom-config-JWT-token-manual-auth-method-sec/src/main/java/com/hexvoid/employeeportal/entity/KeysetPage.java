@@ -0,0 +1,60 @@
+package com.hexvoid.employeeportal.entity;
+
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+import com.hexvoid.employeeportal.constants.ApplicationConstants;
+
+/**
+ * One page of a keyset (cursor) paginated list, ordered by {@code id}.
+ *
+ * <p>The next page is requested with {@code ?after=<nextAfter>}, which becomes
+ * {@code WHERE id > :after ORDER BY id LIMIT :limit}: an index range scan that costs the same on
+ * the first and on the last page, unlike {@code OFFSET}, and never skips or repeats rows when
+ * other rows are inserted or deleted between two requests.
+ *
+ * @param <T>       the element type
+ * @param items     the rows of this page, in ascending {@code id} order
+ * @param nextAfter cursor for the next page, or {@code null} if this is the last page
+ */
+public record KeysetPage<T>(List<T> items, Long nextAfter) {
+
+	/**
+	 * Resolves the page size of a request: {@link ApplicationConstants#DEFAULT_PAGE_SIZE} when absent,
+	 * otherwise the requested value capped to {@code 1..}{@link ApplicationConstants#MAX_PAGE_SIZE}.
+	 *
+	 * @param requested the {@code limit} request parameter, may be {@code null}
+	 * @return the page size to use
+	 */
+	public static int pageSize(Integer requested) {
+		if (requested == null) {
+			return ApplicationConstants.DEFAULT_PAGE_SIZE;
+		}
+		return Math.max(1, Math.min(requested, ApplicationConstants.MAX_PAGE_SIZE));
+	}
+
+	/**
+	 * Builds a page from a query that fetched up to {@code limit + 1} rows; the extra row only
+	 * signals that another page exists and is not returned.
+	 *
+	 * @param <T>   the element type
+	 * @param rows  at most {@code limit + 1} rows in ascending {@code id} order
+	 * @param limit the requested page size
+	 * @param id    extracts the {@code id} of a row
+	 * @return the page
+	 */
+	public static <T> KeysetPage<T> of(List<T> rows, int limit, ToLongFunction<T> id) {
+		if (rows.size() <= limit) {
+			return new KeysetPage<>(rows, null);
+		}
+		List<T> items = rows.subList(0, limit);
+		return new KeysetPage<>(List.copyOf(items), id.applyAsLong(items.get(limit - 1)));
+	}
+
+	/**
+	 * @return {@code true} if another page follows this one
+	 */
+	public boolean hasNext() {
+		return nextAfter != null;
+	}
+}
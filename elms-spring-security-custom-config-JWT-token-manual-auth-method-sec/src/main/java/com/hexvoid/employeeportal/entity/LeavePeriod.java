@@ -0,0 +1,12 @@
+package com.hexvoid.employeeportal.entity;
+
+import java.time.LocalDate;
+
+/**
+ * The dates of one leave request, both inclusive.
+ *
+ * @param startDate the first day of leave
+ * @param endDate   the last day of leave, not before {@code startDate}
+ */
+public record LeavePeriod(LocalDate startDate, LocalDate endDate) {
+}
@@ -0,0 +1,18 @@
+package com.hexvoid.employeeportal.entity;
+
+import java.time.LocalDate;
+
+/**
+ * Filters of {@code GET /api/leave/search}; every filter is optional and {@code null} means "any".
+ *
+ * <p>The filters follow the column order of the {@code leave_requests} indexes declared on
+ * {@link LeaveRequests}: {@code (employee_id, status, start_date)} for an employee's dashboard and
+ * {@code (status, start_date)} for the approval queue.
+ *
+ * @param employeeId only leave requests of this employee
+ * @param status     only leave requests in this status
+ * @param from       only leave requests that end on or after this date
+ * @param to         only leave requests that start on or before this date
+ */
+public record LeaveRequestSearch(Long employeeId, LeaveStatus status, LocalDate from, LocalDate to) {
+}
@@ -10,12 +10,18 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 
 /**
  * Represents a leave request submitted by an employee.
@@ -25,16 +31,29 @@ import jakarta.persistence.Table;
  * Uses Hibernate and JPA annotations to manage the database schema.
  */
 @Entity // Marks this class as a JPA entity (table in DB)
-@Table(name = "leave_requests") // Maps this entity to the 'leave_requests' table
+@Table(name = "leave_requests", indexes = { // Maps this entity to the 'leave_requests' table
+		// Search by employee, optionally narrowed by status and start date; also serves the employee_id foreign key.
+		@Index(name = "idx_leave_requests_employee_status_start", columnList = "employee_id, status, start_date"),
+		// Search across employees by status and start date, e.g. all pending leave starting before a date.
+		@Index(name = "idx_leave_requests_status_start", columnList = "status, start_date"),
+		// Overlap check of a new leave: only the employee's leave ending on or after its start is scanned.
+		@Index(name = "idx_leave_requests_employee_end", columnList = "employee_id, end_date, start_date")
+})
+@NamedEntityGraph(name = LeaveRequests.WITH_EMPLOYEE, attributeNodes = @NamedAttributeNode("employee"))
 public class LeaveRequests {
 
+	/** Name of the entity graph that loads the employee together with the leave request. */
+	public static final String WITH_EMPLOYEE = "LeaveRequests.withEmployee";
+
 	/**
 	 * PRIMARY KEY
 	 * - `@Id`: Marks this field as the primary key.
-	 * - `@GeneratedValue(strategy = GenerationType.IDENTITY)`: Uses AUTO_INCREMENT in MySQL.
+	 * - `@GeneratedValue(strategy = GenerationType.SEQUENCE)`: IDs come from the pooled
+	 *   `leave_requests_seq` generator, like `Employees`, so bulk imports can batch their INSERTs.
 	 */
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY) // Auto-increment ID
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "leave_requests_seq")
+	@SequenceGenerator(name = "leave_requests_seq", sequenceName = "leave_requests_seq", allocationSize = 50)
 	@Column(name = "id", updatable = false, nullable = false)
 	private Long id;
 
@@ -42,11 +61,27 @@ public class LeaveRequests {
 	 * RELATIONSHIP WITH EMPLOYEES
 	 * - `@ManyToOne`: Many leave requests can belong to one employee.
 	 * - `@JoinColumn(name = "employee_id", nullable = false)`: Stores the foreign key reference.
+	 * - `fetch = FetchType.LAZY`: The employee is never loaded implicitly. With the default EAGER
+	 *   fetch, every leave query was followed by one extra select per distinct employee (N+1).
+	 *   The leave DAO loads it explicitly instead, through a fetch join or the
+	 *   {@link #WITH_EMPLOYEE} entity graph.
 	 */
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "employee_id", nullable = false)
 	private Employees employee;
 
+	/**
+	 * EMPLOYEE ID (READ-ONLY, QUERIES ONLY)
+	 * - The raw `employee_id` foreign key column, mapped a second time with `insertable = false, updatable = false`.
+	 * - JPQL filters on `lr.employeeId` compare `leave_requests.employee_id` directly. Filtering on
+	 *   `lr.employee.id` is resolved against the fetch-joined `employees` table instead, which keeps the
+	 *   database from using the `(employee_id, status, start_date)` index.
+	 * - Not set on new entities until they are reloaded; use {@link #getEmployee()} in Java code. It has
+	 *   no getter, so it is not part of the JSON either.
+	 */
+	@Column(name = "employee_id", insertable = false, updatable = false)
+	private Long employeeId;
+
 	/**
 	 *    LEAVE TYPE
 	 * - `@Enumerated(EnumType.STRING)`: Stores the enum value as a String.
@@ -99,6 +134,16 @@ public class LeaveRequests {
 	@Column(name = "updated_at")
 	private Timestamp updatedAt;
 
+	/**
+	 * VERSION (OPTIMISTIC LOCKING)
+	 * - `@Version`: Incremented by every update, including the JPQL updates of the leave DAO.
+	 *   Two approvers patching the same request both send the version they read; only the first
+	 *   UPDATE still matches it, the second gets 409 Conflict.
+	 */
+	@Version
+	@Column(name = "version", nullable = false)
+	private Long version;
+
 	//  Default Constructor (JPA requires a no-argument constructor)
 	public LeaveRequests() {}
 
@@ -160,6 +205,14 @@ public class LeaveRequests {
 		this.employee = employee;
 	}
 
+	public Long getVersion() {
+		return version;
+	}
+
+	public void setVersion(Long version) {
+		this.version = version;
+	}
+
 	@Override
 	public String toString() {
 		return "LeaveRequests{" +
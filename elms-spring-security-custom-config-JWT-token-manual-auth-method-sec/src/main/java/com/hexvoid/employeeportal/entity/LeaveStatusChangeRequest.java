@@ -0,0 +1,13 @@
+package com.hexvoid.employeeportal.entity;
+
+import java.util.List;
+
+/**
+ * A record holding a bulk status change submitted to {@code /api/leave/status}, e.g. a manager
+ * approving a batch of leave requests at once.
+ *
+ * @param ids    the IDs of the leave requests to change
+ * @param status the status to set on all of them
+ */
+public record LeaveStatusChangeRequest(List<Long> ids, LeaveStatus status) {
+}
@@ -3,14 +3,17 @@ package com.hexvoid.employeeportal.entity;
 /**
  * A record that represents the response returned upon successful authentication.
  * <p>
- * It contains the status of the login request and the generated JWT token.
- * The token can be used for authorized access to secured endpoints.
+ * It contains the status of the login request, the generated short-lived JWT access token
+ * and the long-lived refresh token used to obtain new access tokens from
+ * {@code /api/token/refresh} without sending the password again.
  *
  * <p>Being a {@code record}, it is immutable and automatically provides
  * accessor methods for each field.
  *
  * @param status the HTTP status or message of the login result
- * @param jwtToken the generated JWT token issued to the client
+ * @param jwtToken the generated JWT access token issued to the client
+ * @param expiresIn the access token lifetime in seconds
+ * @param refreshToken the single-use refresh token issued to the client
  */
-public record LoginResponse(String status, String jwtToken) {
+public record LoginResponse(String status, String jwtToken, long expiresIn, String refreshToken) {
 }
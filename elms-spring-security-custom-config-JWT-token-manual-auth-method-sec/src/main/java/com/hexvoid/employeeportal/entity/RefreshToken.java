@@ -0,0 +1,69 @@
+package com.hexvoid.employeeportal.entity;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * A long-lived refresh token issued by {@code /api/login} and rotated by {@code /api/token/refresh}.
+ *
+ * <p>Only a SHA-256 digest of the token is stored, so a leaked table cannot be replayed.
+ * The digest is the primary key, which makes the refresh lookup a single primary-key read
+ * instead of a password check. Tokens are single-use: rotation deletes the row and issues a new one.
+ */
+@Entity
+@Table(name = "refresh_tokens", indexes = {
+		@Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at"),
+		@Index(name = "idx_refresh_tokens_email", columnList = "email") })
+public class RefreshToken {
+
+	/**
+	 * Base64url SHA-256 digest of the opaque token handed to the client.
+	 */
+	@Id
+	@Column(name = "token_hash", length = 43, updatable = false, nullable = false)
+	private String tokenHash;
+
+	/**
+	 * Email of the user the token was issued to.
+	 */
+	@Column(name = "email", nullable = false, updatable = false)
+	private String email;
+
+	@Column(name = "expires_at", nullable = false, updatable = false)
+	private Instant expiresAt;
+
+	// JPA requires a no-argument constructor
+	protected RefreshToken() {}
+
+	public RefreshToken(String tokenHash, String email, Instant expiresAt) {
+		this.tokenHash = tokenHash;
+		this.email = email;
+		this.expiresAt = expiresAt;
+	}
+
+	public String getTokenHash() {
+		return tokenHash;
+	}
+
+	public String getEmail() {
+		return email;
+	}
+
+	public Instant getExpiresAt() {
+		return expiresAt;
+	}
+
+	public boolean isExpired() {
+		return !Instant.now().isBefore(expiresAt);
+	}
+
+	@Override
+	public String toString() {
+		return "RefreshToken [email=" + email + ", expiresAt=" + expiresAt + "]";
+	}
+}
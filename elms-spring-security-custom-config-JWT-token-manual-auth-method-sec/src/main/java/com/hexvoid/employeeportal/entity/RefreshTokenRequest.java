@@ -0,0 +1,9 @@
+package com.hexvoid.employeeportal.entity;
+
+/**
+ * A record holding the refresh token submitted to {@code /api/token/refresh}.
+ *
+ * @param refreshToken the refresh token previously returned by {@code /api/login} or {@code /api/token/refresh}
+ */
+public record RefreshTokenRequest(String refreshToken) {
+}
@@ -0,0 +1,48 @@
+package com.hexvoid.employeeportal.entity;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * A revoked JWT access token, identified by its {@code jti} claim.
+ *
+ * <p>The row is only needed until the token's own {@code exp}; after that the signature check
+ * rejects the token anyway and the row is purged.
+ */
+@Entity
+@Table(name = "revoked_tokens", indexes = @Index(name = "idx_revoked_tokens_expires_at", columnList = "expires_at"))
+public class RevokedToken {
+
+	@Id
+	@Column(name = "token_id", length = 64, updatable = false, nullable = false)
+	private String tokenId;
+
+	@Column(name = "expires_at", nullable = false)
+	private Instant expiresAt;
+
+	// JPA requires a no-argument constructor
+	protected RevokedToken() {}
+
+	public RevokedToken(String tokenId, Instant expiresAt) {
+		this.tokenId = tokenId;
+		this.expiresAt = expiresAt;
+	}
+
+	public String getTokenId() {
+		return tokenId;
+	}
+
+	public Instant getExpiresAt() {
+		return expiresAt;
+	}
+
+	@Override
+	public String toString() {
+		return "RevokedToken [tokenId=" + tokenId + ", expiresAt=" + expiresAt + "]";
+	}
+}
@@ -0,0 +1,17 @@
+package com.hexvoid.employeeportal.events;
+
+/**
+ * Published after a transaction that changed employees or credentials commits, while the Hibernate
+ * second-level cache is enabled.
+ *
+ * <p>The local cache is already up to date at that point. The event is a local hook only: this
+ * application has no listener for it and does not send it to other instances, which see the change
+ * once their cached entries expire. A deployment that adds a transport (message broker, database
+ * notification, ...) can listen for it and pass the received events to
+ * {@code EmployeeCacheInvalidator.evict(EmployeeCacheEvictionEvent)} on each instance.
+ *
+ * @param entityType the changed entity class, {@code Employees} or {@code EmployeeCredentials}
+ * @param id         the ID of the changed entity, or {@code null} if every cached entity of the type must be evicted
+ */
+public record EmployeeCacheEvictionEvent(Class<?> entityType, Object id) {
+}
@@ -1,5 +1,6 @@
 package com.hexvoid.employeeportal.exceptionhandler;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -29,4 +30,57 @@ public class ExceptionHandlerGlobal {
 		// Return response entity with HTTP status 404 (Not Found)
 		return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
 	}
+
+	/**
+	 * Handles PasswordHashingOverloadedException (login burst beyond the hashing queue)
+	 * and tells the client when to retry instead of letting login latency grow without limit.
+	 *
+	 * @param e The thrown overload exception.
+	 * @return ResponseEntity with HTTP status 503 (Service Unavailable) and a Retry-After header.
+	 */
+	@ExceptionHandler
+	public ResponseEntity<ExceptionHandlerEntity> handleException(PasswordHashingOverloadedException e) {
+		ExceptionHandlerEntity errorResponse = new ExceptionHandlerEntity();
+		errorResponse.setMessage(e.getMessage());
+		errorResponse.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+		errorResponse.setTimeStamp(System.currentTimeMillis());
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()));
+
+		return new ResponseEntity<>(errorResponse, headers, HttpStatus.SERVICE_UNAVAILABLE);
+	}
+
+	/**
+	 * Handles VersionConflictException (a PATCH lost the race against another update)
+	 * so the client can re-read the record and decide whether to retry.
+	 *
+	 * @param e The thrown conflict exception.
+	 * @return ResponseEntity with HTTP status 409 (Conflict).
+	 */
+	@ExceptionHandler
+	public ResponseEntity<ExceptionHandlerEntity> handleException(VersionConflictException e) {
+		ExceptionHandlerEntity errorResponse = new ExceptionHandlerEntity();
+		errorResponse.setMessage(e.getMessage());
+		errorResponse.setStatus(HttpStatus.CONFLICT.value());
+		errorResponse.setTimeStamp(System.currentTimeMillis());
+
+		return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+	}
+
+	/**
+	 * Handles LeaveOverlapException (a new leave request overlaps existing leave of the employee).
+	 *
+	 * @param e The thrown overlap exception.
+	 * @return ResponseEntity with HTTP status 409 (Conflict).
+	 */
+	@ExceptionHandler
+	public ResponseEntity<ExceptionHandlerEntity> handleException(LeaveOverlapException e) {
+		ExceptionHandlerEntity errorResponse = new ExceptionHandlerEntity();
+		errorResponse.setMessage(e.getMessage());
+		errorResponse.setStatus(HttpStatus.CONFLICT.value());
+		errorResponse.setTimeStamp(System.currentTimeMillis());
+
+		return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+	}
 }
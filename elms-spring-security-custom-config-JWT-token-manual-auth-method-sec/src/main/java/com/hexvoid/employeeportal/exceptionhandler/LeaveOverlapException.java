@@ -0,0 +1,26 @@
+package com.hexvoid.employeeportal.exceptionhandler;
+
+import java.time.LocalDate;
+
+/**
+ * Thrown when a new or changed leave request overlaps leave the employee already has, other than rejected leave.
+ * Mapped to {@code 409 Conflict} by {@link ExceptionHandlerGlobal}.
+ */
+public class LeaveOverlapException extends RuntimeException {
+
+	/**
+	 * @param employeeId the employee of the leave request
+	 * @param startDate  the first day of the leave request
+	 * @param endDate    the last day of the leave request
+	 */
+	public LeaveOverlapException(long employeeId, LocalDate startDate, LocalDate endDate) {
+		super(message(employeeId, startDate, endDate));
+	}
+
+	/**
+	 * @return the message of the exception, for callers that report the conflict without throwing
+	 */
+	public static String message(long employeeId, LocalDate startDate, LocalDate endDate) {
+		return "Employee ID " + employeeId + " already has leave between " + startDate + " and " + endDate + ".";
+	}
+}
@@ -0,0 +1,28 @@
+package com.hexvoid.employeeportal.exceptionhandler;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+/**
+ * Thrown when a password check cannot be queued because the password-hashing executor is full.
+ * Mapped to {@code 503 Service Unavailable} with a {@code Retry-After} header by {@link ExceptionHandlerGlobal}
+ * for {@code /api/login}, and by {@code PasswordHashingOverloadEntryPoint} for HTTP Basic authentication.
+ *
+ * <p>It is an {@link AuthenticationServiceException}, so the Basic authentication filter hands it to
+ * its entry point instead of letting it escape as a {@code 500}.
+ */
+public class PasswordHashingOverloadedException extends AuthenticationServiceException {
+
+	private final long retryAfterSeconds;
+
+	/**
+	 * @param retryAfterSeconds how long the client should wait before retrying
+	 */
+	public PasswordHashingOverloadedException(long retryAfterSeconds) {
+		super("Too many concurrent logins, please retry later");
+		this.retryAfterSeconds = retryAfterSeconds;
+	}
+
+	public long getRetryAfterSeconds() {
+		return retryAfterSeconds;
+	}
+}
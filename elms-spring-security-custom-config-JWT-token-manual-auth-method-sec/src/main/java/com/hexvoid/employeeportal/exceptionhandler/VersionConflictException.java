@@ -0,0 +1,18 @@
+package com.hexvoid.employeeportal.exceptionhandler;
+
+/**
+ * Thrown when a conditional update finds no row with the expected ID and version, typically because
+ * another request changed the row first. Mapped to {@code 409 Conflict} by {@link ExceptionHandlerGlobal}.
+ */
+public class VersionConflictException extends RuntimeException {
+
+	/**
+	 * @param entityName      the kind of record, e.g. "Employee"
+	 * @param id              the ID of the record
+	 * @param expectedVersion the version the client sent
+	 */
+	public VersionConflictException(String entityName, long id, long expectedVersion) {
+		super(entityName + " with ID " + id + " is not at version " + expectedVersion
+				+ "; it was changed or deleted by another request.");
+	}
+}
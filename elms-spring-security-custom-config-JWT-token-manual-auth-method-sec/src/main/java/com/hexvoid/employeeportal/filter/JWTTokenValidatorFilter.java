@@ -1,41 +1,67 @@
 package com.hexvoid.employeeportal.filter;
 
 import com.hexvoid.employeeportal.constants.ApplicationConstants;
+import com.hexvoid.employeeportal.security.JWTTokenCodec;
+import com.hexvoid.employeeportal.security.JWTTokenDenylist;
+import com.hexvoid.employeeportal.security.JWTVerifiedTokenCache;
+import com.hexvoid.employeeportal.security.JWTVerifiedTokenCache.VerifiedToken;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.core.env.Environment;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.AuthenticationEntryPoint;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import javax.crypto.SecretKey;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 
 /**
  * This filter is responsible for validating incoming JWT tokens from client requests.
  *
  * <p>
- * It is applied to all endpoints <strong>except</strong> <code>/user/details</code> (where the token is generated).
+ * It is applied to all endpoints <strong>except</strong> <code>/user/details</code> (where the token is generated)
+ * and <code>/api/token/refresh</code> (which is called precisely when the access token has expired).
  * <br>
  * This filter:
  * <ul>
  *     <li>Extracts the token from the <code>Authorization</code> header</li>
- *     <li>Parses and validates the token using the secret key</li>
+ *     <li>Parses and validates the token using the shared {@link JWTTokenCodec}, or reuses an earlier
+ *     verification of the same token from {@link JWTVerifiedTokenCache} when that cache is enabled</li>
+ *     <li>Rejects tokens whose {@code jti} has been revoked, see {@link JWTTokenDenylist}</li>
  *     <li>Extracts user details and sets them in Spring Security’s context</li>
+ *     <li>Answers {@code 401 Unauthorized} for an invalid, expired or revoked token, without calling
+ *     the rest of the chain</li>
  * </ul>
  * Once the context is set, Spring Security handles authorization based on roles/authorities.
  * </p>
  */
 public class JWTTokenValidatorFilter extends OncePerRequestFilter {
+
+	private final JWTTokenCodec jwtTokenCodec;
+	private final JWTVerifiedTokenCache verifiedTokenCache;
+	private final JWTTokenDenylist tokenDenylist;
+
+	// This filter runs before ExceptionTranslationFilter, so a thrown AuthenticationException would not become a 401
+	private final AuthenticationEntryPoint authenticationEntryPoint = new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED);
+
+	/**
+	 * @param jwtTokenCodec      shared codec holding the signing key and the prebuilt parser
+	 * @param verifiedTokenCache cache of already verified tokens (a pass-through when disabled)
+	 * @param tokenDenylist      revoked token ids, fronted by a Bloom filter
+	 */
+	public JWTTokenValidatorFilter(JWTTokenCodec jwtTokenCodec, JWTVerifiedTokenCache verifiedTokenCache,
+			JWTTokenDenylist tokenDenylist) {
+		this.jwtTokenCodec = jwtTokenCodec;
+		this.verifiedTokenCache = verifiedTokenCache;
+		this.tokenDenylist = tokenDenylist;
+	}
+
 	/**
 	 * @param request
 	 * @param response
@@ -69,57 +95,61 @@ public class JWTTokenValidatorFilter extends OncePerRequestFilter {
 		//}
 		if (jwt != null) {
 			try {
-				Environment environment = getEnvironment();
-				if (environment != null) {
-
-					// Step 2: Retrieve secret key from environment or fallback default
-					String secretKeyEnv = environment.getProperty(
-							ApplicationConstants.JWT_SECRET_KEY,
-							ApplicationConstants.JWT_DEFAULT_SECRET_VALUE
-							);
-
-					SecretKey secretKey = Keys.hmacShaKeyFor(secretKeyEnv.getBytes(StandardCharsets.UTF_8));
+				// Step 2 and 3: Parse, validate and extract user information and authorities from the token.
+				// A repeat token is served from the verified-token cache (if enabled) without crypto or JSON work.
+				VerifiedToken verifiedToken = verifiedTokenCache.get(jwt, this::verify);
 
-					if (secretKey != null) {
-
-						// Step 3: Parse and validate the JWT token
-						Claims claims = Jwts.parser()
-								.verifyWith(secretKey)
-								.build()
-								.parseSignedClaims(jwt)
-								.getPayload();
-
-						// Step 4: Extract user information and authorities from the token
-						String username = String.valueOf(claims.get("email"));
-						String authorities = String.valueOf(claims.get("authorities"));
+				// Revocation is checked on every request, also for cached tokens.
+				if (tokenDenylist.isRevoked(verifiedToken.tokenId())) {
+					throw new BadCredentialsException("JWT Token has been revoked");
+				}
 
-						//It will set authentication value as true under UsernamePasswordAuthenticationToken
+				//It will set authentication value as true under UsernamePasswordAuthenticationToken
 
-						// Step 5: Set the user authentication in the SecurityContext for Spring Security
-						Authentication authentication = new UsernamePasswordAuthenticationToken(
-								username,
-								null,
-								AuthorityUtils.commaSeparatedStringToAuthorityList(authorities)
-								);
+				// Step 4: Set the user authentication in the SecurityContext for Spring Security
+				Authentication authentication = new UsernamePasswordAuthenticationToken(
+						verifiedToken.username(),
+						null,
+						verifiedToken.authorities()
+						);
 
-						SecurityContextHolder.getContext().setAuthentication(authentication);
-					}
-				}
+				SecurityContextHolder.getContext().setAuthentication(authentication);
 			} catch (Exception e) {
-				// Token is invalid, expired, tampered or malformed
-				throw new BadCredentialsException("Invalid JWT Token Received");
+				// Token is invalid, expired, tampered, malformed or revoked
+				SecurityContextHolder.clearContext();
+				authenticationEntryPoint.commence(request, response,
+						new BadCredentialsException("Invalid JWT Token Received", e));
+				return;
 			}
 		}
 		// Continue with the remaining filter chain
 		filterChain.doFilter(request, response);
 	}
 
+	/**
+	 * Verifies the token signature and expiry and extracts the claims needed for authentication.
+	 *
+	 * @param jwt the raw token from the request header
+	 * @return the id, username, parsed authorities and expiry of the token
+	 */
+	private VerifiedToken verify(String jwt) {
+		Claims claims = jwtTokenCodec.parseClaims(jwt);
+		String username = String.valueOf(claims.get("email"));
+		return new VerifiedToken(
+				claims.getId(),
+				username,
+				jwtTokenCodec.parseAuthorities(claims),
+				claims.getExpiration().getTime());
+	}
+
 	/**
 	 * This method decides whether this filter should be applied to the current request.
 	 *
 	 * <p>
 	 * <strong>Logic:</strong> Skip this filter for the <code>/user/details</code> endpoint,
 	 * since that’s where we generate the token — applying validation there would interfere.
+	 * Also skip it for <code>/api/token/refresh</code>, so an expired access token still sent by
+	 * the client does not block the refresh.
 	 * </p>
 	 *
 	 * <pre>
@@ -134,6 +164,7 @@ public class JWTTokenValidatorFilter extends OncePerRequestFilter {
 	@Override
 	protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
 		//Why not keeping ! here like in Token Generator
-		return request.getServletPath().equals("/user/details");
+		String path = request.getServletPath();
+		return path.equals("/user/details") || path.equals("/api/token/refresh");
 	}
 }
\ No newline at end of file
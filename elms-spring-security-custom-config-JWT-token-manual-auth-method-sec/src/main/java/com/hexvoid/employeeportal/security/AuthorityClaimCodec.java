@@ -0,0 +1,155 @@
+package com.hexvoid.employeeportal.security;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
+
+/**
+ * Encodes the user's authorities into a JWT and decodes them back.
+ *
+ * <p>The classic format is the comma-joined {@code authorities} claim, e.g.
+ * {@code "VIEW,UPDATE,ROLE_ADMIN"}, which has to be split and turned into new objects on every request.
+ *
+ * <p>The optional compact format replaces it with an {@code authMask} number: bit {@code i} is set
+ * when the user holds the {@code i}-th entry of a fixed, ordered list of known authorities.
+ * Decoding is a table lookup that returns a preallocated, immutable list built from one shared
+ * {@link GrantedAuthority} instance per known authority, so repeat masks allocate nothing.
+ * Tokens holding an authority outside the known list fall back to the classic claim, and both
+ * formats are always accepted on decode.
+ *
+ * <p>The bit positions are part of the token format: new authorities must be appended to the
+ * list, never inserted or reordered, while tokens issued with the old list are still valid.
+ */
+public class AuthorityClaimCodec {
+
+	/** Classic claim: comma-joined authority names. */
+	static final String AUTHORITIES_CLAIM = "authorities";
+
+	/** Compact claim: bitmask over {@link #knownAuthorities}. */
+	static final String AUTHORITY_MASK_CLAIM = "authMask";
+
+	/** Upper bound on distinct cached masks, far above the number of distinct role combinations in practice. */
+	private static final int MAX_CACHED_MASKS = 1024;
+
+	private final boolean compact;
+	private final List<GrantedAuthority> knownAuthorities;
+	private final Map<String, Integer> bitByAuthority = new HashMap<>();
+	private final Map<Long, List<GrantedAuthority>> authoritiesByMask = new ConcurrentHashMap<>();
+
+	/**
+	 * @param compact          whether new tokens should use the compact {@code authMask} claim
+	 * @param knownAuthorities ordered list of authorities; the index is the bit position
+	 */
+	public AuthorityClaimCodec(boolean compact, List<String> knownAuthorities) {
+		if (knownAuthorities.size() > Long.SIZE - 1) {
+			throw new IllegalArgumentException("At most " + (Long.SIZE - 1) + " known authorities are supported");
+		}
+		this.compact = compact;
+		List<GrantedAuthority> interned = new ArrayList<>(knownAuthorities.size());
+		for (String authority : knownAuthorities) {
+			if (bitByAuthority.putIfAbsent(authority, interned.size()) != null) {
+				throw new IllegalArgumentException("Duplicate known authority: " + authority);
+			}
+			interned.add(new SimpleGrantedAuthority(authority));
+		}
+		this.knownAuthorities = List.copyOf(interned);
+	}
+
+	/**
+	 * @return a codec that always writes the classic comma-joined claim
+	 */
+	public static AuthorityClaimCodec commaSeparated() {
+		return new AuthorityClaimCodec(false, List.of());
+	}
+
+	/**
+	 * @return the known authority names in bit order
+	 */
+	public List<String> getKnownAuthorities() {
+		return knownAuthorities.stream().map(GrantedAuthority::getAuthority).toList();
+	}
+
+	/**
+	 * Adds the authorities claim to a token under construction.
+	 *
+	 * @param builder     the JWT builder
+	 * @param authorities the user's granted authorities
+	 */
+	void writeClaim(JwtBuilder builder, Collection<? extends GrantedAuthority> authorities) {
+		if (compact) {
+			long mask = toMask(authorities);
+			if (mask >= 0) {
+				builder.claim(AUTHORITY_MASK_CLAIM, mask);
+				return;
+			}
+		}
+		builder.claim(AUTHORITIES_CLAIM, authorities.stream()
+				.map(GrantedAuthority::getAuthority)
+				.collect(Collectors.joining(",")));
+	}
+
+	/**
+	 * Resolves the authorities of a verified token, in either format.
+	 *
+	 * @param claims the verified claims
+	 * @return an immutable list of granted authorities
+	 */
+	List<GrantedAuthority> readClaim(Claims claims) {
+		Number mask = claims.get(AUTHORITY_MASK_CLAIM, Number.class);
+		if (mask != null) {
+			return fromMask(mask.longValue());
+		}
+		String authorities = claims.get(AUTHORITIES_CLAIM, String.class);
+		if (authorities == null || authorities.isEmpty()) {
+			return List.of();
+		}
+		return List.copyOf(AuthorityUtils.commaSeparatedStringToAuthorityList(authorities));
+	}
+
+	/**
+	 * @return the bitmask, or {@code -1} if an authority is not in the known list
+	 */
+	private long toMask(Collection<? extends GrantedAuthority> authorities) {
+		long mask = 0;
+		for (GrantedAuthority authority : authorities) {
+			Integer bit = bitByAuthority.get(authority.getAuthority());
+			if (bit == null) {
+				return -1;
+			}
+			mask |= 1L << bit;
+		}
+		return mask;
+	}
+
+	private List<GrantedAuthority> fromMask(long mask) {
+		List<GrantedAuthority> cached = authoritiesByMask.get(mask);
+		if (cached != null) {
+			return cached;
+		}
+		if (mask < 0 || (mask >>> knownAuthorities.size()) != 0) {
+			throw new IllegalArgumentException("Unknown authority bits in mask " + mask);
+		}
+		GrantedAuthority[] resolved = new GrantedAuthority[Long.bitCount(mask)];
+		int i = 0;
+		for (long remaining = mask; remaining != 0; remaining &= remaining - 1) {
+			resolved[i++] = knownAuthorities.get(Long.numberOfTrailingZeros(remaining));
+		}
+		List<GrantedAuthority> authorities = List.copyOf(Arrays.asList(resolved));
+		if (authoritiesByMask.size() < MAX_CACHED_MASKS) {
+			authoritiesByMask.putIfAbsent(mask, authorities);
+		}
+		return authorities;
+	}
+}
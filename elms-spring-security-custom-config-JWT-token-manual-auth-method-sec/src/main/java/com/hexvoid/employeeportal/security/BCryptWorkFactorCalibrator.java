@@ -0,0 +1,70 @@
+package com.hexvoid.employeeportal.security;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * Finds the bcrypt work factor (strength) that fits a target hashing latency on the current hardware.
+ *
+ * <p>Only a reporting tool: the result is logged as a recommendation
+ * ({@code security.password-encoder.bcrypt-calibrate=true}) and never changes the configured strength.
+ *
+ * <p>Each strength step doubles the cost of one hash. Starting at the minimum strength, every
+ * candidate is timed (median of a few encodes, after a warm-up) and the highest strength whose
+ * hash still completes within the target is chosen. The result never goes below the configured
+ * minimum, so slow hardware cannot silently weaken the hashes.
+ */
+public final class BCryptWorkFactorCalibrator {
+
+	private static final Logger logger = LoggerFactory.getLogger(BCryptWorkFactorCalibrator.class);
+
+	/** Encodes timed per strength; the median is used to smooth out JIT and scheduling noise. */
+	private static final int SAMPLES = 3;
+
+	private static final String SAMPLE_PASSWORD = "calibration-Passw0rd!";
+
+	private BCryptWorkFactorCalibrator() {
+	}
+
+	/**
+	 * Benchmarks bcrypt and returns the strength closest to, but not above, the target latency.
+	 *
+	 * @param targetLatency desired time for one hash
+	 * @param minStrength   lowest acceptable strength (returned even if it is slower than the target)
+	 * @param maxStrength   highest strength to consider
+	 * @return the calibrated strength, between {@code minStrength} and {@code maxStrength}
+	 */
+	public static int calibrate(Duration targetLatency, int minStrength, int maxStrength) {
+		long targetNanos = targetLatency.toNanos();
+		// Warm up the bcrypt code path so the first samples are not dominated by class loading and JIT
+		medianEncodeNanos(minStrength);
+
+		int chosen = minStrength;
+		for (int strength = minStrength; strength <= maxStrength; strength++) {
+			long nanos = medianEncodeNanos(strength);
+			logger.info("bcrypt strength {} takes {} ms per hash", strength, nanos / 1_000_000);
+			if (nanos > targetNanos) {
+				break;
+			}
+			chosen = strength;
+		}
+		logger.info("bcrypt strength {} fits a target of {} ms per hash", chosen, targetLatency.toMillis());
+		return chosen;
+	}
+
+	private static long medianEncodeNanos(int strength) {
+		BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+		long[] samples = new long[SAMPLES];
+		for (int i = 0; i < SAMPLES; i++) {
+			long start = System.nanoTime();
+			encoder.encode(SAMPLE_PASSWORD);
+			samples[i] = System.nanoTime() - start;
+		}
+		Arrays.sort(samples);
+		return samples[SAMPLES / 2];
+	}
+}
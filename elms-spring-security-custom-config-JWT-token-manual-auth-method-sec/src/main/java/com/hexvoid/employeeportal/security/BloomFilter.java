@@ -0,0 +1,87 @@
+package com.hexvoid.employeeportal.security;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Minimal, thread-safe Bloom filter over strings.
+ *
+ * <p>{@link #mightContain(String)} never returns {@code false} for a value that was {@link #put(String) put},
+ * and returns {@code true} for an absent value with roughly the configured false-positive rate as long
+ * as no more than the expected number of values are added. Entries cannot be removed; callers rebuild
+ * a fresh filter instead.
+ *
+ * <p>Bit indexes use double hashing (Kirsch–Mitzenmacher) over one 64-bit hash of the value,
+ * so a probe is a single pass over the string plus {@code k} array reads.
+ */
+final class BloomFilter {
+
+	private final AtomicLongArray words;
+	private final long bitCount;
+	private final int hashCount;
+
+	/**
+	 * @param expectedInsertions number of values the filter is sized for
+	 * @param falsePositiveRate  target false-positive probability, between 0 and 1 exclusive
+	 */
+	BloomFilter(long expectedInsertions, double falsePositiveRate) {
+		if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+			throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1: " + falsePositiveRate);
+		}
+		long n = Math.max(1, expectedInsertions);
+		long bits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+		int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (bits + Long.SIZE - 1) / Long.SIZE));
+		this.words = new AtomicLongArray(wordCount);
+		this.bitCount = (long) wordCount * Long.SIZE;
+		this.hashCount = (int) Math.max(1, Math.round((double) bitCount / n * Math.log(2)));
+	}
+
+	void put(String value) {
+		long hash = hash(value);
+		long h1 = hash;
+		long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+		for (int i = 0; i < hashCount; i++) {
+			long bit = Math.floorMod(h1 + i * h2, bitCount);
+			int word = (int) (bit >>> 6);
+			long mask = 1L << bit;
+			long current;
+			while (((current = words.get(word)) & mask) == 0) {
+				if (words.compareAndSet(word, current, current | mask)) {
+					break;
+				}
+			}
+		}
+	}
+
+	boolean mightContain(String value) {
+		long hash = hash(value);
+		long h1 = hash;
+		long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+		for (int i = 0; i < hashCount; i++) {
+			long bit = Math.floorMod(h1 + i * h2, bitCount);
+			if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/** FNV-1a over the UTF-16 chars, finished with a 64-bit mixer to spread the bits. */
+	private static long hash(String value) {
+		long hash = 0xCBF29CE484222325L;
+		for (int i = 0; i < value.length(); i++) {
+			hash ^= value.charAt(i);
+			hash *= 0x100000001B3L;
+		}
+		return mix(hash);
+	}
+
+	/** Murmur3 fmix64 finalizer. */
+	private static long mix(long h) {
+		h ^= h >>> 33;
+		h *= 0xFF51AFD7ED558CCDL;
+		h ^= h >>> 33;
+		h *= 0xC4CEB9FE1A85EC53L;
+		h ^= h >>> 33;
+		return h;
+	}
+}
@@ -0,0 +1,50 @@
+package com.hexvoid.employeeportal.security;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * {@link BCryptPasswordEncoder} that asks for a re-encode when a stored hash was created with a
+ * strength other than the configured one.
+ *
+ * <p>The configured strength is authoritative in both directions: weaker hashes are strengthened and
+ * stronger ones are brought back down, so lowering the setting also lowers the login cost. Every node
+ * must therefore use the same strength, or nodes would rehash each other's passwords back and forth.
+ * Unlike the stock encoder, a value that is not a bcrypt hash is simply not upgraded instead of
+ * failing the login.
+ */
+public class CalibratedBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+	private static final Pattern BCRYPT_COST = Pattern.compile("\\A\\$2[abyx]?\\$(\\d\\d)\\$");
+
+	private final int strength;
+
+	/**
+	 * @param strength the bcrypt work factor used for new hashes
+	 */
+	public CalibratedBCryptPasswordEncoder(int strength) {
+		super(strength);
+		this.strength = strength;
+	}
+
+	/**
+	 * @return the bcrypt work factor used for new hashes
+	 */
+	public int getStrength() {
+		return strength;
+	}
+
+	@Override
+	public boolean upgradeEncoding(String encodedPassword) {
+		if (encodedPassword == null || encodedPassword.isEmpty()) {
+			return false;
+		}
+		Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+		if (!matcher.find()) {
+			return false;
+		}
+		return Integer.parseInt(matcher.group(1)) != strength;
+	}
+}
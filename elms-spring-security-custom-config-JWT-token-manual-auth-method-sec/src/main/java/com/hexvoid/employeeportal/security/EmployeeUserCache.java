@@ -0,0 +1,124 @@
+package com.hexvoid.employeeportal.security;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.hexvoid.employeeportal.cache.CacheSupport;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Bounded, time-limited cache of {@link UserDetails} in front of {@link EmployeeUserDetailsService}.
+ *
+ * <p>Without it every authentication runs the {@code LEFT JOIN FETCH} query of
+ * {@code EmployeeCredentialsDao.findByEmail} and rebuilds the authority list and the {@code User}
+ * object. Hot users are now resolved from memory.
+ *
+ * <ul>
+ *   <li>Entries expire {@code security.user-cache.ttl} after they were loaded (10 minutes by default)
+ *       and the cache holds at most {@code security.user-cache.max-size} users.</li>
+ *   <li>{@code EmployeeSecretServiceImpl.save} (used by {@code /register/user}) and
+ *       {@code updatePassword} evict the user once their transaction commits, so password and
+ *       authority changes made through the application apply from then on. Changes made directly
+ *       in the database apply once the entry expires.</li>
+ *   <li>Hit/miss counts and load time are published to Micrometer as
+ *       {@code cache.*{cache=employeeUserDetails}}.</li>
+ * </ul>
+ *
+ * <p>Disabled by default, so every authentication loads from the database; set
+ * {@code security.user-cache.enabled=true} to turn it on. A cached entry holds the password hash and
+ * the authorities, so while it is enabled a changed or revoked authority made outside the application
+ * (directly in the database, or on another instance) is honored only after the ttl. That trade-off
+ * is left to deployments that can accept it.
+ *
+ * <p>The eviction runs after commit, as in {@code LeaveOverlapCache}. Unlike the credential-check
+ * cache of the Basic-auth module, no generation counter is needed to keep a racing load from
+ * re-caching the old row: users are loaded only through {@link #get}, which is Caffeine's atomic
+ * compute, and an invalidation of a key being loaded waits for that load and then removes its result.
+ */
+@Component
+public class EmployeeUserCache implements UserCache {
+
+	/** Name under which the cache statistics are published. */
+	public static final String CACHE_NAME = "employeeUserDetails";
+
+	private final Cache<String, UserDetails> cache;
+
+	/**
+	 * @param enabled       whether user details should be cached at all
+	 * @param ttl           how long a loaded user stays cached
+	 * @param maxSize       the maximum number of cached users
+	 * @param meterRegistry registry used to publish hit-rate and load-time metrics, if available
+	 */
+	public EmployeeUserCache(@Value("${security.user-cache.enabled:false}") boolean enabled,
+			@Value("${security.user-cache.ttl:10m}") Duration ttl,
+			@Value("${security.user-cache.max-size:10000}") long maxSize,
+			ObjectProvider<MeterRegistry> meterRegistry) {
+		this.cache = enabled
+				? CacheSupport.bounded(Caffeine.newBuilder().expireAfterWrite(ttl), maxSize, CACHE_NAME, meterRegistry)
+				: null;
+	}
+
+	/**
+	 * Returns the cached user, calling {@code loader} only on a miss. The loader's run time is
+	 * recorded as the cache load time. When the cache is disabled the loader runs on every call.
+	 *
+	 * @param username the username (email)
+	 * @param loader   loads the user from the database; its exceptions propagate unchanged
+	 * @return the user details
+	 */
+	public UserDetails get(String username, Function<String, UserDetails> loader) {
+		if (cache == null) {
+			return loader.apply(username);
+		}
+		return cache.get(username, loader);
+	}
+
+	@Override
+	public UserDetails getUserFromCache(String username) {
+		return cache != null ? cache.getIfPresent(username) : null;
+	}
+
+	@Override
+	public void putUserInCache(UserDetails user) {
+		if (cache != null) {
+			cache.put(user.getUsername(), user);
+		}
+	}
+
+	@Override
+	public void removeUserFromCache(String username) {
+		if (cache != null && username != null) {
+			cache.invalidate(username);
+		}
+	}
+
+	/**
+	 * Evicts a user once the current transaction commits, or immediately when no transaction is active.
+	 * Evicting earlier would let a concurrent authentication cache the old row again before the change
+	 * is visible.
+	 *
+	 * @param username the username (email) of the changed user
+	 */
+	public void evictAfterCommit(String username) {
+		if (cache != null && username != null) {
+			CacheSupport.afterCommit(() -> cache.invalidate(username));
+		}
+	}
+
+	/**
+	 * @return hit/miss/load statistics, or {@link CacheStats#empty()} when disabled
+	 */
+	public CacheStats stats() {
+		return cache != null ? cache.stats() : CacheStats.empty();
+	}
+}
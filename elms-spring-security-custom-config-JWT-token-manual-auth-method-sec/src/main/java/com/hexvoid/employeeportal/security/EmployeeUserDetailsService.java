@@ -8,6 +8,7 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -24,21 +25,30 @@ import com.hexvoid.employeeportal.service.EmployeeSecretServiceImpl;
  * retrieving user information from the database via {@link EmployeeSecretServiceImpl}.
  * It transforms {@link EmployeeCredentials} and associated {@link EmployeeAuthorities}
  * into Spring Security's {@link UserDetails} and {@link GrantedAuthority} objects.
+ *
+ * <p>Loaded users are kept in {@link EmployeeUserCache}, so repeat authentications of the same
+ * user skip the database query and the object conversion.
+ *
+ * <p>As a {@link UserDetailsPasswordService} it also persists re-encoded password hashes.
  */
 @Service
-public class EmployeeUserDetailsService implements UserDetailsService {
+public class EmployeeUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
 	private final EmployeeSecretServiceImpl employeeSecretService;
+	private final EmployeeUserCache employeeUserCache;
 
 	/**
 	 * Constructs the {@code EmployeeUserDetailsService} with a dependency on
 	 * {@link EmployeeSecretServiceImpl}.
 	 *
 	 * @param employeeSecretService the service responsible for fetching user credentials
+	 * @param employeeUserCache     the cache of already loaded users
 	 */
 	@Autowired
-	public EmployeeUserDetailsService(EmployeeSecretServiceImpl employeeSecretService) {
+	public EmployeeUserDetailsService(EmployeeSecretServiceImpl employeeSecretService,
+			EmployeeUserCache employeeUserCache) {
 		this.employeeSecretService = employeeSecretService;
+		this.employeeUserCache = employeeUserCache;
 	}
 
 	/**
@@ -47,6 +57,7 @@ public class EmployeeUserDetailsService implements UserDetailsService {
 	 * <p>This method is automatically invoked by Spring Security to retrieve user details.
 	 * It converts user roles into Spring Security compatible {@code GrantedAuthority}
 	 * and returns a {@code UserDetails} object for further processing.
+	 * Users are served from {@link EmployeeUserCache} when present.
 	 *
 	 * @param username the email identifier of the user trying to authenticate
 	 * @return a fully populated {@link UserDetails} object
@@ -54,6 +65,17 @@ public class EmployeeUserDetailsService implements UserDetailsService {
 	 */
 	@Override
 	public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+		return employeeUserCache.get(username, this::loadFromDatabase);
+	}
+
+	/**
+	 * Reads the user and its authorities from the database. Called on a cache miss only.
+	 *
+	 * @param username the email identifier of the user
+	 * @return the user details
+	 * @throws UsernameNotFoundException if no matching user is found
+	 */
+	private UserDetails loadFromDatabase(String username) {
 		EmployeeCredentials employeeCredentials = employeeSecretService.findByEmail(username);
 
 		if (employeeCredentials == null) {
@@ -85,4 +107,17 @@ public class EmployeeUserDetailsService implements UserDetailsService {
 
 		return new User(employeeCredentials.getEmail(), employeeCredentials.getPassword(), authorities);
 	}
+
+	/**
+	 * Persists a re-encoded password, e.g. after the bcrypt strength was raised.
+	 *
+	 * @param user        the user whose password was re-encoded
+	 * @param newPassword the new encoded password
+	 * @return the user details carrying the new password
+	 */
+	@Override
+	public UserDetails updatePassword(UserDetails user, String newPassword) {
+		employeeSecretService.rehashPassword(user.getUsername(), newPassword);
+		return User.withUserDetails(user).password(newPassword).build();
+	}
 }
@@ -9,6 +9,8 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import com.hexvoid.employeeportal.exceptionhandler.PasswordHashingOverloadedException;
+
 /**
  * Custom {@link AuthenticationProvider} implementation for manual authentication
  * using a username and password.
@@ -17,25 +19,34 @@ import org.springframework.stereotype.Component;
  * delegates user lookup to {@link EmployeeUserDetailsService}, validating the
  * provided credentials against the stored encoded password using a {@link PasswordEncoder}.
  *
+ * <p>The password comparison runs on the bounded {@link PasswordHashingExecutor}, so a login
+ * burst cannot occupy every request thread and CPU with bcrypt.
+ *
  * <p>On successful authentication, a {@link UsernamePasswordAuthenticationToken}
- * is returned with the authenticated user's authorities.
+ * is returned with the authenticated user's authorities. If the stored hash was created with a
+ * different encoding or a bcrypt strength other than the configured one, higher or lower, the
+ * password is transparently re-encoded and persisted, so the work factor can be raised or lowered
+ * without a password reset. The re-encode keeps the user's refresh tokens.
  */
 @Component
 public class EmployeeUserNamePwdAuthenticationProvider implements AuthenticationProvider {
 
 	private final EmployeeUserDetailsService userDetailsService;
 	private final PasswordEncoder passwordEncoder;
+	private final PasswordHashingExecutor passwordHashingExecutor;
 
 	/**
 	 * Constructs a new {@code EmployeeUserNamePwdAuthenticationProvider} with required dependencies.
 	 *
 	 * @param userDetailsService service to fetch user details from the database
 	 * @param passwordEncoder encoder to validate raw and encoded password
+	 * @param passwordHashingExecutor bounded executor the password comparison runs on
 	 */
 	public EmployeeUserNamePwdAuthenticationProvider(EmployeeUserDetailsService userDetailsService,
-			PasswordEncoder passwordEncoder) {
+			PasswordEncoder passwordEncoder, PasswordHashingExecutor passwordHashingExecutor) {
 		this.userDetailsService = userDetailsService;
 		this.passwordEncoder = passwordEncoder;
+		this.passwordHashingExecutor = passwordHashingExecutor;
 	}
 
 	/**
@@ -45,6 +56,8 @@ public class EmployeeUserNamePwdAuthenticationProvider implements Authentication
 	 * @param authentication the authentication request object containing credentials
 	 * @return a fully authenticated {@link UsernamePasswordAuthenticationToken} on success
 	 * @throws AuthenticationException if authentication fails due to invalid credentials
+	 * @throws com.hexvoid.employeeportal.exceptionhandler.PasswordHashingOverloadedException
+	 *         if the password-hashing queue is full
 	 */
 	@Override
 	public Authentication authenticate(Authentication authentication) throws AuthenticationException {
@@ -53,18 +66,39 @@ public class EmployeeUserNamePwdAuthenticationProvider implements Authentication
 
 		UserDetails userDetails = userDetailsService.loadUserByUsername(username);
 
-		System.out.println("User: " + username + " is trying to log in.");
-		System.out.println("DB Password: " + userDetails.getPassword());
-		System.out.println("Entered Password: " + password);
-		System.out.println("Password Match: " + passwordEncoder.matches(password, userDetails.getPassword()));
+		// Hash once, on the bounded hashing executor instead of this request thread
+		boolean passwordMatches = passwordHashingExecutor.execute(
+				() -> passwordEncoder.matches(password, userDetails.getPassword()));
 
-		if (passwordEncoder.matches(password, userDetails.getPassword())) {
+		if (passwordMatches) {
+			upgradeEncodingIfNeeded(userDetails, password);
 			return new UsernamePasswordAuthenticationToken(username, password, userDetails.getAuthorities());
 		} else {
 			throw new BadCredentialsException("Bad credentials");
 		}
 	}
 
+	/**
+	 * Re-encodes and stores the password when its hash no longer matches the current encoder
+	 * settings (e.g. a raised or lowered bcrypt strength, or a legacy format). Runs only after a successful
+	 * match, while the raw password is known. Skipped when the hashing executor is saturated; it
+	 * will be retried on a later login.
+	 *
+	 * @param userDetails the authenticated user with the stored hash
+	 * @param password    the raw password that just matched
+	 */
+	private void upgradeEncodingIfNeeded(UserDetails userDetails, String password) {
+		if (!passwordEncoder.upgradeEncoding(userDetails.getPassword())) {
+			return;
+		}
+		try {
+			String reEncoded = passwordHashingExecutor.execute(() -> passwordEncoder.encode(password));
+			userDetailsService.updatePassword(userDetails, reEncoded);
+		} catch (PasswordHashingOverloadedException e) {
+			// Login already succeeded; the upgrade is retried on the next login
+		}
+	}
+
 	/**
 	 * Indicates whether this {@code AuthenticationProvider} supports the specified
 	 * authentication type.
@@ -0,0 +1,48 @@
+package com.hexvoid.employeeportal.security;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Default {@link TokenRevocationStore} keeping revoked token ids in a map on the local node.
+ *
+ * <p>Revocations are lost on restart and are not seen by other instances; use the {@code jpa}
+ * store when more than one instance validates tokens.
+ */
+@Component
+@ConditionalOnProperty(name = "jwt.revocation.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryTokenRevocationStore implements TokenRevocationStore {
+
+	private final Map<String, Instant> expiryByTokenId = new ConcurrentHashMap<>();
+
+	@Override
+	public void revoke(String tokenId, Instant expiresAt) {
+		expiryByTokenId.merge(tokenId, expiresAt, (current, added) -> current.isAfter(added) ? current : added);
+	}
+
+	@Override
+	public boolean isRevoked(String tokenId) {
+		Instant expiresAt = expiryByTokenId.get(tokenId);
+		return expiresAt != null && Instant.now().isBefore(expiresAt);
+	}
+
+	@Override
+	public List<String> findActiveTokenIds(Instant now) {
+		return expiryByTokenId.entrySet().stream()
+				.filter(entry -> now.isBefore(entry.getValue()))
+				.map(Map.Entry::getKey)
+				.toList();
+	}
+
+	@Override
+	public int purgeExpired(Instant now) {
+		int before = expiryByTokenId.size();
+		expiryByTokenId.values().removeIf(expiresAt -> !now.isBefore(expiresAt));
+		return before - expiryByTokenId.size();
+	}
+}
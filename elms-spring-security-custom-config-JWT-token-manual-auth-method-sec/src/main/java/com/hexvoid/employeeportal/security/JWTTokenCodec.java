@@ -0,0 +1,171 @@
+package com.hexvoid.employeeportal.security;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import javax.crypto.SecretKey;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import com.hexvoid.employeeportal.constants.ApplicationConstants;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * Single place where JWT tokens are signed and parsed.
+ *
+ * <p>The HMAC {@link SecretKey} is derived from {@code jwt.secretKey} once, when the bean is
+ * created at startup, and the {@link JwtParser} built from it is reused for every request.
+ * Both objects are immutable and thread-safe, so the token filters and the {@code /api/login}
+ * endpoint all share this instance instead of re-reading the {@link Environment}, re-deriving
+ * the key and rebuilding the parser on each call.
+ *
+ * <p>{@code JwtBuilder} itself is not reusable, so issuance starts a fresh builder from the
+ * same template (issuer, subject, lifetime and key) every time.
+ *
+ * <p>The {@code authorities} claim is written and read by {@link AuthorityClaimCodec}, which can
+ * replace the comma-joined authority names with a compact bitmask.
+ *
+ * <p>Issued tokens are short-lived access tokens ({@code jwt.access-token-validity}, 15 minutes by
+ * default). Clients renew them through {@code /api/token/refresh} with the refresh token handed
+ * out by {@code /api/login}, so the password is only checked once per session.
+ */
+@Component
+public class JWTTokenCodec {
+
+	/** Identifies the token creator. */
+	private static final String ISSUER = "Hex Void";
+
+	/** General description of the token. */
+	private static final String SUBJECT = "JWT Token";
+
+	private final SecretKey secretKey;
+	private final JwtParser jwtParser;
+	private final long tokenValidityMillis;
+	private final AuthorityClaimCodec authorityClaimCodec;
+
+	/**
+	 * Resolves the secret and the access-token lifetime from the environment, falling back to
+	 * the development defaults.
+	 *
+	 * @param environment the environment holding {@link ApplicationConstants#JWT_SECRET_KEY}
+	 *                    and {@link ApplicationConstants#JWT_ACCESS_TOKEN_VALIDITY}
+	 * @param authorityClaimCodec codec for the authorities claim
+	 */
+	@Autowired
+	public JWTTokenCodec(Environment environment, AuthorityClaimCodec authorityClaimCodec) {
+		this(environment.getProperty(
+				ApplicationConstants.JWT_SECRET_KEY,
+				ApplicationConstants.JWT_DEFAULT_SECRET_VALUE),
+				environment.getProperty(
+						ApplicationConstants.JWT_ACCESS_TOKEN_VALIDITY,
+						Duration.class,
+						ApplicationConstants.JWT_DEFAULT_ACCESS_TOKEN_VALIDITY),
+				authorityClaimCodec);
+	}
+
+	/**
+	 * Creates a codec for the given raw secret with the default access-token lifetime
+	 * and the comma-joined authorities claim.
+	 *
+	 * @param secret the HMAC secret; must be at least 256 bits once UTF-8 encoded
+	 */
+	public JWTTokenCodec(String secret) {
+		this(secret, ApplicationConstants.JWT_DEFAULT_ACCESS_TOKEN_VALIDITY, AuthorityClaimCodec.commaSeparated());
+	}
+
+	/**
+	 * Creates a codec for the given raw secret, access-token lifetime and authorities claim format.
+	 *
+	 * @param secret              the HMAC secret; must be at least 256 bits once UTF-8 encoded
+	 * @param tokenValidity       how long an issued access token stays valid
+	 * @param authorityClaimCodec codec for the authorities claim
+	 */
+	public JWTTokenCodec(String secret, Duration tokenValidity, AuthorityClaimCodec authorityClaimCodec) {
+		this.tokenValidityMillis = tokenValidity.toMillis();
+		this.authorityClaimCodec = authorityClaimCodec;
+		this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+		this.jwtParser = Jwts.parser()
+				.verifyWith(secretKey)
+				.build();
+	}
+
+	/**
+	 * Issues a signed token for an authenticated principal.
+	 *
+	 * @param authentication the authenticated user
+	 * @return the compact, signed JWT
+	 */
+	public String generateToken(Authentication authentication) {
+		return generateToken(authentication.getName(), authentication.getAuthorities());
+	}
+
+	/**
+	 * Issues a signed token carrying the {@code email} and authorities claims and a random
+	 * {@code jti}, which identifies the token for revocation.
+	 *
+	 * @param email       the user's email (unique identity)
+	 * @param authorities the user's granted authorities
+	 * @return the compact, signed JWT
+	 */
+	public String generateToken(String email, Collection<? extends GrantedAuthority> authorities) {
+		Date issuedAt = new Date();
+		JwtBuilder builder = Jwts.builder()
+				.issuer(ISSUER)
+				.subject(SUBJECT)
+				.id(UUID.randomUUID().toString())
+				.claim("email", email);
+		authorityClaimCodec.writeClaim(builder, authorities);
+		return builder
+				.issuedAt(issuedAt)
+				.expiration(new Date(issuedAt.getTime() + tokenValidityMillis))
+				.signWith(secretKey)
+				.compact();
+	}
+
+	/**
+	 * Verifies the signature and expiry of a token and returns its claims. Every token issued here
+	 * has an {@code exp} claim; a token without one would never expire and is rejected.
+	 *
+	 * @param jwt the compact JWT received from the client
+	 * @return the verified claims, with a non-null expiration
+	 * @throws io.jsonwebtoken.JwtException if the token is invalid, expired, tampered, malformed or has no expiration
+	 */
+	public Claims parseClaims(String jwt) {
+		Claims claims = jwtParser.parseSignedClaims(jwt).getPayload();
+		if (claims.getExpiration() == null) {
+			throw new MalformedJwtException("JWT has no expiration");
+		}
+		return claims;
+	}
+
+	/**
+	 * Resolves the granted authorities of verified claims, in either claim format.
+	 *
+	 * @param claims claims returned by {@link #parseClaims(String)}
+	 * @return an immutable list of granted authorities
+	 */
+	public List<GrantedAuthority> parseAuthorities(Claims claims) {
+		return authorityClaimCodec.readClaim(claims);
+	}
+
+	/**
+	 * @return the lifetime of issued access tokens in seconds
+	 */
+	public long getTokenValiditySeconds() {
+		return tokenValidityMillis / 1000;
+	}
+}
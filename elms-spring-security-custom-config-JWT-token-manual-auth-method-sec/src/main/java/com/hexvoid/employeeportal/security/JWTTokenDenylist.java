@@ -0,0 +1,95 @@
+package com.hexvoid.employeeportal.security;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Revocation check for JWT access tokens, consulted by {@code JWTTokenValidatorFilter} on every request.
+ *
+ * <p>Revoked token ids ({@code jti}) live in a pluggable {@link TokenRevocationStore}. In front of it sits
+ * an in-memory {@link BloomFilter} holding every active revocation, so the common case, a token that
+ * was never revoked, is answered with a few hash probes and no map or database lookup. Only a filter
+ * hit (a revoked token or a rare false positive) reaches the store.
+ *
+ * <p>A Bloom filter cannot forget entries, so it is rebuilt from the store every
+ * {@code jwt.revocation.rebuild-interval}. The rebuild drops revocations whose token has expired and,
+ * with the {@code jpa} store, picks up revocations made on other instances; that interval is therefore
+ * the longest a token revoked elsewhere may still be accepted here. Revocations made on this instance
+ * take effect immediately.
+ *
+ * <p>Tokens without a {@code jti} claim (issued before revocation support) cannot be revoked and simply
+ * run out at their {@code exp}.
+ */
+@Component
+public class JWTTokenDenylist {
+
+	private static final Logger logger = LoggerFactory.getLogger(JWTTokenDenylist.class);
+
+	private final TokenRevocationStore store;
+	private final long expectedRevocations;
+	private final double falsePositiveRate;
+
+	private volatile BloomFilter bloomFilter;
+
+	/**
+	 * @param store               where revocations are persisted
+	 * @param expectedRevocations number of active revocations the Bloom filter is sized for
+	 * @param falsePositiveRate   target share of non-revoked tokens that still hit the store
+	 */
+	public JWTTokenDenylist(TokenRevocationStore store,
+			@Value("${jwt.revocation.expected-revocations:10000}") long expectedRevocations,
+			@Value("${jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate) {
+		this.store = store;
+		this.expectedRevocations = expectedRevocations;
+		this.falsePositiveRate = falsePositiveRate;
+		rebuild();
+	}
+
+	/**
+	 * Revokes a token until its expiry.
+	 *
+	 * @param tokenId   the {@code jti} claim
+	 * @param expiresAt the {@code exp} claim
+	 */
+	public synchronized void revoke(String tokenId, Instant expiresAt) {
+		if (tokenId == null || !Instant.now().isBefore(expiresAt)) {
+			return;
+		}
+		store.revoke(tokenId, expiresAt);
+		bloomFilter.put(tokenId);
+	}
+
+	/**
+	 * @param tokenId the {@code jti} claim, may be {@code null}
+	 * @return {@code true} if the token has been revoked
+	 */
+	public boolean isRevoked(String tokenId) {
+		if (tokenId == null || !bloomFilter.mightContain(tokenId)) {
+			return false;
+		}
+		return store.isRevoked(tokenId);
+	}
+
+	/**
+	 * Purges expired revocations and replaces the Bloom filter with one built from the remaining ones.
+	 * Synchronized with {@link #revoke} so no revocation can slip between the store snapshot and the swap.
+	 */
+	@Scheduled(fixedDelayString = "${jwt.revocation.rebuild-interval:PT1M}",
+			initialDelayString = "${jwt.revocation.rebuild-interval:PT1M}")
+	public synchronized void rebuild() {
+		Instant now = Instant.now();
+		store.purgeExpired(now);
+		List<String> active = store.findActiveTokenIds(now);
+		// Keep headroom so revocations made until the next rebuild do not push past the target rate.
+		BloomFilter rebuilt = new BloomFilter(Math.max(expectedRevocations, 2L * active.size()), falsePositiveRate);
+		active.forEach(rebuilt::put);
+		bloomFilter = rebuilt;
+		logger.debug("Rebuilt JWT revocation filter with {} active revocations", active.size());
+	}
+}
@@ -0,0 +1,151 @@
+package com.hexvoid.employeeportal.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.hexvoid.employeeportal.cache.CacheSupport;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Opt-in cache of already verified JWT tokens.
+ *
+ * <p>Clients resend the same token on every call until it expires, yet each request used to
+ * base64-decode, HMAC-verify and JSON-parse it again. When enabled, the first successful
+ * verification stores the resolved username and the parsed authority list, and repeat requests
+ * with the same token are answered from memory without any crypto or JSON work.
+ *
+ * <ul>
+ *   <li>Keys are a SHA-256 digest of the raw token, so bearer tokens are never kept in the heap.</li>
+ *   <li>The cache is bounded by {@code jwt.verified-token-cache.max-size}.</li>
+ *   <li>Each entry expires at the token's own {@code exp} claim and is never served after it.</li>
+ *   <li>Only the verification is cached: revocation is still checked on every request.</li>
+ *   <li>Hit, miss and eviction counts are published to Micrometer as {@code cache.*{cache=jwtVerifiedTokens}}.</li>
+ * </ul>
+ *
+ * <p>Disabled by default; set {@code jwt.verified-token-cache.enabled=true} to turn it on.
+ */
+@Component
+public class JWTVerifiedTokenCache {
+
+	/** Name under which the cache statistics are published. */
+	public static final String CACHE_NAME = "jwtVerifiedTokens";
+
+	/**
+	 * Result of a successful token verification.
+	 *
+	 * @param tokenId         the {@code jti} claim, {@code null} for tokens issued without one
+	 * @param username        the {@code email} claim
+	 * @param authorities     the parsed, immutable {@code authorities} claim
+	 * @param expiresAtMillis the {@code exp} claim in epoch milliseconds
+	 */
+	public record VerifiedToken(String tokenId, String username, List<GrantedAuthority> authorities,
+			long expiresAtMillis) {
+
+		public VerifiedToken {
+			authorities = List.copyOf(authorities);
+		}
+
+		boolean isExpired() {
+			return System.currentTimeMillis() >= expiresAtMillis;
+		}
+	}
+
+	private final Cache<String, VerifiedToken> cache;
+
+	/**
+	 * @param enabled       whether verified tokens should be cached at all
+	 * @param maxSize       the maximum number of cached tokens
+	 * @param meterRegistry registry used to publish hit/miss/eviction metrics, if available
+	 */
+	public JWTVerifiedTokenCache(@Value("${jwt.verified-token-cache.enabled:false}") boolean enabled,
+			@Value("${jwt.verified-token-cache.max-size:10000}") long maxSize,
+			ObjectProvider<MeterRegistry> meterRegistry) {
+		this.cache = enabled
+				? CacheSupport.bounded(Caffeine.newBuilder().expireAfter(new ExpireAtTokenExpiry()), maxSize,
+						CACHE_NAME, meterRegistry)
+				: null;
+	}
+
+	/**
+	 * Returns the verified form of a token, calling {@code verifier} only on a cache miss.
+	 * When the cache is disabled the verifier runs on every call.
+	 *
+	 * @param jwt      the raw token from the request header
+	 * @param verifier verifies the token and builds the {@link VerifiedToken}; its exceptions propagate unchanged
+	 * @return the verified token details
+	 */
+	public VerifiedToken get(String jwt, Function<String, VerifiedToken> verifier) {
+		if (cache == null) {
+			return verifier.apply(jwt);
+		}
+		String key = digest(jwt);
+		VerifiedToken verifiedToken = cache.get(key, k -> verifier.apply(jwt));
+		if (verifiedToken.isExpired()) {
+			// Expiry is enforced by Caffeine, this only guards the boundary between two clock reads.
+			cache.invalidate(key);
+			return verifier.apply(jwt);
+		}
+		return verifiedToken;
+	}
+
+	/**
+	 * @return {@code true} if caching is enabled
+	 */
+	public boolean isEnabled() {
+		return cache != null;
+	}
+
+	/**
+	 * @return hit/miss/eviction statistics, or {@link CacheStats#empty()} when disabled
+	 */
+	public CacheStats stats() {
+		return cache != null ? cache.stats() : CacheStats.empty();
+	}
+
+	private static String digest(String jwt) {
+		try {
+			byte[] hash = MessageDigest.getInstance("SHA-256").digest(jwt.getBytes(StandardCharsets.UTF_8));
+			return Base64.getEncoder().withoutPadding().encodeToString(hash);
+		} catch (NoSuchAlgorithmException e) {
+			// SHA-256 is mandatory on every Java platform.
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Expires every entry exactly at its token's {@code exp} claim.
+	 */
+	private static final class ExpireAtTokenExpiry implements Expiry<String, VerifiedToken> {
+
+		@Override
+		public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+			long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+			return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+		}
+
+		@Override
+		public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+			return expireAfterCreate(key, value, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
@@ -0,0 +1,49 @@
+package com.hexvoid.employeeportal.security;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.hexvoid.employeeportal.dao.RevokedTokenDao;
+import com.hexvoid.employeeportal.entity.RevokedToken;
+
+import jakarta.transaction.Transactional;
+
+/**
+ * {@link TokenRevocationStore} backed by the shared {@code revoked_tokens} table, so a token revoked
+ * on one instance is rejected by all of them (after their next Bloom filter rebuild).
+ */
+@Component
+@ConditionalOnProperty(name = "jwt.revocation.store", havingValue = "jpa")
+public class JpaTokenRevocationStore implements TokenRevocationStore {
+
+	private final RevokedTokenDao revokedTokenDao;
+
+	public JpaTokenRevocationStore(RevokedTokenDao revokedTokenDao) {
+		this.revokedTokenDao = revokedTokenDao;
+	}
+
+	@Override
+	@Transactional
+	public void revoke(String tokenId, Instant expiresAt) {
+		revokedTokenDao.save(new RevokedToken(tokenId, expiresAt));
+	}
+
+	@Override
+	public boolean isRevoked(String tokenId) {
+		return revokedTokenDao.existsActive(tokenId, Instant.now());
+	}
+
+	@Override
+	public List<String> findActiveTokenIds(Instant now) {
+		return revokedTokenDao.findActiveTokenIds(now);
+	}
+
+	@Override
+	@Transactional
+	public int purgeExpired(Instant now) {
+		return revokedTokenDao.deleteExpired(now);
+	}
+}
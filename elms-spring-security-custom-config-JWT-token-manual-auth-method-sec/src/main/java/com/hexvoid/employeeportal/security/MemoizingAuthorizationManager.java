@@ -0,0 +1,191 @@
+package com.hexvoid.employeeportal.security;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.SpelNode;
+import org.springframework.expression.spel.ast.BooleanLiteral;
+import org.springframework.expression.spel.ast.MethodReference;
+import org.springframework.expression.spel.ast.OpAnd;
+import org.springframework.expression.spel.ast.OpOr;
+import org.springframework.expression.spel.ast.OperatorNot;
+import org.springframework.expression.spel.ast.PropertyOrFieldReference;
+import org.springframework.expression.spel.ast.StringLiteral;
+import org.springframework.expression.spel.standard.SpelExpression;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hexvoid.employeeportal.cache.CacheSupport;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * {@code @PreAuthorize} authorization manager that remembers decisions per method and list of
+ * authorities, so a rule such as {@code hasAuthority('VIEW')} is evaluated once per distinct
+ * combination of authorities instead of on every call.
+ *
+ * <p>Only rules that are pure functions of the caller's authorities are cached: combinations of
+ * {@code hasAuthority}, {@code hasAnyAuthority}, {@code hasRole} and {@code hasAnyRole} with string
+ * literal arguments, {@code permitAll}, {@code denyAll}, {@code and}, {@code or} and {@code not}.
+ * Any other rule, e.g. one reading a method argument ({@code #id}), the principal or a bean, is
+ * evaluated by the delegate on every call. {@code @PostAuthorize} rules are never routed here.
+ *
+ * <ul>
+ *   <li>The cache holds at most {@code security.method-authorization-cache.max-size} decisions.
+ *       Entries never go stale: the rules are fixed at startup and the key carries the full list of
+ *       authorities, so a user whose authorities change simply maps to another entry.</li>
+ *   <li>The key holds the {@link Authentication#getAuthorities()} collection itself and compares it
+ *       by its elements, so a cache hit allocates no copy of the authorities. The same authorities in
+ *       another order map to another entry; tokens of one user list them in a stable order.</li>
+ *   <li>Hit/miss counts are published to Micrometer as {@code cache.*{cache=methodAuthorization}};
+ *       this class is a {@link MeterBinder} because it is created before the meter registry.</li>
+ * </ul>
+ *
+ * <p>Disabled by default; set {@code security.method-authorization-cache.enabled=true} to turn it on.
+ */
+public class MemoizingAuthorizationManager implements AuthorizationManager<MethodInvocation>, MeterBinder {
+
+	/** Name under which the cache statistics are published. */
+	public static final String CACHE_NAME = "methodAuthorization";
+
+	/** Methods of the expression root whose result only depends on the authorities. */
+	private static final Set<String> AUTHORITY_METHODS = Set.of("hasAuthority", "hasAnyAuthority", "hasRole", "hasAnyRole");
+
+	/** Properties of the expression root with a constant value. */
+	private static final Set<String> CONSTANT_PROPERTIES = Set.of("permitAll", "denyAll");
+
+	private final AuthorizationManager<MethodInvocation> delegate;
+	private final ExpressionParser expressionParser;
+	private final Cache<DecisionKey, AuthorizationDecision> cache;
+
+	/** Whether the {@code @PreAuthorize} rule of a method only depends on the authorities. */
+	private final Map<MethodKey, Boolean> authorityOnly = new ConcurrentHashMap<>();
+
+	/**
+	 * @param delegate         evaluates the {@code @PreAuthorize} rules
+	 * @param expressionParser parser the delegate uses, to inspect the rules
+	 * @param enabled          whether decisions should be cached at all
+	 * @param maxSize          the maximum number of cached decisions
+	 */
+	public MemoizingAuthorizationManager(AuthorizationManager<MethodInvocation> delegate,
+			ExpressionParser expressionParser, boolean enabled, long maxSize) {
+		this.delegate = delegate;
+		this.expressionParser = expressionParser;
+		this.cache = enabled ? CacheSupport.bounded(Caffeine.newBuilder(), maxSize) : null;
+	}
+
+	@Override
+	public AuthorizationDecision check(Supplier<Authentication> authentication, MethodInvocation invocation) {
+		if (cache == null) {
+			return delegate.check(authentication, invocation);
+		}
+		Class<?> targetClass = invocation.getThis() != null
+				? AopUtils.getTargetClass(invocation.getThis())
+				: invocation.getMethod().getDeclaringClass();
+		MethodKey method = new MethodKey(invocation.getMethod(), targetClass);
+		if (!authorityOnly.computeIfAbsent(method, this::isAuthorityOnly)) {
+			return delegate.check(authentication, invocation);
+		}
+		Authentication current = authentication.get();
+		if (!hasNamedAuthorities(current)) {
+			return delegate.check(() -> current, invocation);
+		}
+		DecisionKey key = new DecisionKey(method, current.getAuthorities());
+		AuthorizationDecision decision = cache.getIfPresent(key);
+		if (decision == null) {
+			decision = delegate.check(() -> current, invocation);
+			cache.put(key, decision);
+		}
+		return decision;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		if (cache != null) {
+			CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+		}
+	}
+
+	/**
+	 * Finds the {@code @PreAuthorize} rule the delegate applies to a method, on the method, the
+	 * interface method it implements or the class, and checks that it only reads authorities.
+	 */
+	private boolean isAuthorityOnly(MethodKey key) {
+		Method method = AopUtils.getMostSpecificMethod(key.method(), key.targetClass());
+		PreAuthorize preAuthorize = AnnotatedElementUtils.findMergedAnnotation(method, PreAuthorize.class);
+		if (preAuthorize == null) {
+			preAuthorize = AnnotatedElementUtils.findMergedAnnotation(key.targetClass(), PreAuthorize.class);
+		}
+		if (preAuthorize == null) {
+			return false;
+		}
+		Expression expression = expressionParser.parseExpression(preAuthorize.value());
+		return expression instanceof SpelExpression spel && isAuthorityOnly(spel.getAST());
+	}
+
+	private static boolean isAuthorityOnly(SpelNode node) {
+		if (node instanceof MethodReference call) {
+			if (!AUTHORITY_METHODS.contains(call.getName())) {
+				return false;
+			}
+			for (int i = 0; i < node.getChildCount(); i++) {
+				if (!(node.getChild(i) instanceof StringLiteral)) {
+					return false;
+				}
+			}
+			return true;
+		}
+		if (node instanceof PropertyOrFieldReference property) {
+			return CONSTANT_PROPERTIES.contains(property.getName());
+		}
+		if (node instanceof OpAnd || node instanceof OpOr || node instanceof OperatorNot) {
+			for (int i = 0; i < node.getChildCount(); i++) {
+				if (!isAuthorityOnly(node.getChild(i))) {
+					return false;
+				}
+			}
+			return true;
+		}
+		return node instanceof BooleanLiteral;
+	}
+
+	/**
+	 * @return whether the authorities can serve as a key: every one of them has a name
+	 */
+	private static boolean hasNamedAuthorities(Authentication authentication) {
+		if (authentication == null) {
+			return false;
+		}
+		for (GrantedAuthority authority : authentication.getAuthorities()) {
+			if (authority.getAuthority() == null) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private record MethodKey(Method method, Class<?> targetClass) {
+	}
+
+	/**
+	 * @param authorities the authorities as the {@link Authentication} holds them, read-only
+	 */
+	private record DecisionKey(MethodKey method, Collection<? extends GrantedAuthority> authorities) {
+	}
+}
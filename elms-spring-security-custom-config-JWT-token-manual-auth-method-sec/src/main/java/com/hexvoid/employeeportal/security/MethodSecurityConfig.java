@@ -0,0 +1,126 @@
+package com.hexvoid.employeeportal.security;
+
+import java.util.function.Supplier;
+
+import org.springframework.aop.Advisor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.access.expression.method.MethodSecurityExpressionHandler;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.ObservationAuthorizationManager;
+import org.springframework.security.authorization.method.AuthorizationManagerAfterMethodInterceptor;
+import org.springframework.security.authorization.method.AuthorizationManagerBeforeMethodInterceptor;
+import org.springframework.security.authorization.method.MethodInvocationResult;
+import org.springframework.security.authorization.method.PostAuthorizeAuthorizationManager;
+import org.springframework.security.authorization.method.PostFilterAuthorizationMethodInterceptor;
+import org.springframework.security.authorization.method.PreAuthorizeAuthorizationManager;
+import org.springframework.util.function.SingletonSupplier;
+
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * Method security for {@code @PreAuthorize}, {@code @PostAuthorize} and {@code @PostFilter}.
+ *
+ * <p>These interceptors are declared here instead of by {@code @EnableMethodSecurity}, which runs with
+ * {@code prePostEnabled = false}, so that {@code @PreAuthorize} can go through
+ * {@link MemoizingAuthorizationManager}. Apart from that they are the ones Spring Security would
+ * register: same order, same expression handler, and each authorization is still observed
+ * ({@code spring.security.authorizations}) when an {@link ObservationRegistry} is available.
+ *
+ * <p>{@code @PreFilter} is not registered: it dropped invalid input silently, so bulk endpoints
+ * validate each row themselves and report it by its position in the request.
+ *
+ * <p>The beans are static and infrastructure-role, as recommended for method security
+ * advisors, so they are created before the beans they advise.
+ */
+@Configuration(proxyBeanMethods = false)
+public class MethodSecurityConfig {
+
+	/**
+	 * Expression handler for the method security annotations.
+	 *
+	 * <p>Same as the default handler, except that its SpEL parser compiles expressions to bytecode
+	 * ({@code security.method-expressions.compiler-mode}, default {@code MIXED}). A {@code @PostFilter}
+	 * expression is evaluated once per collection element; once compiled, each
+	 * evaluation is a direct method call instead of a walk of the interpreted expression tree. In
+	 * {@code MIXED} mode an expression that cannot be compiled, or whose compiled form fails, keeps being
+	 * interpreted, so behaviour is unchanged; {@code OFF} disables compilation.
+	 *
+	 * @param compilerMode SpEL compiler mode for method security expressions
+	 * @return the method security expression handler
+	 */
+	@Bean
+	@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+	static MethodSecurityExpressionHandler methodSecurityExpressionHandler(
+			@Value("${security.method-expressions.compiler-mode:MIXED}") SpelCompilerMode compilerMode) {
+		DefaultMethodSecurityExpressionHandler handler = new DefaultMethodSecurityExpressionHandler();
+		handler.setExpressionParser(new SpelExpressionParser(
+				new SpelParserConfiguration(compilerMode, MethodSecurityConfig.class.getClassLoader())));
+		return handler;
+	}
+
+	/**
+	 * The {@code @PreAuthorize} decision maker, caching the decisions of rules that only check authorities.
+	 *
+	 * @param expressionHandler handler evaluating the rules
+	 * @param enabled           whether decisions should be cached
+	 * @param maxSize           the maximum number of cached decisions
+	 * @return the memoizing authorization manager
+	 */
+	@Bean
+	@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+	static MemoizingAuthorizationManager preAuthorizeAuthorizationManager(MethodSecurityExpressionHandler expressionHandler,
+			@Value("${security.method-authorization-cache.enabled:false}") boolean enabled,
+			@Value("${security.method-authorization-cache.max-size:1000}") long maxSize) {
+		PreAuthorizeAuthorizationManager preAuthorize = new PreAuthorizeAuthorizationManager();
+		preAuthorize.setExpressionHandler(expressionHandler);
+		return new MemoizingAuthorizationManager(preAuthorize, expressionHandler.getExpressionParser(), enabled, maxSize);
+	}
+
+	@Bean
+	@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+	static Advisor preAuthorizeAuthorizationMethodInterceptor(MemoizingAuthorizationManager preAuthorizeAuthorizationManager,
+			ObjectProvider<ObservationRegistry> observationRegistry) {
+		return AuthorizationManagerBeforeMethodInterceptor.preAuthorize(
+				observed(preAuthorizeAuthorizationManager, observationRegistry));
+	}
+
+	@Bean
+	@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+	static Advisor postAuthorizeAuthorizationMethodInterceptor(MethodSecurityExpressionHandler expressionHandler,
+			ObjectProvider<ObservationRegistry> observationRegistry) {
+		PostAuthorizeAuthorizationManager postAuthorize = new PostAuthorizeAuthorizationManager();
+		postAuthorize.setExpressionHandler(expressionHandler);
+		return AuthorizationManagerAfterMethodInterceptor.postAuthorize(
+				MethodSecurityConfig.<MethodInvocationResult>observed(postAuthorize, observationRegistry));
+	}
+
+	@Bean
+	@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+	static Advisor postFilterAuthorizationMethodInterceptor(MethodSecurityExpressionHandler expressionHandler) {
+		PostFilterAuthorizationMethodInterceptor postFilter = new PostFilterAuthorizationMethodInterceptor();
+		postFilter.setExpressionHandler(expressionHandler);
+		return postFilter;
+	}
+
+	/**
+	 * Wraps a manager so each check is observed. The registry is looked up on the first check, not
+	 * here, so it is not created before its observation handlers are registered.
+	 */
+	private static <T> AuthorizationManager<T> observed(AuthorizationManager<T> manager,
+			ObjectProvider<ObservationRegistry> observationRegistry) {
+		Supplier<AuthorizationManager<T>> observedManager = SingletonSupplier.of(() -> {
+			ObservationRegistry registry = observationRegistry.getIfUnique(() -> ObservationRegistry.NOOP);
+			return registry.isNoop() ? manager : new ObservationAuthorizationManager<>(registry, manager);
+		});
+		return (authentication, object) -> observedManager.get().check(authentication, object);
+	}
+}
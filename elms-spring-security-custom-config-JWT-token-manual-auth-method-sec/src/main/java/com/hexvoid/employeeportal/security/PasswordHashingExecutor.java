@@ -0,0 +1,118 @@
+package com.hexvoid.employeeportal.security;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
+import org.springframework.stereotype.Component;
+
+import com.hexvoid.employeeportal.exceptionhandler.PasswordHashingOverloadedException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Bounded executor for password-hash verification.
+ *
+ * <p>bcrypt is deliberately CPU-heavy. Running it directly on Tomcat threads lets a login burst
+ * occupy every servlet thread and every core, starving cheap endpoints such as {@code /api/employee}.
+ * Here the hashing runs on at most {@code security.password-hashing.threads} threads (the CPU count
+ * by default) behind a queue of {@code security.password-hashing.queue-capacity} pending checks.
+ * The calling request thread waits for its own check only; when the queue is full the check is
+ * rejected immediately with {@link PasswordHashingOverloadedException}, which becomes
+ * {@code 503 Service Unavailable} with a {@code Retry-After} header.
+ *
+ * <p>Metrics:
+ * <ul>
+ *   <li>{@code auth.password.hashing.queue.depth} - checks waiting for a thread</li>
+ *   <li>{@code auth.password.hashing.wait} - time a check spent in the queue</li>
+ *   <li>{@code auth.password.hashing.rejected} - checks rejected because the queue was full</li>
+ * </ul>
+ */
+@Component
+public class PasswordHashingExecutor implements DisposableBean {
+
+	private final ThreadPoolExecutor executor;
+	private final long retryAfterSeconds;
+	private final Timer waitTimer;
+	private final Counter rejectedCounter;
+
+	/**
+	 * @param threads       number of hashing threads; {@code 0} means one per available CPU
+	 * @param queueCapacity maximum number of checks waiting for a thread
+	 * @param retryAfter    value of the {@code Retry-After} header sent when the queue is full
+	 * @param meterRegistry registry used to publish queue metrics, if available
+	 */
+	public PasswordHashingExecutor(@Value("${security.password-hashing.threads:0}") int threads,
+			@Value("${security.password-hashing.queue-capacity:64}") int queueCapacity,
+			@Value("${security.password-hashing.retry-after:1s}") Duration retryAfter,
+			ObjectProvider<MeterRegistry> meterRegistry) {
+		int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+		this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity),
+				new CustomizableThreadFactory("password-hashing-"),
+				new ThreadPoolExecutor.AbortPolicy());
+		this.retryAfterSeconds = Math.max(1, retryAfter.toSeconds());
+
+		MeterRegistry registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+		Gauge.builder("auth.password.hashing.queue.depth", executor, e -> e.getQueue().size())
+				.description("Password checks waiting for a hashing thread")
+				.register(registry);
+		this.waitTimer = Timer.builder("auth.password.hashing.wait")
+				.description("Time a password check waited in the queue")
+				.register(registry);
+		this.rejectedCounter = Counter.builder("auth.password.hashing.rejected")
+				.description("Password checks rejected because the queue was full")
+				.register(registry);
+	}
+
+	/**
+	 * Runs a hashing task on the hashing executor and waits for its result.
+	 *
+	 * @param <T>         the result type
+	 * @param hashingTask the task, typically {@code passwordEncoder.matches(raw, encoded)}
+	 * @return the result of the task
+	 * @throws PasswordHashingOverloadedException if the queue is full
+	 */
+	public <T> T execute(Callable<T> hashingTask) {
+		long submittedAt = System.nanoTime();
+		Future<T> result;
+		try {
+			result = executor.submit(() -> {
+				waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+				return hashingTask.call();
+			});
+		} catch (RejectedExecutionException e) {
+			rejectedCounter.increment();
+			throw new PasswordHashingOverloadedException(retryAfterSeconds);
+		}
+
+		try {
+			return result.get();
+		} catch (InterruptedException e) {
+			result.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new InternalAuthenticationServiceException("Interrupted while hashing password", e);
+		} catch (ExecutionException e) {
+			throw new InternalAuthenticationServiceException("Password hashing failed", e.getCause());
+		}
+	}
+
+	@Override
+	public void destroy() {
+		executor.shutdownNow();
+	}
+}
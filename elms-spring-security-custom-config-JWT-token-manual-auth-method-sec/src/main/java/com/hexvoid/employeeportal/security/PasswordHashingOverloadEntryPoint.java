@@ -0,0 +1,55 @@
+package com.hexvoid.employeeportal.security;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.authentication.www.BasicAuthenticationEntryPoint;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hexvoid.employeeportal.exceptionhandler.ExceptionHandlerEntity;
+import com.hexvoid.employeeportal.exceptionhandler.PasswordHashingOverloadedException;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Entry point of HTTP Basic authentication.
+ *
+ * <p>Failed credentials get the usual {@code 401} with a {@code WWW-Authenticate} challenge. A
+ * {@link PasswordHashingOverloadedException} is not a wrong password, so it gets the same
+ * {@code 503 Service Unavailable} with a {@code Retry-After} header that {@code /api/login} returns,
+ * and the client retries instead of prompting for credentials again.
+ */
+public class PasswordHashingOverloadEntryPoint extends BasicAuthenticationEntryPoint {
+
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * @param objectMapper writes the error body, shaped like the responses of {@code ExceptionHandlerGlobal}
+	 */
+	public PasswordHashingOverloadEntryPoint(ObjectMapper objectMapper) {
+		this.objectMapper = objectMapper;
+		setRealmName("Realm");
+	}
+
+	@Override
+	public void commence(HttpServletRequest request, HttpServletResponse response,
+			AuthenticationException authException) throws IOException {
+		if (!(authException instanceof PasswordHashingOverloadedException overloaded)) {
+			super.commence(request, response, authException);
+			return;
+		}
+		ExceptionHandlerEntity errorResponse = new ExceptionHandlerEntity();
+		errorResponse.setMessage(overloaded.getMessage());
+		errorResponse.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+		errorResponse.setTimeStamp(System.currentTimeMillis());
+
+		response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+		response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(overloaded.getRetryAfterSeconds()));
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		objectMapper.writeValue(response.getOutputStream(), errorResponse);
+	}
+}
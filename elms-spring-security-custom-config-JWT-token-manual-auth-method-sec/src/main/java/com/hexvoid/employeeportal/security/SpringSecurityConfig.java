@@ -1,22 +1,32 @@
 package com.hexvoid.employeeportal.security;
 
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
 import javax.sql.DataSource;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.ProviderManager;
-import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.provisioning.JdbcUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hexvoid.employeeportal.dao.EmployeeCredentialsDao;
 import com.hexvoid.employeeportal.filter.AuthoritiesLoggingAfterFilter;
 import com.hexvoid.employeeportal.filter.AuthoritiesLoggingAtFilter;
 import com.hexvoid.employeeportal.filter.JWTTokenGeneratorFilter;
@@ -26,6 +36,8 @@ import com.hexvoid.employeeportal.filter.RequestValidationBeforeFilter;
 @Configuration
 public class SpringSecurityConfig {
 
+	private static final Logger logger = LoggerFactory.getLogger(SpringSecurityConfig.class);
+
 
 	/**
 	 * Configures a {@link JdbcUserDetailsManager} for JDBC-based authentication.
@@ -77,13 +89,74 @@ public class SpringSecurityConfig {
 	 * This encoder supports multiple encoding formats and automatically chooses the appropriate one
 	 * based on a prefix in the stored password (e.g., {bcrypt}).
 	 *
-	 * <p>It is a secure, flexible approach to password encoding and is the recommended strategy in Spring Security.
+	 * <p>New passwords are hashed with bcrypt at {@code security.password-encoder.bcrypt-strength}, the
+	 * same on every node. Stored bcrypt hashes with any other strength, lower or higher, and hashes in any
+	 * other format, are re-encoded on the next successful login (see {@link EmployeeUserNamePwdAuthenticationProvider}).
+	 * Every other id of {@link PasswordEncoderFactories#createDelegatingPasswordEncoder()} (pbkdf2,
+	 * scrypt, argon2, ...) is still verified by the factory's encoder.
+	 *
+	 * <p>With {@code security.password-encoder.bcrypt-calibrate=true}, {@link BCryptWorkFactorCalibrator}
+	 * additionally benchmarks this hardware at startup and logs the strength that would fit
+	 * {@code security.password-encoder.bcrypt-target-latency}, as a hint for choosing the setting.
 	 *
+	 * @param strength      bcrypt strength for new hashes
+	 * @param calibrate     whether to benchmark and log a recommended strength at startup
+	 * @param targetLatency target time for one bcrypt hash when calibrating
+	 * @param minStrength   lowest strength calibration may recommend
+	 * @param maxStrength   highest strength calibration may recommend
 	 * @return a delegating password encoder supporting various encoding schemes
 	 */
 	@Bean
-	PasswordEncoder passwordEncoder() {
-		return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+	PasswordEncoder passwordEncoder(@Value("${security.password-encoder.bcrypt-strength:10}") int strength,
+			@Value("${security.password-encoder.bcrypt-calibrate:false}") boolean calibrate,
+			@Value("${security.password-encoder.bcrypt-target-latency:250ms}") Duration targetLatency,
+			@Value("${security.password-encoder.bcrypt-min-strength:10}") int minStrength,
+			@Value("${security.password-encoder.bcrypt-max-strength:14}") int maxStrength) {
+		if (calibrate) {
+			int recommended = BCryptWorkFactorCalibrator.calibrate(targetLatency, minStrength, maxStrength);
+			if (recommended != strength) {
+				logger.warn("security.password-encoder.bcrypt-strength is {}, calibration recommends {} on this hardware",
+						strength, recommended);
+			}
+		}
+
+		DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder("bcrypt",
+				Map.of("bcrypt", new CalibratedBCryptPasswordEncoder(strength)));
+		// Hashes with another id are checked by the stock encoder, which knows every id Spring Security supports
+		passwordEncoder.setDefaultPasswordEncoderForMatches(PasswordEncoderFactories.createDelegatingPasswordEncoder());
+		return passwordEncoder;
+	}
+
+
+
+	/**
+	 * Codec for the JWT authorities claim.
+	 *
+	 * <p>With {@code jwt.authorities-claim.compact=true} tokens carry a bitmask over
+	 * {@code jwt.authorities-claim.known} instead of the comma-joined authority names. The stored
+	 * authorities are checked against that list at startup, since users holding an unlisted
+	 * authority silently fall back to the longer claim.
+	 *
+	 * @param compact                 whether new tokens should use the bitmask claim
+	 * @param knownAuthorities        ordered, append-only list of authorities; the index is the bit position
+	 * @param employeeCredentialsDao  used to list the authorities actually stored
+	 * @return the authorities claim codec
+	 */
+	@Bean
+	AuthorityClaimCodec authorityClaimCodec(@Value("${jwt.authorities-claim.compact:false}") boolean compact,
+			@Value("${jwt.authorities-claim.known:VIEW,UPDATE,DELETE,ROLE_ADMIN,ROLE_EMPLOYEE}") List<String> knownAuthorities,
+			EmployeeCredentialsDao employeeCredentialsDao) {
+		AuthorityClaimCodec codec = new AuthorityClaimCodec(compact, knownAuthorities);
+		if (compact) {
+			List<String> unknown = employeeCredentialsDao.findDistinctAuthorities().stream()
+					.filter(authority -> !knownAuthorities.contains(authority))
+					.toList();
+			if (!unknown.isEmpty()) {
+				logger.warn("Authorities {} are missing from jwt.authorities-claim.known; tokens holding them "
+						+ "keep the comma-separated claim", unknown);
+			}
+		}
+		return codec;
 	}
 
 
@@ -101,14 +174,16 @@ public class SpringSecurityConfig {
 	 *
 	 * @param employeeUserDetailsService the custom user details service for loading user data
 	 * @param passwordEncoder the encoder used to verify passwords securely
+	 * @param passwordHashingExecutor the bounded executor password checks run on
 	 * @return a fully configured {@code AuthenticationManager} bean
 	 */
 	@Bean
 	AuthenticationManager authenticationManager(EmployeeUserDetailsService employeeUserDetailsService,
-			PasswordEncoder passwordEncoder)
+			PasswordEncoder passwordEncoder, PasswordHashingExecutor passwordHashingExecutor)
 	{
 		EmployeeUserNamePwdAuthenticationProvider authProvider =
-				new EmployeeUserNamePwdAuthenticationProvider(employeeUserDetailsService, passwordEncoder);
+				new EmployeeUserNamePwdAuthenticationProvider(employeeUserDetailsService, passwordEncoder,
+						passwordHashingExecutor);
 
 		ProviderManager providerManager = new ProviderManager(authProvider);
 		//default value is true in spring implementation
@@ -132,7 +207,9 @@ public class SpringSecurityConfig {
 	 */
 
 	@Bean
-	SecurityFilterChain chain(HttpSecurity http) throws Exception {
+	SecurityFilterChain chain(HttpSecurity http, JWTTokenCodec jwtTokenCodec,
+			JWTVerifiedTokenCache verifiedTokenCache, JWTTokenDenylist tokenDenylist,
+			ObjectMapper objectMapper) throws Exception {
 
 
 		http.authorizeHttpRequests(customizer ->customizer
@@ -142,6 +219,8 @@ public class SpringSecurityConfig {
 
 				// Login and Registration endpoints
 				.requestMatchers("/api/login").permitAll()
+				.requestMatchers(HttpMethod.POST, "/api/token/refresh").permitAll()
+				.requestMatchers(HttpMethod.POST, "/api/logout").authenticated()
 				.requestMatchers("/user/details").authenticated()
 				.requestMatchers("/register/user").permitAll()
 				.requestMatchers("/registered/user/findByEmail/**").permitAll()
@@ -165,6 +244,10 @@ public class SpringSecurityConfig {
 				// Swagger UI and OpenAPI documentation
 				.requestMatchers(HttpMethod.GET, "/swagger-ui/**", "/v3/api-docs/**").permitAll()
 
+				// Actuator: health is public, metrics (cache hit/miss counters etc.) are for admins only
+				.requestMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+				.requestMatchers("/actuator/**").hasRole("ADMIN")
+
 				// H2 Console (if enabled during development)
 				// .requestMatchers(HttpMethod.GET, "/h2-console").permitAll()
 				// .requestMatchers("/h2-console", "/h2-console/**").permitAll() //For Post API and get both while providing credentials to UI
@@ -182,13 +265,19 @@ public class SpringSecurityConfig {
 
 
 				.requestMatchers(HttpMethod.PUT, "/api/employee/**").hasAnyAuthority("UPDATE", "DELETE")
+				.requestMatchers(HttpMethod.PATCH, "/api/employee/**").hasAnyAuthority("UPDATE", "DELETE")
 				.requestMatchers(HttpMethod.DELETE, "/api/employee/**").hasAuthority("DELETE")
 
 				// Leave APIs
 				.requestMatchers(HttpMethod.POST, "/api/leave").hasAnyRole("ADMIN", "EMPLOYEE")
+				.requestMatchers(HttpMethod.POST, "/api/leave/import").hasRole("ADMIN") // Bulk import of historic leave
+				.requestMatchers(HttpMethod.POST, "/api/leave/status").hasRole("ADMIN") // Bulk approve/reject, like PUT
 				.requestMatchers(HttpMethod.GET, "/api/leave").hasRole("ADMIN")
+				.requestMatchers(HttpMethod.GET, "/api/leave/export").hasRole("ADMIN") // Bulk export, like the full list
+				.requestMatchers(HttpMethod.GET, "/api/leave/search").hasRole("ADMIN") // Dashboards, like the full list
 				.requestMatchers(HttpMethod.GET, "/api/leave/**").hasAnyRole("ADMIN", "EMPLOYEE")
 				.requestMatchers(HttpMethod.PUT, "/api/leave/**").hasRole("ADMIN")
+				.requestMatchers(HttpMethod.PATCH, "/api/leave/**").hasRole("ADMIN")
 				.requestMatchers(HttpMethod.DELETE, "/api/leave/**").hasAnyRole("ADMIN", "EMPLOYEE")
 
 
@@ -225,8 +314,9 @@ public class SpringSecurityConfig {
 		http.addFilterBefore(new RequestValidationBeforeFilter(), BasicAuthenticationFilter.class);
 		http.addFilterAfter(new AuthoritiesLoggingAfterFilter(), BasicAuthenticationFilter.class);
 		http.addFilterAt(new AuthoritiesLoggingAtFilter(), BasicAuthenticationFilter.class);
-		http.addFilterAfter(new JWTTokenGeneratorFilter(), BasicAuthenticationFilter.class);
-		http.addFilterBefore(new JWTTokenValidatorFilter(), BasicAuthenticationFilter.class);
+		// Both JWT filters share the single JWTTokenCodec created at startup.
+		http.addFilterAfter(new JWTTokenGeneratorFilter(jwtTokenCodec), BasicAuthenticationFilter.class);
+		http.addFilterBefore(new JWTTokenValidatorFilter(jwtTokenCodec, verifiedTokenCache, tokenDenylist), BasicAuthenticationFilter.class);
 
 		// Disable session creation to enforce stateless authentication (JWT-based).
 		// If set to ALWAYS, Spring would create a JSESSIONID for every request.
@@ -235,7 +325,8 @@ public class SpringSecurityConfig {
 		// Disable CSRF, form login, and use basic HTTP authentication for API requests.
 		http.csrf(csrf -> csrf.disable());
 		http.formLogin(form -> form.disable());
-		http.httpBasic(Customizer.withDefaults());
+		// An overloaded password-hashing queue answers 503 with Retry-After, like /api/login, instead of a 500
+		http.httpBasic(basic -> basic.authenticationEntryPoint(new PasswordHashingOverloadEntryPoint(objectMapper)));
 
 		//http.headers(t -> t.frameOptions(v ->v.sameOrigin()));
 
@@ -0,0 +1,45 @@
+package com.hexvoid.employeeportal.security;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Backing store of revoked JWT ids ({@code jti}).
+ *
+ * <p>Every entry carries the revoked token's own expiry; once that instant has passed the token is
+ * rejected by its signature check anyway, so the entry may be dropped. Select the implementation with
+ * {@code jwt.revocation.store}: {@code memory} (default, single node) or {@code jpa} (shared table for
+ * multi-node deployments).
+ *
+ * @see JWTTokenDenylist
+ */
+public interface TokenRevocationStore {
+
+	/**
+	 * Records a token id as revoked until {@code expiresAt}.
+	 *
+	 * @param tokenId   the {@code jti} claim
+	 * @param expiresAt the {@code exp} claim of the revoked token
+	 */
+	void revoke(String tokenId, Instant expiresAt);
+
+	/**
+	 * @param tokenId the {@code jti} claim
+	 * @return {@code true} if the id has been revoked and has not yet expired
+	 */
+	boolean isRevoked(String tokenId);
+
+	/**
+	 * @param now the current time
+	 * @return the ids of every revocation that has not yet expired
+	 */
+	List<String> findActiveTokenIds(Instant now);
+
+	/**
+	 * Drops revocations whose token has already expired.
+	 *
+	 * @param now the current time
+	 * @return the number of removed entries
+	 */
+	int purgeExpired(Instant now);
+}
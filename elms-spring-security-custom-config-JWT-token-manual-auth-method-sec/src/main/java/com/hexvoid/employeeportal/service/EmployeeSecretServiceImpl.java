@@ -1,7 +1,10 @@
 package com.hexvoid.employeeportal.service;
 
+import com.hexvoid.employeeportal.dao.EmployeeCacheInvalidator;
 import com.hexvoid.employeeportal.dao.EmployeeCredentialsDao;
+import com.hexvoid.employeeportal.dao.RefreshTokenDao;
 import com.hexvoid.employeeportal.entity.EmployeeCredentials;
+import com.hexvoid.employeeportal.security.EmployeeUserCache;
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -16,15 +19,27 @@ import org.springframework.stereotype.Service;
 public class EmployeeSecretServiceImpl implements EmployeeSecretsService {
 
     private final EmployeeCredentialsDao employeeCredentialsDao;
+    private final EmployeeUserCache employeeUserCache;
+    private final EmployeeCacheInvalidator employeeCacheInvalidator;
+    private final RefreshTokenDao refreshTokenDao;
 
     /**
      * Constructor-based dependency injection of DAO layer.
      *
      * @param employeeCredentialsDao DAO for employee credentials
+     * @param employeeUserCache      cache of loaded users, evicted after each change commits
+     * @param employeeCacheInvalidator publishes the second-level cache evictions of each change
+     * @param refreshTokenDao        DAO for refresh tokens, revoked on password change
      */
     @Autowired
-    public EmployeeSecretServiceImpl(EmployeeCredentialsDao employeeCredentialsDao) {
+    public EmployeeSecretServiceImpl(EmployeeCredentialsDao employeeCredentialsDao,
+                                     EmployeeUserCache employeeUserCache,
+                                     EmployeeCacheInvalidator employeeCacheInvalidator,
+                                     RefreshTokenDao refreshTokenDao) {
         this.employeeCredentialsDao = employeeCredentialsDao;
+        this.employeeUserCache = employeeUserCache;
+        this.employeeCacheInvalidator = employeeCacheInvalidator;
+        this.refreshTokenDao = refreshTokenDao;
     }
 
     /**
@@ -40,12 +55,60 @@ public class EmployeeSecretServiceImpl implements EmployeeSecretsService {
 
     /**
      * Persists employee credentials into the database.
+     * <p>The saved user is evicted from {@link EmployeeUserCache} once the transaction
+     * commits, so later authentications see the new password and authorities.
+     * <p>All refresh tokens of the user are deleted in the same transaction, so sessions
+     * opened with the old credentials cannot be renewed.
      *
      * @param employeeCredentials the credentials to save
      * @return the saved EmployeeCredentials
      */
     @Override
+    @Transactional
     public EmployeeCredentials save(EmployeeCredentials employeeCredentials) {
-        return employeeCredentialsDao.save(employeeCredentials);
+        EmployeeCredentials saved = employeeCredentialsDao.save(employeeCredentials);
+        refreshTokenDao.deleteByEmail(saved.getEmail());
+        employeeUserCache.evictAfterCommit(saved.getEmail());
+        employeeCacheInvalidator.credentialsChanged();
+        return saved;
+    }
+
+    /**
+     * Replaces the stored password hash of a user and, once the transaction commits,
+     * evicts the user from {@link EmployeeUserCache}, so the cached copy does not keep the old hash.
+     * <p>All refresh tokens of the user are deleted in the same transaction, so sessions opened
+     * with the old password cannot be renewed.
+     *
+     * @param email    the employee's email
+     * @param password the new encoded password
+     * @return true if a user was updated
+     */
+    @Override
+    @Transactional
+    public boolean updatePassword(String email, String password) {
+        refreshTokenDao.deleteByEmail(email);
+        return storePassword(email, password);
+    }
+
+    /**
+     * Replaces the stored password hash of a user with a new encoding of the same password
+     * and, once the transaction commits, evicts the user from {@link EmployeeUserCache}.
+     * <p>The password itself is unchanged, so the user's refresh tokens are kept.
+     *
+     * @param email    the employee's email
+     * @param password the re-encoded password
+     * @return true if a user was updated
+     */
+    @Override
+    @Transactional
+    public boolean rehashPassword(String email, String password) {
+        return storePassword(email, password);
+    }
+
+    private boolean storePassword(String email, String password) {
+        int updated = employeeCredentialsDao.updatePassword(email, password);
+        employeeUserCache.evictAfterCommit(email);
+        employeeCacheInvalidator.credentialsChanged();
+        return updated > 0;
     }
 }
@@ -25,4 +25,23 @@ public interface EmployeeSecretsService {
      * @return the saved EmployeeCredentials
      */
     EmployeeCredentials save(EmployeeCredentials employeeCredentials);
+
+    /**
+     * Changes the password of a user and ends their sessions: their refresh tokens are revoked.
+     *
+     * @param email    the employee's email
+     * @param password the new encoded password
+     * @return true if a user was updated
+     */
+    boolean updatePassword(String email, String password);
+
+    /**
+     * Stores a new encoding of the user's unchanged password, e.g. after a re-encode on login.
+     * The user's sessions are kept.
+     *
+     * @param email    the employee's email
+     * @param password the re-encoded password
+     * @return true if a user was updated
+     */
+    boolean rehashPassword(String email, String password);
 }
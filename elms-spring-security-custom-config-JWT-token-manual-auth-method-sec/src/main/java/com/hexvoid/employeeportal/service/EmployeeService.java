@@ -2,7 +2,10 @@ package com.hexvoid.employeeportal.service;
 
 import java.util.List;
 
+import com.hexvoid.employeeportal.entity.BulkInsertResult;
 import com.hexvoid.employeeportal.entity.Employees;
+import com.hexvoid.employeeportal.entity.KeysetPage;
+import com.hexvoid.employeeportal.exceptionhandler.VersionConflictException;
 
 /**
  * EmployeeService interface defines the business logic for Employee-related operations.
@@ -23,6 +26,16 @@ public interface EmployeeService  {
      */
     void save(Employees theEmployee);
 
+    /**
+     * Saves many new employee records in one transaction.
+     * Each row is validated on its own; invalid rows are reported and skipped,
+     * the valid ones are inserted in JDBC batches.
+     *
+     * @param theEmployees Employee entities to be stored.
+     * @return The per-row outcome, with the generated ID of every stored employee.
+     */
+    BulkInsertResult saveAll(List<Employees> theEmployees);
+
     /**
      * Retrieves all employee records from the system.
      * Calls DAO layer to fetch the data.
@@ -31,6 +44,15 @@ public interface EmployeeService  {
      */
     List<Employees> findAll();
 
+    /**
+     * Retrieves one keyset page of employees, ordered by ID.
+     *
+     * @param after Cursor from the previous page ({@code null} for the first page).
+     * @param limit Requested page size ({@code null} for the default); capped at the maximum page size.
+     * @return The page and the cursor of the next one.
+     */
+    KeysetPage<Employees> findPage(Long after, Integer limit);
+
     /**
      * Finds a specific employee by their unique ID.
      * Calls DAO layer to retrieve the data.
@@ -50,6 +72,17 @@ public interface EmployeeService  {
      */
     Employees updateById(Employees employee, int id);
 
+    /**
+     * Applies a partial update to an employee if it is still at the version the client read.
+     * Only the non-null fields are written, with one conditional UPDATE and no prior read.
+     *
+     * @param changes Fields to change, with the expected version.
+     * @param id Employee ID to update.
+     * @return {@code changes} with the ID and the new version set.
+     * @throws VersionConflictException if the employee does not exist or has another version.
+     */
+    Employees patchById(Employees changes, int id);
+
     /**
      * Deletes an employee record from the system based on ID.
      * Calls DAO layer to remove the data.
@@ -1,14 +1,20 @@
 package com.hexvoid.employeeportal.service;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.hexvoid.employeeportal.dao.EmployeeCacheInvalidator;
 import com.hexvoid.employeeportal.dao.EmployeeDAO;
+import com.hexvoid.employeeportal.entity.BulkInsertResult;
 import com.hexvoid.employeeportal.entity.Employees;
+import com.hexvoid.employeeportal.entity.KeysetPage;
 import com.hexvoid.employeeportal.exceptionhandler.MyCustomExceptionClass;
-
-import jakarta.transaction.Transactional;
+import com.hexvoid.employeeportal.exceptionhandler.VersionConflictException;
 
 /**
  * Implementation of EmployeeService interface.
@@ -18,6 +24,9 @@ import jakarta.transaction.Transactional;
  * - Spring automatically detects this class as a service component.
  * - It is instantiated as a singleton and managed by the Spring IoC container.
  * - This ensures business logic is consistently applied across the application.
+ * 
+ * Read methods run in read-only transactions, which are served by the read replica
+ * when one is configured (see ReadReplicaConfig).
  */
 @Service
 class EmployeeServiceImpl implements EmployeeService {
@@ -25,15 +34,20 @@ class EmployeeServiceImpl implements EmployeeService {
     // Dependency on EmployeeDAO for database operations.
     private final EmployeeDAO theEmployeeDao;
 
+    // Publishes each change as a local EmployeeCacheEvictionEvent; nothing forwards it to other instances yet.
+    private final EmployeeCacheInvalidator employeeCacheInvalidator;
+
     /**
      * Constructor-based dependency injection.
      * - This method injects EmployeeDAO into EmployeeServiceImpl.
      * - @Autowired is not required for a single constructor, as Spring Boot automatically wires it.
      *
      * @param theEmployeeDao DAO instance for Employee database operations.
+     * @param employeeCacheInvalidator Publishes the second-level cache evictions of each change.
      */
-    public EmployeeServiceImpl(EmployeeDAO theEmployeeDao) {
+    public EmployeeServiceImpl(EmployeeDAO theEmployeeDao, EmployeeCacheInvalidator employeeCacheInvalidator) {
         this.theEmployeeDao = theEmployeeDao;
+        this.employeeCacheInvalidator = employeeCacheInvalidator;
     }
 
     /**
@@ -51,6 +65,64 @@ class EmployeeServiceImpl implements EmployeeService {
             throw new MyCustomExceptionClass("Employee ID should not be provided for a new employee.");
         }
         theEmployeeDao.save(theEmployee);
+        // Another instance may cache a new name as "not found" in findByName; the event is the hook to evict it there
+        employeeCacheInvalidator.employeeChanged(theEmployee.getId());
+    }
+
+    /**
+     * Saves many new employee records in one transaction.
+     * - Rejects rows with an ID, without a name, without a valid email (containing "@" and
+     *   ending with ".com") or with an email that is already taken, either in the database
+     *   (one IN query) or earlier in the same request.
+     * - Inserts the remaining rows through the DAO in JDBC batches.
+     * 
+     * @param theEmployees Employee entities to be added.
+     * @return Per-row outcomes, in input order.
+     */
+    @Override
+    @Transactional
+    public BulkInsertResult saveAll(List<Employees> theEmployees) {
+        Set<String> emails = new HashSet<>();
+        for (Employees employee : theEmployees) {
+            if (isValidEmail(employee.getEmail())) {
+                emails.add(employee.getEmail());
+            }
+        }
+        Set<String> takenEmails = theEmployeeDao.findExistingEmails(emails);
+
+        String[] errors = new String[theEmployees.size()];
+        List<Employees> accepted = new ArrayList<>(theEmployees.size());
+        for (int i = 0; i < theEmployees.size(); i++) {
+            Employees employee = theEmployees.get(i);
+            if (employee.getId() != null) {
+                errors[i] = "Employee ID should not be provided for a new employee.";
+            } else if (employee.getName() == null || employee.getName().isBlank()) {
+                errors[i] = "Employee name is required.";
+            } else if (!isValidEmail(employee.getEmail())) {
+                errors[i] = "A valid email ending with .com is required.";
+            } else if (!takenEmails.add(employee.getEmail())) {
+                errors[i] = "An employee with email " + employee.getEmail() + " already exists.";
+            } else {
+                accepted.add(employee);
+            }
+        }
+        theEmployeeDao.saveAll(accepted);
+        if (!accepted.isEmpty()) {
+            employeeCacheInvalidator.employeesChanged();
+        }
+
+        List<BulkInsertResult.Row> rows = new ArrayList<>(theEmployees.size());
+        for (int i = 0; i < theEmployees.size(); i++) {
+            Employees employee = theEmployees.get(i);
+            rows.add(errors[i] == null
+                    ? BulkInsertResult.Row.accepted(i, employee.getEmail(), employee.getId())
+                    : BulkInsertResult.Row.rejected(i, employee.getEmail(), errors[i]));
+        }
+        return BulkInsertResult.of(rows);
+    }
+
+    private static boolean isValidEmail(String email) {
+        return email != null && email.contains("@") && email.endsWith(".com");
     }
 
     /**
@@ -61,10 +133,27 @@ class EmployeeServiceImpl implements EmployeeService {
      * @return List of Employee entities.
      */
     @Override
+    @Transactional(readOnly = true)
     public List<Employees> findAll() {
         return theEmployeeDao.findAll();
     }
 
+    /**
+     * Retrieves one keyset page of employees.
+     * - Fetches one row more than the page size to learn whether a next page exists.
+     * 
+     * @param after Cursor from the previous page, or null for the first page.
+     * @param limit Requested page size, or null for the default.
+     * @return The page of employees and the next cursor.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<Employees> findPage(Long after, Integer limit) {
+        int pageSize = KeysetPage.pageSize(limit);
+        List<Employees> rows = theEmployeeDao.findPage(after != null ? after : 0L, pageSize + 1);
+        return KeysetPage.of(rows, pageSize, Employees::getId);
+    }
+
     /**
      * Finds an employee record by its unique ID.
      * - Calls DAO layer to fetch the employee details.
@@ -75,6 +164,7 @@ class EmployeeServiceImpl implements EmployeeService {
      * @throws MyCustomExceptionClass if the employee does not exist.
      */
     @Override
+    @Transactional(readOnly = true)
     public Employees findById(int id) {
         Employees employee = theEmployeeDao.findById(id);
         if (employee == null) {
@@ -119,7 +209,39 @@ class EmployeeServiceImpl implements EmployeeService {
         }
 
         // Save updated employee details
-        return theEmployeeDao.updateById(existingEmployee, id);
+        Employees updated = theEmployeeDao.updateById(existingEmployee, id);
+        employeeCacheInvalidator.employeeChanged(id);
+        return updated;
+    }
+
+    /**
+     * Applies a partial update to an employee, guarded by its version.
+     * - Ensures the ID in the request, if given, matches the ID in the URL, and that a version is given.
+     * - Issues one UPDATE ... WHERE id = ? AND version = ? for the non-null fields; nothing is read first.
+     * - If no row matched, another request changed (or deleted) the employee since the client read it.
+     * 
+     * @param changes Employee fields to change, with the version the client read.
+     * @param id Employee ID to update.
+     * @return {@code changes} with the ID and the new version set.
+     * @throws MyCustomExceptionClass if the IDs do not match or no version is given.
+     * @throws VersionConflictException if the employee is no longer at the given version.
+     */
+    @Override
+    @Transactional
+    public Employees patchById(Employees changes, int id) {
+        if (changes.getId() != null && changes.getId() != id) {
+            throw new MyCustomExceptionClass("Requested ID " + id + " and Employee ID " + changes.getId() + " do not match.");
+        }
+        if (changes.getVersion() == null) {
+            throw new MyCustomExceptionClass("The version of Employee ID " + id + " is required for a partial update.");
+        }
+        if (theEmployeeDao.updateFields(id, changes.getVersion(), changes) == 0) {
+            throw new VersionConflictException("Employee", id, changes.getVersion());
+        }
+        employeeCacheInvalidator.employeeChanged(id);
+        changes.setId((long) id);
+        changes.setVersion(changes.getVersion() + 1);
+        return changes;
     }
 
     /**
@@ -138,5 +260,6 @@ class EmployeeServiceImpl implements EmployeeService {
             throw new MyCustomExceptionClass("Employee with ID " + id + " does not exist for deletion.");
         }
         theEmployeeDao.deleteById(id);
+        employeeCacheInvalidator.employeeChanged(id);
     }
 }
@@ -0,0 +1,124 @@
+package com.hexvoid.employeeportal.service;
+
+import java.time.Duration;
+import java.util.function.LongFunction;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.hexvoid.employeeportal.cache.CacheSupport;
+import com.hexvoid.employeeportal.entity.LeavePeriod;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Opt-in cache of one {@link LeaveOverlapIndex} per employee, used by the overlap check of a new
+ * leave request instead of the indexed overlap query.
+ *
+ * <p>The first check for an employee loads all of their leave dates once; the following checks are
+ * an in-memory binary search, whatever the length of the employee's history. A saved leave request
+ * is added to the employee's index, so hot employees stay warm.
+ *
+ * <ul>
+ *   <li>The cache holds at most {@code leave-requests.overlap-cache.max-size} employees and each
+ *       entry expires {@code leave-requests.overlap-cache.ttl} after it was loaded.</li>
+ *   <li>Changes to existing leave made through the application (update, status change, delete)
+ *       evict the affected employees.</li>
+ *   <li>Entries are changed just before the transaction commits, while the employee row is still
+ *       locked, so the next leave write for that employee already sees them. A transaction that
+ *       rolls back instead evicts the employee.</li>
+ *   <li>Changes made by another application instance or directly in the database are only seen
+ *       once the entry expires, so enable it only where that delay is acceptable, e.g. one instance.</li>
+ *   <li>Hit/miss counts and load time are published to Micrometer as {@code cache.*{cache=leaveOverlap}}.</li>
+ * </ul>
+ *
+ * <p>Disabled by default; set {@code leave-requests.overlap-cache.enabled=true} to turn it on.
+ */
+@Component
+public class LeaveOverlapCache {
+
+	/** Name under which the cache statistics are published. */
+	public static final String CACHE_NAME = "leaveOverlap";
+
+	private final Cache<Long, LeaveOverlapIndex> cache;
+
+	/**
+	 * @param enabled       whether leave periods should be cached at all
+	 * @param ttl           how long a loaded employee stays cached
+	 * @param maxSize       the maximum number of cached employees
+	 * @param meterRegistry registry used to publish hit-rate and load-time metrics, if available
+	 */
+	@Autowired
+	public LeaveOverlapCache(@Value("${leave-requests.overlap-cache.enabled:false}") boolean enabled,
+			@Value("${leave-requests.overlap-cache.ttl:10m}") Duration ttl,
+			@Value("${leave-requests.overlap-cache.max-size:10000}") long maxSize,
+			ObjectProvider<MeterRegistry> meterRegistry) {
+		this.cache = enabled
+				? CacheSupport.bounded(Caffeine.newBuilder().expireAfterWrite(ttl), maxSize, CACHE_NAME, meterRegistry)
+				: null;
+	}
+
+	/**
+	 * @return {@code true} if caching is enabled
+	 */
+	public boolean isEnabled() {
+		return cache != null;
+	}
+
+	/**
+	 * Returns the cached index of an employee, calling {@code loader} only on a miss.
+	 *
+	 * @param employeeId the ID of the employee
+	 * @param loader     builds the index from the database; its exceptions propagate unchanged
+	 * @return the employee's index
+	 * @throws IllegalStateException if the cache is disabled
+	 */
+	LeaveOverlapIndex get(long employeeId, LongFunction<LeaveOverlapIndex> loader) {
+		if (cache == null) {
+			throw new IllegalStateException("The leave overlap cache is disabled");
+		}
+		return cache.get(employeeId, loader::apply);
+	}
+
+	/**
+	 * Adds a saved leave period to the employee's index, if cached, before the current transaction commits.
+	 *
+	 * @param employeeId the ID of the employee, whose row the transaction has locked
+	 * @param period     the period of the saved leave request
+	 */
+	void addBeforeCommit(long employeeId, LeavePeriod period) {
+		beforeCommit(employeeId, () -> cache.asMap().computeIfPresent(employeeId, (id, index) -> index.with(period)));
+	}
+
+	/**
+	 * Evicts an employee before the current transaction commits, so the next check reloads the
+	 * index from the changed rows.
+	 *
+	 * @param employeeId the ID of the employee whose leave changed, whose row the transaction has locked
+	 */
+	void evictBeforeCommit(long employeeId) {
+		beforeCommit(employeeId, () -> cache.invalidate(employeeId));
+	}
+
+	/**
+	 * Runs {@code action} before the commit of the current transaction, or now without one, and evicts
+	 * the employee if the transaction rolls back; does nothing when disabled.
+	 */
+	private void beforeCommit(long employeeId, Runnable action) {
+		if (cache != null) {
+			CacheSupport.beforeCommit(action, () -> cache.invalidate(employeeId));
+		}
+	}
+
+	/**
+	 * @return hit/miss/load statistics, or {@link CacheStats#empty()} when disabled
+	 */
+	public CacheStats stats() {
+		return cache != null ? cache.stats() : CacheStats.empty();
+	}
+}
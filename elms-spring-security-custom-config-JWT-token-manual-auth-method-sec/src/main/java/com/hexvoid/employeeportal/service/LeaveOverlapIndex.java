@@ -0,0 +1,113 @@
+package com.hexvoid.employeeportal.service;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+
+import com.hexvoid.employeeportal.entity.LeavePeriod;
+
+/**
+ * Immutable interval index over the leave periods of one employee, answering "does this period
+ * overlap any leave" in {@code O(log n)}.
+ *
+ * <p>Periods are kept sorted by start day, together with the running maximum of their end days.
+ * A new period {@code [start, end]} overlaps an existing one exactly when some period starting on
+ * or before {@code end} also ends on or after {@code start}: one binary search finds the last period
+ * starting on or before {@code end}, and the running maximum up to it tells whether any of those
+ * ends late enough. This stays correct when the stored periods overlap each other, e.g. leave
+ * recorded before overlaps were rejected.
+ *
+ * <p>Adding a period copies the arrays ({@code O(n)}); it is only done once per saved leave request.
+ */
+final class LeaveOverlapIndex {
+
+	private static final LeaveOverlapIndex EMPTY = new LeaveOverlapIndex(new long[0], new long[0]);
+
+	/** Start days (epoch days), ascending. */
+	private final long[] starts;
+	/** End days (epoch days), in the order of {@link #starts}. */
+	private final long[] ends;
+	/** {@code maxEnds[i]} is the latest end day of the periods {@code 0..i}. */
+	private final long[] maxEnds;
+
+	private LeaveOverlapIndex(long[] starts, long[] ends) {
+		this.starts = starts;
+		this.ends = ends;
+		this.maxEnds = new long[ends.length];
+		for (int i = 0; i < ends.length; i++) {
+			maxEnds[i] = i == 0 ? ends[0] : Math.max(maxEnds[i - 1], ends[i]);
+		}
+	}
+
+	/**
+	 * @param periods the leave periods of one employee
+	 * @return the index of these periods
+	 */
+	static LeaveOverlapIndex of(Collection<LeavePeriod> periods) {
+		if (periods.isEmpty()) {
+			return EMPTY;
+		}
+		LeavePeriod[] sorted = periods.toArray(LeavePeriod[]::new);
+		Arrays.sort(sorted, Comparator.comparing(LeavePeriod::startDate));
+		long[] starts = new long[sorted.length];
+		long[] ends = new long[sorted.length];
+		for (int i = 0; i < sorted.length; i++) {
+			starts[i] = sorted[i].startDate().toEpochDay();
+			ends[i] = sorted[i].endDate().toEpochDay();
+		}
+		return new LeaveOverlapIndex(starts, ends);
+	}
+
+	/**
+	 * @param startDate the first day of the period
+	 * @param endDate   the last day of the period
+	 * @return {@code true} if the period shares at least one day with an indexed period
+	 */
+	boolean overlaps(LocalDate startDate, LocalDate endDate) {
+		int last = lastStartingOnOrBefore(endDate.toEpochDay());
+		return last >= 0 && maxEnds[last] >= startDate.toEpochDay();
+	}
+
+	/**
+	 * @param period the period to add
+	 * @return a new index holding the periods of this one and {@code period}
+	 */
+	LeaveOverlapIndex with(LeavePeriod period) {
+		long start = period.startDate().toEpochDay();
+		int at = lastStartingOnOrBefore(start) + 1;
+		long[] newStarts = new long[starts.length + 1];
+		long[] newEnds = new long[ends.length + 1];
+		System.arraycopy(starts, 0, newStarts, 0, at);
+		System.arraycopy(ends, 0, newEnds, 0, at);
+		newStarts[at] = start;
+		newEnds[at] = period.endDate().toEpochDay();
+		System.arraycopy(starts, at, newStarts, at + 1, starts.length - at);
+		System.arraycopy(ends, at, newEnds, at + 1, ends.length - at);
+		return new LeaveOverlapIndex(newStarts, newEnds);
+	}
+
+	/**
+	 * @return the number of indexed periods
+	 */
+	int size() {
+		return starts.length;
+	}
+
+	/**
+	 * @return the position of the last period starting on or before {@code day}, or -1 if there is none
+	 */
+	private int lastStartingOnOrBefore(long day) {
+		int low = 0;
+		int high = starts.length - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			if (starts[mid] <= day) {
+				low = mid + 1;
+			} else {
+				high = mid - 1;
+			}
+		}
+		return high;
+	}
+}
@@ -1,10 +1,19 @@
 package com.hexvoid.employeeportal.service;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.springframework.dao.DataIntegrityViolationException;
 
+import com.hexvoid.employeeportal.entity.BulkInsertResult;
+import com.hexvoid.employeeportal.entity.KeysetPage;
+import com.hexvoid.employeeportal.entity.LeaveRequestSearch;
 import com.hexvoid.employeeportal.entity.LeaveRequests;
+import com.hexvoid.employeeportal.entity.LeaveStatus;
+import com.hexvoid.employeeportal.exceptionhandler.LeaveOverlapException;
+import com.hexvoid.employeeportal.exceptionhandler.MyCustomExceptionClass;
+import com.hexvoid.employeeportal.exceptionhandler.VersionConflictException;
 
 import jakarta.persistence.EntityNotFoundException;
 
@@ -46,6 +55,21 @@ public interface LeaveRequestService {
      */
     void save(LeaveRequests theLeaveRequest);
 
+    /**
+     * Imports many new leave requests, read one at a time from {@code rows}.
+     * 
+     * Process:
+     * - Rows are validated on their own (no ID, required fields, start date not after end date).
+     * - Valid rows are grouped in chunks; the employee IDs of a chunk are checked with one IN query.
+     * - Each chunk is inserted in JDBC batches and committed in its own transaction, so memory and
+     *   transaction size stay bounded and an interrupted import keeps the chunks already committed.
+     * 
+     * @param rows The leave requests to import; {@code next()} may throw {@link IllegalArgumentException}
+     *             for a malformed row, which is then rejected with that message.
+     * @return The accepted and rejected counts, with the reason for every rejected row.
+     */
+    BulkInsertResult importAll(Iterator<LeaveRequests> rows);
+
     /**
      * Retrieves all leave requests from the system.
      * 
@@ -61,6 +85,44 @@ public interface LeaveRequestService {
      */
     List<LeaveRequests> findAll();
 
+    /**
+     * Retrieves one keyset page of leave requests, ordered by ID.
+     * 
+     * Performance Considerations:
+     * - Reads only one page through the primary key index, whatever the table size or page number.
+     * 
+     * @param after Cursor from the previous page ({@code null} for the first page).
+     * @param limit Requested page size ({@code null} for the default); capped at the maximum page size.
+     * @return The page and the cursor of the next one.
+     */
+    KeysetPage<LeaveRequests> findPage(Long after, Integer limit);
+
+    /**
+     * Retrieves one keyset page of the leave requests matching the given filters, ordered by ID.
+     * 
+     * Performance Considerations:
+     * - The filtering is done by the database through the leave_requests indexes,
+     *   instead of by the client after loading the whole table.
+     * 
+     * @param criteria Filters on employee, status and date range; null filters are ignored.
+     * @param after Cursor from the previous page ({@code null} for the first page).
+     * @param limit Requested page size ({@code null} for the default); capped at the maximum page size.
+     * @return The page and the cursor of the next one.
+     * @throws MyCustomExceptionClass If {@code from} is after {@code to}.
+     */
+    KeysetPage<LeaveRequests> search(LeaveRequestSearch criteria, Long after, Integer limit);
+
+    /**
+     * Hands every leave request, in ascending ID order, to {@code action} one at a time.
+     * 
+     * Performance Considerations:
+     * - Backs the bulk export: rows are streamed from the database instead of loaded into a list,
+     *   so memory stays flat whatever the number of leave requests.
+     * 
+     * @param action Receives each leave request; typically writes it to the response.
+     */
+    void exportAll(Consumer<LeaveRequests> action);
+
     /**
      * Fetches a specific leave request based on its unique identifier.
      * 
@@ -101,6 +163,36 @@ public interface LeaveRequestService {
      */
     LeaveRequests updateById(LeaveRequests theLeaveRequest, int id);
 
+    /**
+     * Applies a partial update (leave type, dates, status) to a leave request if it is still at the
+     * version the client read, e.g. an approval. Only the non-null fields are written, with one
+     * conditional UPDATE; the row is read and locked first only when the dates or status change, to
+     * check the change against the employee's other leave. The employee of a leave request cannot be changed here.
+     * 
+     * @param changes Fields to change, with the expected version.
+     * @param id The ID of the leave request to be updated.
+     * @return {@code changes} with the ID and the new version set.
+     * @throws VersionConflictException If the leave request does not exist or has another version.
+     * @throws LeaveOverlapException If the changed leave overlaps another leave request of the employee.
+     */
+    LeaveRequests patchById(LeaveRequests changes, int id);
+
+    /**
+     * Sets the status of many leave requests at once, e.g. to approve a batch.
+     * 
+     * Process:
+     * - Validates the request (at least one ID, at most {@code MAX_BULK_STATUS_IDS}, a status).
+     * - Calls DAO to change every matching leave request with one UPDATE statement.
+     * - IDs that do not exist or already have the status are left out of the result.
+     * - Leave brought back from REJECTED must not overlap other leave of its employee.
+     * 
+     * @param ids The IDs of the leave requests.
+     * @param status The new status.
+     * @return The IDs of the leave requests that were changed.
+     * @throws MyCustomExceptionClass If the request is invalid.
+     */
+    List<Long> updateStatus(List<Long> ids, LeaveStatus status);
+
     /**
      * Deletes a leave request from the system based on its ID.
      * 
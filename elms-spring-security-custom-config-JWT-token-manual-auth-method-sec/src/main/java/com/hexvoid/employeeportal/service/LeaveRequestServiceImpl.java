@@ -1,17 +1,39 @@
 package com.hexvoid.employeeportal.service;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.hexvoid.employeeportal.constants.ApplicationConstants;
 import com.hexvoid.employeeportal.dao.EmployeeDAO;
 import com.hexvoid.employeeportal.dao.LeaveRequestDao;
+import com.hexvoid.employeeportal.entity.BulkInsertResult;
 import com.hexvoid.employeeportal.entity.Employees;
+import com.hexvoid.employeeportal.entity.KeysetPage;
+import com.hexvoid.employeeportal.entity.LeavePeriod;
+import com.hexvoid.employeeportal.entity.LeaveRequestSearch;
 import com.hexvoid.employeeportal.entity.LeaveRequests;
+import com.hexvoid.employeeportal.entity.LeaveStatus;
+import com.hexvoid.employeeportal.exceptionhandler.LeaveOverlapException;
 import com.hexvoid.employeeportal.exceptionhandler.MyCustomExceptionClass;
-
-import jakarta.transaction.Transactional;
+import com.hexvoid.employeeportal.exceptionhandler.VersionConflictException;
 
 /**
  * Service Implementation for managing leave requests.
@@ -20,6 +42,9 @@ import jakarta.transaction.Transactional;
  * and interacts with the DAO layer to perform database transactions.
  * It ensures validations and business rules are applied before
  * persisting or modifying leave request records.
+ * 
+ * Read methods run in read-only transactions, which are served by the read replica
+ * when one is configured (see ReadReplicaConfig).
  */
 @Service
 public class LeaveRequestServiceImpl implements LeaveRequestService {
@@ -30,6 +55,15 @@ public class LeaveRequestServiceImpl implements LeaveRequestService {
     // DAO instance for Employee data access
     private EmployeeDAO theEmpDao;
 
+    // Runs each import chunk in its own transaction
+    private TransactionTemplate transactionTemplate;
+
+    // Number of rows committed together by importAll()
+    private int importChunkSize;
+
+    // Optional in-memory overlap index per employee, disabled unless configured
+    private LeaveOverlapCache leaveOverlapCache;
+
     /**
      * Setter Injection for LeaveRequestDao and EmployeeDao.
      * 
@@ -82,11 +116,45 @@ public class LeaveRequestServiceImpl implements LeaveRequestService {
         this.theEmpDao = theEmpDao;
     }
 
+    /**
+     * Setter Injection for the bulk import settings.
+     * 
+     * A TransactionTemplate is used instead of @Transactional because each chunk of an
+     * import needs its own transaction, started and committed from within one method call.
+     * 
+     * @param transactionManager The transaction manager configured by Spring Boot.
+     * @param chunkSize Number of rows committed per transaction by importAll().
+     */
+    @Autowired
+    public void setImportSettings(PlatformTransactionManager transactionManager,
+            @Value("${leave-requests.import.chunk-size:1000}") int chunkSize) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.importChunkSize = Math.max(1, chunkSize);
+    }
+
+    /**
+     * Setter Injection for the leave overlap cache.
+     * 
+     * @param leaveOverlapCache Cache of the leave periods of recently checked employees.
+     */
+    @Autowired
+    public void setLeaveOverlapCache(LeaveOverlapCache leaveOverlapCache) {
+        this.leaveOverlapCache = leaveOverlapCache;
+    }
+
     /**
      * Saves a new leave request.
      * 
+     * Unless it is already rejected, the request must not share a day with another leave request
+     * of the same employee that is not rejected. The check is one indexed range query, or a
+     * lookup in the employee's cached interval index when the overlap cache is enabled.
+     * 
+     * The employee row is locked first. Every write that changes an employee's leave takes that
+     * lock, so two overlapping requests saved at the same time cannot both pass the check.
+     * 
      * @param theLeaveRequest The leave request entity containing details.
-     * @throws MyCustomExceptionClass If an ID is provided for a new leave request.
+     * @throws MyCustomExceptionClass If an ID is provided for a new leave request, or the dates are missing or inverted.
+     * @throws LeaveOverlapException If the leave overlaps another leave request of the employee.
      */
     @Override
     @Transactional
@@ -96,27 +164,276 @@ public class LeaveRequestServiceImpl implements LeaveRequestService {
             throw new MyCustomExceptionClass("Leave ID should not be provided for a new Leave Request.");
         }
     	
-    	//Before persisting the leave find out if employee ID is valid
-    	int employeeID = theLeaveRequest.getEmployee().getId().intValue();
-    	Employees employeeById = theEmpDao.findById(employeeID);
-    	if(employeeById.equals(null)) {
-    		throw new MyCustomExceptionClass("Not a valid Employee Id "+ employeeID);
+    	//Before persisting the leave find out if employee ID is valid, and lock it before anything is read
+    	long employeeId = theLeaveRequest.getEmployee().getId();
+    	if (theEmpDao.lockByIds(List.of(employeeId)).isEmpty()) {
+    		throw new MyCustomExceptionClass("Not a valid Employee Id "+ employeeId);
     	}
+    	Employees employeeById = theEmpDao.findById((int) employeeId);
     	
-        
+    	// Link the loaded employee: the request only carries its ID, and a detached
+    	// Employees without a version would be rejected by Hibernate.
+    	theLeaveRequest.setEmployee(employeeById);
+
+    	LocalDate startDate = theLeaveRequest.getStartDate();
+    	LocalDate endDate = theLeaveRequest.getEndDate();
+    	if (startDate == null || endDate == null) {
+    		throw new MyCustomExceptionClass("Start date and end date are required for a new Leave Request.");
+    	}
+    	if (startDate.isAfter(endDate)) {
+    		throw new MyCustomExceptionClass("Start date " + startDate + " is after end date " + endDate + ".");
+    	}
+    	if (theLeaveRequest.getLeaveStatus() != LeaveStatus.REJECTED) {
+    		if (overlapsExistingLeave(employeeId, startDate, endDate, null)) {
+    			throw new LeaveOverlapException(employeeId, startDate, endDate);
+    		}
+    		leaveOverlapCache.addBeforeCommit(employeeId, new LeavePeriod(startDate, endDate));
+    	}
         theLeaveRequestDao.save(theLeaveRequest);
     }
 
+    /**
+     * The cached index holds no IDs, so it is only used when no leave request has to be ignored.
+     * 
+     * @param excludedId The leave request being changed, if it is not rejected yet, or null.
+     * @return true if the period shares a day with a leave request of the employee that is not rejected.
+     */
+    private boolean overlapsExistingLeave(long employeeId, LocalDate startDate, LocalDate endDate, Long excludedId) {
+        if (excludedId == null && leaveOverlapCache.isEnabled()) {
+            return leaveOverlapCache.get(employeeId,
+                    id -> LeaveOverlapIndex.of(theLeaveRequestDao.findPeriods(id))).overlaps(startDate, endDate);
+        }
+        return theLeaveRequestDao.existsOverlapping(employeeId, startDate, endDate, excludedId);
+    }
+
+    /**
+     * Locks the rows of employees whose leave changes, and evicts them from the overlap cache
+     * before the transaction commits.
+     * 
+     * Leave requests are always locked before their employees, so two writes cannot deadlock.
+     */
+    private void lockEmployees(Collection<Long> employeeIds) {
+        theEmpDao.lockByIds(employeeIds);
+        employeeIds.forEach(leaveOverlapCache::evictBeforeCommit);
+    }
+
+    /**
+     * Validates the leave request as it will be after {@code changes}. If the change adds, moves or
+     * removes leave (new dates, or a status change to or from REJECTED), the employee is locked and
+     * the changed leave is checked against the employee's other leave.
+     * 
+     * @param existing The stored leave request, already locked.
+     * @param changes Holder of the new field values; null fields are left unchanged.
+     * @throws MyCustomExceptionClass If the start date would be after the end date.
+     * @throws LeaveOverlapException If the changed leave overlaps another leave request of the employee.
+     */
+    private void checkChange(LeaveRequests existing, LeaveRequests changes) {
+        LocalDate startDate = changes.getStartDate() != null ? changes.getStartDate() : existing.getStartDate();
+        LocalDate endDate = changes.getEndDate() != null ? changes.getEndDate() : existing.getEndDate();
+        LeaveStatus status = changes.getLeaveStatus() != null ? changes.getLeaveStatus() : existing.getLeaveStatus();
+        if (startDate.isAfter(endDate)) {
+            throw new MyCustomExceptionClass("Start date " + startDate + " is after end date " + endDate + ".");
+        }
+        boolean wasActive = existing.getLeaveStatus() != LeaveStatus.REJECTED;
+        boolean active = status != LeaveStatus.REJECTED;
+        boolean moved = !startDate.equals(existing.getStartDate()) || !endDate.equals(existing.getEndDate());
+        if (wasActive == active && !(active && moved)) {
+            return;
+        }
+        long employeeId = existing.getEmployee().getId();
+        lockEmployees(List.of(employeeId));
+        if (active && overlapsExistingLeave(employeeId, startDate, endDate, wasActive ? existing.getId() : null)) {
+            throw new LeaveOverlapException(employeeId, startDate, endDate);
+        }
+    }
+
+    /**
+     * Imports leave requests chunk by chunk.
+     * Only rejected rows are kept in the result, so memory does not grow with the number of accepted rows.
+     * 
+     * @param rows The leave requests to import.
+     * @return The import summary.
+     */
+    @Override
+    public BulkInsertResult importAll(Iterator<LeaveRequests> rows) {
+        List<BulkInsertResult.Row> rejected = new ArrayList<>();
+        List<LeaveRequests> chunk = new ArrayList<>(importChunkSize);
+        List<Integer> chunkRows = new ArrayList<>(importChunkSize);
+        int accepted = 0;
+        for (int row = 0; rows.hasNext(); row++) {
+            LeaveRequests leaveRequest;
+            try {
+                leaveRequest = rows.next();
+            } catch (IllegalArgumentException e) {
+                rejected.add(BulkInsertResult.Row.rejected(row, null, e.getMessage()));
+                continue;
+            }
+            String error = validateForImport(leaveRequest);
+            if (error != null) {
+                rejected.add(BulkInsertResult.Row.rejected(row, null, error));
+                continue;
+            }
+            chunk.add(leaveRequest);
+            chunkRows.add(row);
+            if (chunk.size() == importChunkSize) {
+                accepted += importChunk(chunk, chunkRows, rejected);
+                chunk.clear();
+                chunkRows.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            accepted += importChunk(chunk, chunkRows, rejected);
+        }
+        rejected.sort(Comparator.comparingInt(BulkInsertResult.Row::row));
+        return new BulkInsertResult(accepted, rejected.size(), rejected);
+    }
+
+    /**
+     * Checks the fields of one imported row; the employee is checked later, per chunk.
+     * 
+     * @param leaveRequest The imported leave request.
+     * @return Why the row is rejected, or null if it is valid.
+     */
+    private static String validateForImport(LeaveRequests leaveRequest) {
+        if (leaveRequest.getId() != null) {
+            return "Leave ID should not be provided for a new Leave Request.";
+        }
+        if (leaveRequest.getEmployee() == null || leaveRequest.getEmployee().getId() == null) {
+            return "Employee ID is required.";
+        }
+        if (leaveRequest.getLeaveType() == null || leaveRequest.getStartDate() == null
+                || leaveRequest.getEndDate() == null) {
+            return "Leave type, start date and end date are required.";
+        }
+        if (leaveRequest.getStartDate().isAfter(leaveRequest.getEndDate())) {
+            return "Start date " + leaveRequest.getStartDate() + " is after end date " + leaveRequest.getEndDate() + ".";
+        }
+        if (leaveRequest.getLeaveStatus() == null) {
+            leaveRequest.setLeaveStatus(LeaveStatus.PENDING);
+        }
+        return null;
+    }
+
+    /**
+     * Inserts one chunk in its own transaction, after checking and locking all its employee IDs with one
+     * query and loading their leave with another. Rows overlapping that leave, or an earlier row of the
+     * chunk, are rejected. If the chunk fails in the database, all its rows are rejected and the import goes on.
+     * 
+     * @param chunk The valid leave requests of the chunk.
+     * @param chunkRows The input row number of each leave request.
+     * @param rejected Receives the rows rejected by this chunk.
+     * @return The number of rows inserted.
+     */
+    private int importChunk(List<LeaveRequests> chunk, List<Integer> chunkRows, List<BulkInsertResult.Row> rejected) {
+        List<BulkInsertResult.Row> chunkRejected = new ArrayList<>();
+        try {
+            Integer inserted = transactionTemplate.execute(status -> {
+                Set<Long> employeeIds = new HashSet<>();
+                for (LeaveRequests leaveRequest : chunk) {
+                    employeeIds.add(leaveRequest.getEmployee().getId());
+                }
+                Set<Long> existingIds = theEmpDao.lockByIds(employeeIds);
+                Map<Long, LeaveOverlapIndex> leave = new HashMap<>();
+                theLeaveRequestDao.findPeriods(existingIds)
+                        .forEach((employeeId, periods) -> leave.put(employeeId, LeaveOverlapIndex.of(periods)));
+
+                List<LeaveRequests> valid = new ArrayList<>(chunk.size());
+                for (int i = 0; i < chunk.size(); i++) {
+                    LeaveRequests leaveRequest = chunk.get(i);
+                    Long employeeId = leaveRequest.getEmployee().getId();
+                    if (!existingIds.contains(employeeId)) {
+                        chunkRejected.add(BulkInsertResult.Row.rejected(chunkRows.get(i), null,
+                                "Not a valid Employee Id " + employeeId));
+                        continue;
+                    }
+                    if (leaveRequest.getLeaveStatus() != LeaveStatus.REJECTED) {
+                        LeavePeriod period = new LeavePeriod(leaveRequest.getStartDate(), leaveRequest.getEndDate());
+                        LeaveOverlapIndex index = leave.getOrDefault(employeeId, LeaveOverlapIndex.of(List.of()));
+                        if (index.overlaps(period.startDate(), period.endDate())) {
+                            chunkRejected.add(BulkInsertResult.Row.rejected(chunkRows.get(i), null,
+                                    LeaveOverlapException.message(employeeId, period.startDate(), period.endDate())));
+                            continue;
+                        }
+                        leave.put(employeeId, index.with(period));
+                        leaveOverlapCache.addBeforeCommit(employeeId, period);
+                    }
+                    valid.add(leaveRequest);
+                }
+                theLeaveRequestDao.saveAll(valid);
+                return valid.size();
+            });
+            rejected.addAll(chunkRejected);
+            return inserted;
+        } catch (DataAccessException | TransactionException e) {
+            String error = "Chunk rolled back: " + e.getMostSpecificCause().getMessage();
+            for (Integer row : chunkRows) {
+                rejected.add(BulkInsertResult.Row.rejected(row, null, error));
+            }
+            return 0;
+        }
+    }
+
     /**
      * Fetches all leave requests from the database.
      * 
      * @return List of all leave requests.
      */
     @Override
+    @Transactional(readOnly = true)
     public List<LeaveRequests> findAll() {
         return theLeaveRequestDao.findAll();
     }
 
+    /**
+     * Fetches one keyset page of leave requests.
+     * One extra row is read to know whether a next page exists.
+     * 
+     * @param after Cursor from the previous page, or null for the first page.
+     * @param limit Requested page size, or null for the default.
+     * @return The page of leave requests and the next cursor.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<LeaveRequests> findPage(Long after, Integer limit) {
+        int pageSize = KeysetPage.pageSize(limit);
+        List<LeaveRequests> rows = theLeaveRequestDao.findPage(after != null ? after : 0L, pageSize + 1);
+        return KeysetPage.of(rows, pageSize, LeaveRequests::getId);
+    }
+
+    /**
+     * Fetches one keyset page of the leave requests matching the filters.
+     * One extra row is read to know whether a next page exists.
+     * 
+     * @param criteria Filters on employee, status and date range.
+     * @param after Cursor from the previous page, or null for the first page.
+     * @param limit Requested page size, or null for the default.
+     * @return The page of leave requests and the next cursor.
+     * @throws MyCustomExceptionClass If the date range is inverted.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<LeaveRequests> search(LeaveRequestSearch criteria, Long after, Integer limit) {
+        if (criteria.from() != null && criteria.to() != null && criteria.from().isAfter(criteria.to())) {
+            throw new MyCustomExceptionClass("The search date 'from' " + criteria.from()
+                    + " must not be after 'to' " + criteria.to() + ".");
+        }
+        int pageSize = KeysetPage.pageSize(limit);
+        List<LeaveRequests> rows = theLeaveRequestDao.search(criteria, after != null ? after : 0L, pageSize + 1);
+        return KeysetPage.of(rows, pageSize, LeaveRequests::getId);
+    }
+
+    /**
+     * Streams all leave requests to the given action.
+     * The transaction keeps one connection and persistence context open while the cursor is read.
+     * 
+     * @param action Receives each leave request.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAll(Consumer<LeaveRequests> action) {
+        theLeaveRequestDao.streamAll(action);
+    }
+
     /**
      * Fetches a specific leave request by ID.
      * 
@@ -124,6 +441,7 @@ public class LeaveRequestServiceImpl implements LeaveRequestService {
      * @return The leave request entity.
      */
     @Override
+    @Transactional(readOnly = true)
     public LeaveRequests findById(int theID) {
         return theLeaveRequestDao.findById(theID);
     }
@@ -131,16 +449,21 @@ public class LeaveRequestServiceImpl implements LeaveRequestService {
     /**
      * Updates an existing leave request based on the provided ID.
      * 
-     * This method performs the following validations and updates:
+     * This method performs the following validations and updates in two statements:
      * - Ensures that the leave request ID in the request body matches the ID in the URL.
-     * - Checks if the leave request exists in the database before proceeding.
-     * - Validates whether the associated employee exists based on both name and ID.
-     * - Updates only non-null fields in the existing leave request.
+     * - One query loads and locks the existing leave request with its employee and checks that the
+     *   referenced employee exists (and has the given name, if one is provided).
+     * - One UPDATE writes only the non-null fields (leave type, dates, status) and updated_at;
+     *   the entity is never merged, so unchanged columns are not rewritten.
+     * 
+     * When the dates change, or the status changes to or from REJECTED, the employee is also locked
+     * and the changed leave checked against the employee's other leave, as in {@link #save(LeaveRequests)}.
      * 
      * @param theLeaveRequest The updated leave request details received from the client.
      * @param id The unique identifier of the leave request to be updated.
-     * @return The updated leave request object after persistence.
-     * @throws MyCustomExceptionClass If the provided leave request ID does not match the URL ID.
+     * @return The leave request as stored after the update.
+     * @throws MyCustomExceptionClass If the IDs do not match, the leave request or employee is not found, or the dates are inverted.
+     * @throws LeaveOverlapException If the changed leave overlaps another leave request of the employee.
      */
     @Override
     @Transactional
@@ -152,29 +475,21 @@ public class LeaveRequestServiceImpl implements LeaveRequestService {
                     " does not match the Leave ID in the request body: " + theLeaveRequest.getId());
         }
 
-        // Retrieve the existing leave request from the database
-        // If not found, findById() will throw an exception handled by Controller Advice
-        LeaveRequests existingLeaveRequest = theLeaveRequestDao.findById(id);
-
-        // Extract employee details from the request body for validation
-        String employeeName = theLeaveRequest.getEmployee().getName();
+        if (theLeaveRequest.getEmployee() == null || theLeaveRequest.getEmployee().getId() == null) {
+            throw new MyCustomExceptionClass("Employee ID is required to update Leave Request ID: " + id);
+        }
 
-        // Convert the employee ID from Long (wrapper type) to primitive int
-        int employeeId = theLeaveRequest.getEmployee().getId().intValue();
+        // Load the existing row and validate the employee reference in one query;
+        // throws MyCustomExceptionClass (handled by Controller Advice) if either is invalid.
+        LeaveRequests existingLeaveRequest = theLeaveRequestDao.findByIdForUpdate(id,
+                theLeaveRequest.getEmployee().getId(), theLeaveRequest.getEmployee().getName());
 
-        // Validate if the employee exists in the system
-        // findByName() will throw an exception if the employee is not found
-        if (!theEmpDao.findByName(employeeName).getName().equals(employeeName)) {
-            throw new MyCustomExceptionClass("Employee with name '" + employeeName + "' does not exist.");
-        }
+        checkChange(existingLeaveRequest, theLeaveRequest);
 
-        // Validate if the employee ID exists in the system
-        // findById() will throw an exception if the employee ID is invalid
-        if (theEmpDao.findById(employeeId) == null) {
-            throw new MyCustomExceptionClass("Invalid Employee ID: " + employeeId);
-        }
+        // Write only the fields that are not null in the request object
+        theLeaveRequestDao.updateFields(id, null, theLeaveRequest);
 
-        // Update only the fields that are not null in the request object
+        // Mirror the same changes on the detached copy returned to the client
         if (theLeaveRequest.getLeaveType() != null) {
             existingLeaveRequest.setLeaveType(theLeaveRequest.getLeaveType());
         }
@@ -187,19 +502,149 @@ public class LeaveRequestServiceImpl implements LeaveRequestService {
         if (theLeaveRequest.getLeaveStatus() != null) {
             existingLeaveRequest.setLeaveStatus(theLeaveRequest.getLeaveStatus());
         }
-        
-        // Persist the updated leave request in the database and return the updated entity
-        return theLeaveRequestDao.updateById(existingLeaveRequest, id);
+        existingLeaveRequest.setVersion(existingLeaveRequest.getVersion() + 1);
+        return existingLeaveRequest;
+    }
+
+    /**
+     * Applies a partial update to a leave request, guarded by its version.
+     * 
+     * Unlike {@link #updateById(LeaveRequests, int)}, a change of the leave type or status reads nothing:
+     * one UPDATE ... WHERE id = ? AND version = ? writes the non-null fields. An approval skips a row that
+     * is REJECTED, since bringing it back has to be checked. A change of dates, or the approval of a
+     * REJECTED row, first locks the row, compares its version and checks the change against the
+     * employee's other leave, as {@link #updateById(LeaveRequests, int)} does. While the overlap cache is
+     * enabled, a rejection takes that path as well, to evict the employee. When two approvers act on the
+     * same request, the second one finds a newer version and is reported as a conflict.
+     * 
+     * @param changes The fields to change, with the version the client read.
+     * @param id The unique identifier of the leave request to be updated.
+     * @return {@code changes} with the ID and the new version set.
+     * @throws MyCustomExceptionClass If the IDs do not match, no version is given or the dates are inverted.
+     * @throws VersionConflictException If the leave request is no longer at the given version.
+     * @throws LeaveOverlapException If the changed leave overlaps another leave request of the employee.
+     */
+    @Override
+    @Transactional
+    public LeaveRequests patchById(LeaveRequests changes, int id) {
+        if (changes.getId() != null && changes.getId() != id) {
+            throw new MyCustomExceptionClass("The Requested Leave ID " + id + 
+                    " does not match the Leave ID in the request body: " + changes.getId());
+        }
+        if (changes.getVersion() == null) {
+            throw new MyCustomExceptionClass("The version of Leave ID " + id + " is required for a partial update.");
+        }
+        LeaveStatus status = changes.getLeaveStatus();
+        boolean datesChange = changes.getStartDate() != null || changes.getEndDate() != null;
+        // Rejecting only removes leave, so nothing can overlap; only the overlap cache has to forget it
+        boolean cachedRejection = status == LeaveStatus.REJECTED && leaveOverlapCache.isEnabled();
+        int updated = 0;
+        if (!datesChange && !cachedRejection) {
+            LeaveStatus skippedStatus = status != null && status != LeaveStatus.REJECTED ? LeaveStatus.REJECTED : null;
+            updated = theLeaveRequestDao.updateFields(id, changes.getVersion(), changes, skippedStatus);
+        }
+        if (updated == 0 && (datesChange || cachedRejection || (status != null && status != LeaveStatus.REJECTED))) {
+            // Dates change, or the row may be REJECTED and brought back: lock it and check the change
+            List<LeaveRequests> existing = theLeaveRequestDao.findAllForUpdate(List.of((long) id));
+            if (existing.isEmpty() || !existing.get(0).getVersion().equals(changes.getVersion())) {
+                throw new VersionConflictException("Leave request", id, changes.getVersion());
+            }
+            checkChange(existing.get(0), changes);
+            updated = theLeaveRequestDao.updateFields(id, changes.getVersion(), changes);
+        }
+        if (updated == 0) {
+            throw new VersionConflictException("Leave request", id, changes.getVersion());
+        }
+        changes.setId((long) id);
+        changes.setVersion(changes.getVersion() + 1);
+        return changes;
+    }
+
+    /**
+     * Sets the status of many leave requests with one set-based UPDATE instead of one
+     * load-and-merge per ID.
+     * 
+     * The rows are locked and read first, with one query. Rows whose status changes to or from
+     * REJECTED also lock their employees, and rows brought back from REJECTED are checked against
+     * the employee's other leave, including the other rows of the same call. The other leave of all
+     * those employees is read with one query.
+     * 
+     * @param ids The IDs of the leave requests.
+     * @param status The new status.
+     * @return The IDs of the leave requests that were changed, in ascending order.
+     * @throws MyCustomExceptionClass If no IDs, too many IDs or no status are given.
+     * @throws LeaveOverlapException If a leave request brought back from REJECTED overlaps other leave of its employee.
+     */
+    @Override
+    @Transactional
+    public List<Long> updateStatus(List<Long> ids, LeaveStatus status) {
+        if (ids == null || ids.isEmpty()) {
+            throw new MyCustomExceptionClass("At least one Leave ID is required to change the status.");
+        }
+        if (ids.size() > ApplicationConstants.MAX_BULK_STATUS_IDS) {
+            throw new MyCustomExceptionClass("At most " + ApplicationConstants.MAX_BULK_STATUS_IDS
+                    + " Leave IDs can be changed at once, got " + ids.size() + ".");
+        }
+        if (status == null) {
+            throw new MyCustomExceptionClass("The new Leave status is required.");
+        }
+        List<Long> changed = new ArrayList<>();
+        List<LeaveRequests> moved = new ArrayList<>();
+        for (LeaveRequests leaveRequest : theLeaveRequestDao.findAllForUpdate(new HashSet<>(ids))) {
+            if (leaveRequest.getLeaveStatus() == status) {
+                continue;
+            }
+            changed.add(leaveRequest.getId());
+            if ((leaveRequest.getLeaveStatus() == LeaveStatus.REJECTED) != (status == LeaveStatus.REJECTED)) {
+                moved.add(leaveRequest);
+            }
+        }
+        if (!moved.isEmpty()) {
+            Set<Long> employeeIds = new HashSet<>();
+            for (LeaveRequests leaveRequest : moved) {
+                employeeIds.add(leaveRequest.getEmployee().getId());
+            }
+            lockEmployees(employeeIds);
+            if (status != LeaveStatus.REJECTED) {
+                // The moved rows are still rejected in the database, so they are added to the index as they pass
+                Map<Long, List<LeavePeriod>> existing = theLeaveRequestDao.findPeriods(employeeIds);
+                Map<Long, LeaveOverlapIndex> indexes = new HashMap<>();
+                for (LeaveRequests leaveRequest : moved) {
+                    long employeeId = leaveRequest.getEmployee().getId();
+                    LocalDate startDate = leaveRequest.getStartDate();
+                    LocalDate endDate = leaveRequest.getEndDate();
+                    LeaveOverlapIndex index = indexes.computeIfAbsent(employeeId,
+                            id -> LeaveOverlapIndex.of(existing.getOrDefault(id, List.of())));
+                    if (index.overlaps(startDate, endDate)) {
+                        throw new LeaveOverlapException(employeeId, startDate, endDate);
+                    }
+                    indexes.put(employeeId, index.with(new LeavePeriod(startDate, endDate)));
+                }
+            }
+        }
+        theLeaveRequestDao.updateStatus(changed, status);
+        return changed;
     }
 
     /**
      * Deletes a leave request by ID.
+     * Deleting leave that is not rejected changes the employee's leave, so the employee is locked as well.
+     * The locked row is then deleted without being loaded again.
      * 
      * @param id The ID of the leave request to delete.
+     * @throws MyCustomExceptionClass If the leave request does not exist.
      */
     @Override
     @Transactional
     public void deleteById(int id) {
-        theLeaveRequestDao.deleteById(id);
+        List<LeaveRequests> locked = theLeaveRequestDao.findAllForUpdate(List.of((long) id));
+        if (locked.isEmpty()) {
+            throw new MyCustomExceptionClass("Leave request with ID: " + id + " does not exist for deletion.");
+        }
+        LeaveRequests existing = locked.get(0);
+        if (existing.getLeaveStatus() != LeaveStatus.REJECTED) {
+            lockEmployees(List.of(existing.getEmployee().getId()));
+        }
+        theLeaveRequestDao.delete(existing);
     }
 }
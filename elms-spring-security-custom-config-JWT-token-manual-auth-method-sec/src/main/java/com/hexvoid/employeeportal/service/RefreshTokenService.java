@@ -0,0 +1,38 @@
+package com.hexvoid.employeeportal.service;
+
+/**
+ * Service interface for issuing and rotating refresh tokens.
+ * <p>
+ * Refresh tokens let a client obtain new short-lived access tokens without sending the
+ * password again, so the expensive password hash is only checked once per session.
+ */
+public interface RefreshTokenService {
+
+	/**
+	 * Issues a new refresh token for the given user.
+	 *
+	 * @param email the authenticated user's email
+	 * @return the opaque refresh token to hand to the client
+	 */
+	String createRefreshToken(String email);
+
+	/**
+	 * Validates and consumes a refresh token. A token can be consumed only once.
+	 *
+	 * @param refreshToken the refresh token sent by the client
+	 * @return the email of the user the token was issued to
+	 * @throws org.springframework.security.authentication.BadCredentialsException if the token is
+	 *         unknown, expired or has already been used
+	 */
+	String consumeRefreshToken(String refreshToken);
+
+	/**
+	 * Revokes a refresh token of the given user. A token issued to anyone else, unknown or already
+	 * used is left alone.
+	 *
+	 * @param refreshToken the refresh token sent by the client
+	 * @param email        the user logging out
+	 * @return true if the token was revoked
+	 */
+	boolean revokeRefreshToken(String refreshToken, String email);
+}
@@ -0,0 +1,111 @@
+package com.hexvoid.employeeportal.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Service;
+
+import com.hexvoid.employeeportal.dao.RefreshTokenDao;
+import com.hexvoid.employeeportal.entity.RefreshToken;
+
+import jakarta.transaction.Transactional;
+
+/**
+ * Service implementation for opaque, single-use refresh tokens.
+ * <p>
+ * A refresh token is 256 random bits, base64url encoded. Only its SHA-256 digest is stored in
+ * {@code refresh_tokens}, so validating it is one primary-key lookup and one delete, with no
+ * password hashing involved. Each successful refresh deletes the presented token and issues a
+ * new one (rotation), so a stolen token stops working as soon as either party uses it.
+ */
+@Service
+public class RefreshTokenServiceImpl implements RefreshTokenService {
+
+	private static final int TOKEN_BYTES = 32;
+
+	private final RefreshTokenDao refreshTokenDao;
+	private final Duration refreshTokenValidity;
+	private final SecureRandom secureRandom = new SecureRandom();
+
+	/**
+	 * Constructor-based dependency injection of DAO layer.
+	 *
+	 * @param refreshTokenDao      DAO for refresh tokens
+	 * @param refreshTokenValidity how long an issued refresh token stays valid
+	 */
+	@Autowired
+	public RefreshTokenServiceImpl(RefreshTokenDao refreshTokenDao,
+			@Value("${jwt.refresh-token-validity:7d}") Duration refreshTokenValidity) {
+		this.refreshTokenDao = refreshTokenDao;
+		this.refreshTokenValidity = refreshTokenValidity;
+	}
+
+	@Override
+	@Transactional
+	public String createRefreshToken(String email) {
+		byte[] tokenBytes = new byte[TOKEN_BYTES];
+		secureRandom.nextBytes(tokenBytes);
+		String refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(tokenBytes);
+
+		refreshTokenDao.save(new RefreshToken(digest(refreshToken), email, Instant.now().plus(refreshTokenValidity)));
+		return refreshToken;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>An expired token is deleted as well; the rejection does not roll that delete back.
+	 */
+	@Override
+	@Transactional(dontRollbackOn = BadCredentialsException.class)
+	public String consumeRefreshToken(String refreshToken) {
+		if (refreshToken == null || refreshToken.isBlank()) {
+			throw new BadCredentialsException("Invalid refresh token");
+		}
+		String tokenHash = digest(refreshToken);
+		RefreshToken stored = refreshTokenDao.findById(tokenHash)
+				.orElseThrow(() -> new BadCredentialsException("Invalid refresh token"));
+
+		// Only the request that actually deletes the row wins; a concurrent replay sees 0 rows.
+		if (refreshTokenDao.deleteByTokenHash(tokenHash) == 0 || stored.isExpired()) {
+			throw new BadCredentialsException("Invalid refresh token");
+		}
+		return stored.getEmail();
+	}
+
+	@Override
+	@Transactional
+	public boolean revokeRefreshToken(String refreshToken, String email) {
+		if (refreshToken == null || refreshToken.isBlank()) {
+			return false;
+		}
+		return refreshTokenDao.deleteByTokenHashAndEmail(digest(refreshToken), email) > 0;
+	}
+
+	/**
+	 * Periodically removes expired tokens that were never used.
+	 */
+	@Scheduled(fixedDelayString = "${jwt.refresh-token-purge-interval:PT1H}")
+	@Transactional
+	public void purgeExpiredRefreshTokens() {
+		refreshTokenDao.deleteExpired(Instant.now());
+	}
+
+	private static String digest(String refreshToken) {
+		try {
+			byte[] hash = MessageDigest.getInstance("SHA-256").digest(refreshToken.getBytes(StandardCharsets.UTF_8));
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+		} catch (NoSuchAlgorithmException e) {
+			// SHA-256 is mandatory on every Java platform.
+			throw new IllegalStateException(e);
+		}
+	}
+}
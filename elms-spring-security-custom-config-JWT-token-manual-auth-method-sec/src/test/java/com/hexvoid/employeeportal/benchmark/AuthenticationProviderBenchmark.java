@@ -0,0 +1,132 @@
+package com.hexvoid.employeeportal.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.hexvoid.employeeportal.dao.EmployeeCredentialsDao;
+import com.hexvoid.employeeportal.dao.RefreshTokenDao;
+import com.hexvoid.employeeportal.entity.EmployeeAuthorities;
+import com.hexvoid.employeeportal.entity.EmployeeCredentials;
+import com.hexvoid.employeeportal.security.CalibratedBCryptPasswordEncoder;
+import com.hexvoid.employeeportal.security.EmployeeUserCache;
+import com.hexvoid.employeeportal.security.EmployeeUserDetailsService;
+import com.hexvoid.employeeportal.security.EmployeeUserNamePwdAuthenticationProvider;
+import com.hexvoid.employeeportal.security.PasswordHashingExecutor;
+import com.hexvoid.employeeportal.service.EmployeeSecretServiceImpl;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Measures {@link EmployeeUserNamePwdAuthenticationProvider#authenticate(Authentication)} end to end:
+ * user lookup, bcrypt check on the {@link PasswordHashingExecutor} and token creation.
+ *
+ * <p>The database is replaced by a stub {@link EmployeeCredentialsDao} that returns one fixed user,
+ * so the numbers show the cost of the provider itself. bcrypt dominates at production strengths;
+ * strength 4 exposes the overhead around it.
+ *
+ * <p>Run with: {@code mvn -Pjmh verify -Djmh.args="AuthenticationProviderBenchmark -prof gc"}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthenticationProviderBenchmark {
+
+	private static final String EMAIL = "admin@hexvoid.com";
+	private static final String PASSWORD = "secret";
+
+	@Param({ "4", "10" })
+	public int bcryptStrength;
+
+	/** Whether {@link EmployeeUserCache} serves the user instead of the (stub) DAO. */
+	@Param({ "true", "false" })
+	public boolean userCache;
+
+	private PasswordHashingExecutor passwordHashingExecutor;
+	private EmployeeUserNamePwdAuthenticationProvider provider;
+
+	@Setup
+	public void setUp() {
+		ObjectProvider<MeterRegistry> noRegistry = new DefaultListableBeanFactory().getBeanProvider(MeterRegistry.class);
+		PasswordEncoder passwordEncoder = new CalibratedBCryptPasswordEncoder(bcryptStrength);
+
+		EmployeeUserCache employeeUserCache = new EmployeeUserCache(userCache, Duration.ofMinutes(10), 10_000, noRegistry);
+		// No cache invalidator: it is only used when credentials change, which the measured path never does.
+		EmployeeSecretServiceImpl employeeSecretService = new EmployeeSecretServiceImpl(
+				stubDao(user(passwordEncoder.encode(PASSWORD))), employeeUserCache,
+				null, unusedDao(RefreshTokenDao.class));
+		passwordHashingExecutor = new PasswordHashingExecutor(0, 64, Duration.ofSeconds(1), noRegistry);
+
+		provider = new EmployeeUserNamePwdAuthenticationProvider(
+				new EmployeeUserDetailsService(employeeSecretService, employeeUserCache),
+				passwordEncoder, passwordHashingExecutor);
+	}
+
+	@TearDown
+	public void tearDown() {
+		passwordHashingExecutor.destroy();
+	}
+
+	@Benchmark
+	public Authentication authenticate() {
+		return provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated(EMAIL, PASSWORD));
+	}
+
+	private static EmployeeCredentials user(String encodedPassword) {
+		EmployeeCredentials employeeCredentials = new EmployeeCredentials();
+		employeeCredentials.setName("Admin");
+		employeeCredentials.setEmail(EMAIL);
+		employeeCredentials.setPassword(encodedPassword);
+		employeeCredentials.setRoles("admin");
+		employeeCredentials.setEmployeeAuthorities(new ArrayList<>());
+		for (String authority : new String[] { "VIEW", "UPDATE", "ROLE_ADMIN" }) {
+			EmployeeAuthorities employeeAuthority = new EmployeeAuthorities();
+			employeeAuthority.setAuthority(authority);
+			employeeCredentials.associateAuthorities(employeeAuthority);
+		}
+		return employeeCredentials;
+	}
+
+	/** A DAO answering {@code findByEmail} from memory; any other call fails. */
+	private static EmployeeCredentialsDao stubDao(EmployeeCredentials employeeCredentials) {
+		return (EmployeeCredentialsDao) Proxy.newProxyInstance(
+				EmployeeCredentialsDao.class.getClassLoader(),
+				new Class<?>[] { EmployeeCredentialsDao.class },
+				(proxy, method, args) -> {
+					if (method.getName().equals("findByEmail")) {
+						return employeeCredentials.getEmail().equals(args[0]) ? employeeCredentials : null;
+					}
+					throw new UnsupportedOperationException(method.getName());
+				});
+	}
+
+	/** A DAO the measured path never calls; any call fails. */
+	private static <T> T unusedDao(Class<T> daoType) {
+		return daoType.cast(Proxy.newProxyInstance(daoType.getClassLoader(), new Class<?>[] { daoType },
+				(proxy, method, args) -> {
+					throw new UnsupportedOperationException(method.getName());
+				}));
+	}
+}
@@ -0,0 +1,132 @@
+package com.hexvoid.employeeportal.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import com.hexvoid.employeeportal.constants.ApplicationConstants;
+import com.hexvoid.employeeportal.security.AuthorityClaimCodec;
+import com.hexvoid.employeeportal.security.JWTTokenCodec;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * Compares the old per-request JWT setup (derive the HMAC key and build a parser on every call)
+ * with the shared {@link JWTTokenCodec} created once at startup, and the comma-joined
+ * {@code authorities} claim with the compact {@code authMask} claim of {@link AuthorityClaimCodec}.
+ *
+ * <p>Run with: {@code mvn -Pjmh verify -Djmh.args="JWTTokenCodecBenchmark -prof gc"}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JWTTokenCodecBenchmark {
+
+	private static final String SECRET = ApplicationConstants.JWT_DEFAULT_SECRET_VALUE;
+
+	private static final List<GrantedAuthority> AUTHORITIES = List.of(
+			new SimpleGrantedAuthority("VIEW"),
+			new SimpleGrantedAuthority("UPDATE"),
+			new SimpleGrantedAuthority("ROLE_ADMIN"));
+
+	private JWTTokenCodec jwtTokenCodec;
+	private String jwt;
+	private Claims commaSeparatedClaims;
+
+	private JWTTokenCodec compactTokenCodec;
+	private String compactJwt;
+	private Claims compactClaims;
+
+	@Setup
+	public void setUp() {
+		jwtTokenCodec = new JWTTokenCodec(SECRET);
+		jwt = jwtTokenCodec.generateToken("admin@hexvoid.com", AUTHORITIES);
+		commaSeparatedClaims = jwtTokenCodec.parseClaims(jwt);
+
+		compactTokenCodec = new JWTTokenCodec(SECRET, ApplicationConstants.JWT_DEFAULT_ACCESS_TOKEN_VALIDITY,
+				new AuthorityClaimCodec(true, List.of("VIEW", "UPDATE", "DELETE", "ROLE_ADMIN", "ROLE_EMPLOYEE")));
+		compactJwt = compactTokenCodec.generateToken("admin@hexvoid.com", AUTHORITIES);
+		compactClaims = compactTokenCodec.parseClaims(compactJwt);
+	}
+
+	/** What JWTTokenValidatorFilter used to do for every request. */
+	@Benchmark
+	public Claims parsePerRequestKeyAndParser() {
+		SecretKey secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+		return Jwts.parser()
+				.verifyWith(secretKey)
+				.build()
+				.parseSignedClaims(jwt)
+				.getPayload();
+	}
+
+	@Benchmark
+	public Claims parseSharedCodec() {
+		return jwtTokenCodec.parseClaims(jwt);
+	}
+
+	/** What JWTTokenGeneratorFilter and /api/login used to do for every issued token. */
+	@Benchmark
+	public String issuePerRequestKey() {
+		SecretKey secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+		return Jwts.builder()
+				.issuer("Hex Void")
+				.subject("JWT Token")
+				.claim("email", "admin@hexvoid.com")
+				.claim("authorities", "VIEW,UPDATE,ROLE_ADMIN")
+				.issuedAt(new Date())
+				.expiration(new Date(System.currentTimeMillis() + 1000 * 60 * 60 * 24))
+				.signWith(secretKey)
+				.compact();
+	}
+
+	@Benchmark
+	public String issueSharedCodec() {
+		return jwtTokenCodec.generateToken("admin@hexvoid.com", AUTHORITIES);
+	}
+
+	/** Full verify + authority resolution with the comma-joined claim. */
+	@Benchmark
+	public List<GrantedAuthority> parseAndResolveCommaSeparated() {
+		return jwtTokenCodec.parseAuthorities(jwtTokenCodec.parseClaims(jwt));
+	}
+
+	/** Full verify + authority resolution with the bitmask claim (also a shorter token). */
+	@Benchmark
+	public List<GrantedAuthority> parseAndResolveCompact() {
+		return compactTokenCodec.parseAuthorities(compactTokenCodec.parseClaims(compactJwt));
+	}
+
+	/** Authority resolution alone: split + allocate per request. */
+	@Benchmark
+	public List<GrantedAuthority> resolveCommaSeparated() {
+		return jwtTokenCodec.parseAuthorities(commaSeparatedClaims);
+	}
+
+	/** Authority resolution alone: cached lookup of a preallocated list. */
+	@Benchmark
+	public List<GrantedAuthority> resolveCompact() {
+		return compactTokenCodec.parseAuthorities(compactClaims);
+	}
+}
@@ -0,0 +1,164 @@
+package com.hexvoid.employeeportal.benchmark;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import com.hexvoid.employeeportal.EmployeeLeaveManagementSystemApplication;
+import com.hexvoid.employeeportal.constants.ApplicationConstants;
+import com.hexvoid.employeeportal.dao.EmployeeCredentialsDao;
+import com.hexvoid.employeeportal.entity.EmployeeAuthorities;
+import com.hexvoid.employeeportal.entity.EmployeeCredentials;
+import com.hexvoid.employeeportal.entity.Employees;
+import com.hexvoid.employeeportal.security.EmployeeUserDetailsService;
+import com.hexvoid.employeeportal.security.JWTTokenCodec;
+import com.hexvoid.employeeportal.service.EmployeeService;
+
+import jakarta.servlet.Filter;
+
+/**
+ * Measures a full pass through the {@code SecurityFilterChain} and the controller via {@link MockMvc}.
+ *
+ * <p>The whole application is started once per fork against an in-memory H2 database with quiet
+ * logging and bcrypt strength 4, and one user and one employee are seeded. Each benchmark sends one request:
+ * <ul>
+ *   <li>{@link #jwtAuthenticatedRequest()}: {@code GET /api/employee/{id}} with a bearer token</li>
+ *   <li>{@link #basicAuthenticatedLogin()}: {@code GET /user/details} with HTTP Basic, which also issues a token</li>
+ *   <li>{@link #rejectedAnonymousRequest()}: {@code GET /api/leave} without credentials</li>
+ * </ul>
+ *
+ * <p>Run with: {@code mvn -Pjmh verify -Djmh.args="SecurityFilterChainBenchmark -prof gc"}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SecurityFilterChainBenchmark {
+
+	private static final String EMAIL = "admin@hexvoid.com";
+	private static final String PASSWORD = "secret";
+
+	private ConfigurableApplicationContext context;
+	private MockMvc mockMvc;
+	private String jwt;
+	private String basicHeader;
+	private String employeePath;
+	private PrintStream originalOut;
+
+	@Setup
+	public void setUp() {
+		context = new SpringApplicationBuilder(EmployeeLeaveManagementSystemApplication.class)
+				// Command-line arguments, so they take precedence over application.properties
+				.run(
+						"--server.port=0",
+						"--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+						"--spring.datasource.username=sa",
+						"--spring.datasource.password=",
+						"--spring.jpa.hibernate.ddl-auto=create-drop",
+						"--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+						"--spring.jpa.show-sql=false",
+						"--logging.level.root=WARN",
+						"--logging.level.com.hexvoid=WARN",
+						"--logging.level.org.springframework.security=WARN",
+						"--logging.level.org.springframework.jdbc=WARN",
+						"--logging.level.org.hibernate.SQL=WARN",
+						"--logging.level.org.hibernate.orm.jdbc.bind=WARN",
+						"--security.password-encoder.bcrypt-strength=4");
+		try {
+			seed();
+		} catch (RuntimeException e) {
+			// Tomcat's non-daemon threads would otherwise keep the forked JVM alive
+			context.close();
+			throw e;
+		}
+
+		// The controllers print to stdout; keep the cost but not the console noise.
+		originalOut = System.out;
+		System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+	}
+
+	/**
+	 * Seeds the user and the employee the benchmarks request, and builds the request credentials.
+	 */
+	private void seed() {
+		EmployeeCredentials employeeCredentials = new EmployeeCredentials();
+		employeeCredentials.setName("Admin");
+		employeeCredentials.setEmail(EMAIL);
+		employeeCredentials.setPassword(context.getBean(PasswordEncoder.class).encode(PASSWORD));
+		employeeCredentials.setRoles("admin");
+		employeeCredentials.setEmployeeAuthorities(new ArrayList<>());
+		for (String authority : new String[] { "VIEW", "UPDATE", "DELETE", "ROLE_ADMIN" }) {
+			EmployeeAuthorities employeeAuthority = new EmployeeAuthorities();
+			employeeAuthority.setAuthority(authority);
+			employeeCredentials.associateAuthorities(employeeAuthority);
+		}
+		context.getBean(EmployeeCredentialsDao.class).save(employeeCredentials);
+
+		Employees employee = new Employees();
+		employee.setName("Benchmark");
+		employee.setEmail("benchmark@hexvoid.com");
+		context.getBean(EmployeeService.class).save(employee);
+		employeePath = "/api/employee/" + employee.getId();
+
+		mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context)
+				.addFilters(context.getBean("springSecurityFilterChain", Filter.class))
+				.build();
+		jwt = context.getBean(JWTTokenCodec.class).generateToken(EMAIL,
+				context.getBean(EmployeeUserDetailsService.class)
+						.loadUserByUsername(EMAIL).getAuthorities());
+		basicHeader = "Basic " + Base64.getEncoder()
+				.encodeToString((EMAIL + ":" + PASSWORD).getBytes(StandardCharsets.UTF_8));
+	}
+
+	@TearDown
+	public void tearDown() {
+		System.setOut(originalOut);
+		context.close();
+	}
+
+	@Benchmark
+	public int jwtAuthenticatedRequest() throws Exception {
+		return mockMvc.perform(get(employeePath).servletPath(employeePath)
+				.header(ApplicationConstants.JWT_HEADER_NAME, jwt))
+				.andReturn().getResponse().getStatus();
+	}
+
+	@Benchmark
+	public int basicAuthenticatedLogin() throws Exception {
+		return mockMvc.perform(get("/user/details").servletPath("/user/details")
+				.header(HttpHeaders.AUTHORIZATION, basicHeader))
+				.andReturn().getResponse().getStatus();
+	}
+
+	@Benchmark
+	public int rejectedAnonymousRequest() throws Exception {
+		return mockMvc.perform(get("/api/leave").servletPath("/api/leave"))
+				.andReturn().getResponse().getStatus();
+	}
+}
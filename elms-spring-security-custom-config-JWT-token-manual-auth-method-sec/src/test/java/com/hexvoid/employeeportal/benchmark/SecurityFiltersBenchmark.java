@@ -0,0 +1,144 @@
+package com.hexvoid.employeeportal.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.hexvoid.employeeportal.constants.ApplicationConstants;
+import com.hexvoid.employeeportal.filter.JWTTokenGeneratorFilter;
+import com.hexvoid.employeeportal.filter.JWTTokenValidatorFilter;
+import com.hexvoid.employeeportal.filter.RequestValidationBeforeFilter;
+import com.hexvoid.employeeportal.security.InMemoryTokenRevocationStore;
+import com.hexvoid.employeeportal.security.JWTTokenCodec;
+import com.hexvoid.employeeportal.security.JWTTokenDenylist;
+import com.hexvoid.employeeportal.security.JWTVerifiedTokenCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+
+/**
+ * Measures the custom filters of the JWT filter chain in isolation, each with a no-op downstream chain:
+ * <ul>
+ *   <li>{@link JWTTokenValidatorFilter}: verify a bearer token, with and without {@link JWTVerifiedTokenCache}</li>
+ *   <li>{@link JWTTokenGeneratorFilter}: issue a token for the authenticated user on {@code /user/details}</li>
+ *   <li>{@link RequestValidationBeforeFilter}: decode and inspect the HTTP Basic header</li>
+ * </ul>
+ *
+ * <p>Run with: {@code mvn -Pjmh verify -Djmh.args="SecurityFiltersBenchmark -prof gc"}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SecurityFiltersBenchmark {
+
+	private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+	private static final List<GrantedAuthority> AUTHORITIES = List.of(
+			new SimpleGrantedAuthority("VIEW"),
+			new SimpleGrantedAuthority("UPDATE"),
+			new SimpleGrantedAuthority("ROLE_ADMIN"));
+
+	private JWTTokenValidatorFilter validatorFilter;
+	private JWTTokenValidatorFilter cachingValidatorFilter;
+	private JWTTokenGeneratorFilter generatorFilter;
+	private RequestValidationBeforeFilter requestValidationFilter;
+
+	private MockHttpServletRequest bearerRequest;
+	private MockHttpServletRequest userDetailsRequest;
+	private MockHttpServletRequest basicRequest;
+	private MockHttpServletResponse response;
+	private Authentication authentication;
+
+	@Setup
+	public void setUp() {
+		ObjectProvider<MeterRegistry> noRegistry = new DefaultListableBeanFactory().getBeanProvider(MeterRegistry.class);
+		JWTTokenCodec jwtTokenCodec = new JWTTokenCodec(ApplicationConstants.JWT_DEFAULT_SECRET_VALUE);
+		JWTTokenDenylist tokenDenylist = new JWTTokenDenylist(new InMemoryTokenRevocationStore(), 10_000, 0.01);
+
+		validatorFilter = new JWTTokenValidatorFilter(jwtTokenCodec,
+				new JWTVerifiedTokenCache(false, 10_000, noRegistry), tokenDenylist);
+		cachingValidatorFilter = new JWTTokenValidatorFilter(jwtTokenCodec,
+				new JWTVerifiedTokenCache(true, 10_000, noRegistry), tokenDenylist);
+		generatorFilter = new JWTTokenGeneratorFilter(jwtTokenCodec);
+		requestValidationFilter = new RequestValidationBeforeFilter();
+
+		bearerRequest = new MockHttpServletRequest("GET", "/api/employee");
+		bearerRequest.setServletPath("/api/employee");
+		bearerRequest.addHeader(ApplicationConstants.JWT_HEADER_NAME,
+				jwtTokenCodec.generateToken("admin@hexvoid.com", AUTHORITIES));
+
+		userDetailsRequest = new MockHttpServletRequest("GET", "/user/details");
+		userDetailsRequest.setServletPath("/user/details");
+
+		basicRequest = new MockHttpServletRequest("GET", "/user/details");
+		basicRequest.addHeader(HttpHeaders.AUTHORIZATION, "Basic " + Base64.getEncoder()
+				.encodeToString("admin@hexvoid.com:secret".getBytes(StandardCharsets.UTF_8)));
+
+		response = new MockHttpServletResponse();
+		authentication = UsernamePasswordAuthenticationToken.authenticated("admin@hexvoid.com", null, AUTHORITIES);
+	}
+
+	@Benchmark
+	public Authentication validateToken() throws ServletException, IOException {
+		return validate(validatorFilter);
+	}
+
+	/** Same token on every call, so all but the first verification are cache hits. */
+	@Benchmark
+	public Authentication validateCachedToken() throws ServletException, IOException {
+		return validate(cachingValidatorFilter);
+	}
+
+	@Benchmark
+	public String generateToken() throws ServletException, IOException {
+		SecurityContextHolder.getContext().setAuthentication(authentication);
+		try {
+			generatorFilter.doFilter(userDetailsRequest, response, NO_OP_CHAIN);
+			return response.getHeader(ApplicationConstants.JWT_HEADER_NAME);
+		} finally {
+			SecurityContextHolder.clearContext();
+		}
+	}
+
+	@Benchmark
+	public int decodeBasicHeader() throws ServletException, IOException {
+		requestValidationFilter.doFilter(basicRequest, response, NO_OP_CHAIN);
+		return response.getStatus();
+	}
+
+	private Authentication validate(JWTTokenValidatorFilter filter) throws ServletException, IOException {
+		try {
+			filter.doFilter(bearerRequest, response, NO_OP_CHAIN);
+			return SecurityContextHolder.getContext().getAuthentication();
+		} finally {
+			SecurityContextHolder.clearContext();
+		}
+	}
+}
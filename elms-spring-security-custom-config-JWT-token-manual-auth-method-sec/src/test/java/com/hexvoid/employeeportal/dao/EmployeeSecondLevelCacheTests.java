@@ -0,0 +1,135 @@
+package com.hexvoid.employeeportal.dao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hexvoid.employeeportal.entity.EmployeeAuthorities;
+import com.hexvoid.employeeportal.entity.EmployeeCredentials;
+import com.hexvoid.employeeportal.entity.Employees;
+import com.hexvoid.employeeportal.events.EmployeeCacheEvictionEvent;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Counts the SQL statements of repeated employee and credential lookups with the second-level and
+ * query caches enabled, on an embedded H2 database, and checks that {@link EmployeeCacheInvalidator}
+ * evicts what another instance changed.
+ */
+@DataJpaTest(properties = {
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+		"spring.jpa.properties.hibernate.cache.use_query_cache=true",
+		"spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({ EmployeeCacheConfig.class, EmployeeCacheInvalidator.class })
+// Entries are only cached once the inserting transaction has committed, so every step runs in its own transaction.
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EmployeeSecondLevelCacheTests {
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private EmployeeCredentialsDao employeeCredentialsDao;
+
+	@Autowired
+	private EmployeeCacheInvalidator employeeCacheInvalidator;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private EmployeeDAO employeeDao;
+	private TransactionTemplate transactionTemplate;
+	private Statistics statistics;
+	private Employees employee;
+
+	@BeforeEach
+	void setUp() {
+		employeeDao = new EmployeeDaoImpl(entityManager, 50);
+		transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.executeWithoutResult(status -> {
+			employee = new Employees();
+			employee.setName("Alice");
+			employee.setEmail("alice@hexvoid.com");
+			entityManager.persist(employee);
+
+			EmployeeCredentials credentials = new EmployeeCredentials();
+			credentials.setName("Alice");
+			credentials.setEmail("alice@hexvoid.com");
+			credentials.setPassword("{noop}secret");
+			EmployeeAuthorities authority = new EmployeeAuthorities();
+			authority.setAuthority("ROLE_EMPLOYEE");
+			credentials.setEmployeeAuthorities(List.of(authority));
+			entityManager.persist(credentials);
+		});
+
+		SessionFactory sessionFactory = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class);
+		sessionFactory.getCache().evictAllRegions();
+		statistics = sessionFactory.getStatistics();
+		statistics.clear();
+	}
+
+	@AfterEach
+	void tearDown() {
+		transactionTemplate.executeWithoutResult(status -> {
+			entityManager.createQuery("delete from EmployeeAuthorities").executeUpdate();
+			entityManager.createQuery("delete from EmployeeCredentials").executeUpdate();
+			entityManager.createQuery("delete from Employees").executeUpdate();
+		});
+	}
+
+	@Test
+	void findByIdIsServedFromTheCacheAfterTheFirstLoad() {
+		employeeDao.findById(employee.getId().intValue());
+		employeeDao.findById(employee.getId().intValue());
+
+		assertEquals(1, statistics.getPrepareStatementCount());
+		assertEquals(1, statistics.getSecondLevelCacheHitCount());
+	}
+
+	@Test
+	void findByNameAndFindByEmailAreServedFromTheQueryCache() {
+		employeeDao.findByName("Alice");
+		employeeCredentialsDao.findByEmail("alice@hexvoid.com");
+		long statements = statistics.getPrepareStatementCount();
+
+		Employees byName = employeeDao.findByName("Alice");
+		EmployeeCredentials byEmail = transactionTemplate.execute(status -> {
+			EmployeeCredentials credentials = employeeCredentialsDao.findByEmail("alice@hexvoid.com");
+			credentials.getEmployeeAuthorities().size();
+			return credentials;
+		});
+
+		assertEquals(statements, statistics.getPrepareStatementCount());
+		assertEquals(2, statistics.getQueryCacheHitCount());
+		assertEquals(employee.getId(), byName.getId());
+		assertEquals("ROLE_EMPLOYEE", byEmail.getEmployeeAuthorities().get(0).getAuthority());
+	}
+
+	@Test
+	void evictDropsTheEntriesChangedByAnotherInstance() {
+		employeeDao.findById(employee.getId().intValue());
+		employeeDao.findByName("Alice");
+		long statements = statistics.getPrepareStatementCount();
+
+		employeeCacheInvalidator.evict(new EmployeeCacheEvictionEvent(Employees.class, employee.getId()));
+		employeeDao.findById(employee.getId().intValue());
+		employeeDao.findByName("Alice");
+
+		assertEquals(statements + 2, statistics.getPrepareStatementCount());
+	}
+}
@@ -0,0 +1,72 @@
+package com.hexvoid.employeeportal.dao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.hexvoid.employeeportal.entity.Employees;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Checks that {@link IdGeneratorAlignment} moves a generator table past the existing IDs, as left
+ * behind by AUTO_INCREMENT inserts, and never moves it back.
+ *
+ * H2 backs the generators with real sequences, so a generator table like MySQL's is created here.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class IdGeneratorAlignmentTests {
+
+	private static final String TABLE = "legacy_employees_seq";
+	private static final int INCREMENT_SIZE = 50;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private IdGeneratorAlignment alignment;
+	private long maxId;
+
+	@BeforeEach
+	void setUp() {
+		// DDL commits in H2, so the table outlives the rolled-back test transaction.
+		entityManager.createNativeQuery("CREATE TABLE IF NOT EXISTS " + TABLE + " (next_val BIGINT)").executeUpdate();
+		entityManager.createNativeQuery("DELETE FROM " + TABLE).executeUpdate();
+		entityManager.createNativeQuery("INSERT INTO " + TABLE + " VALUES (1)").executeUpdate();
+		for (int i = 0; i < 3; i++) {
+			Employees employee = new Employees();
+			employee.setName("Employee " + i);
+			employee.setEmail("employee" + i + "@hexvoid.com");
+			entityManager.persist(employee);
+			maxId = Math.max(maxId, employee.getId());
+		}
+		entityManager.flush();
+		alignment = new IdGeneratorAlignment(entityManager, transactionManager);
+	}
+
+	@Test
+	void generatorTableIsMovedPastTheHighestId() {
+		assertEquals(1, alignment.align(Employees.class, TABLE, INCREMENT_SIZE));
+
+		assertEquals(maxId + INCREMENT_SIZE, nextValue());
+	}
+
+	@Test
+	void alignedGeneratorTableIsLeftAlone() {
+		entityManager.createNativeQuery("UPDATE " + TABLE + " SET next_val = " + (maxId + 1000)).executeUpdate();
+
+		assertEquals(0, alignment.align(Employees.class, TABLE, INCREMENT_SIZE));
+
+		assertEquals(maxId + 1000, nextValue());
+	}
+
+	private long nextValue() {
+		return ((Number) entityManager.createNativeQuery("SELECT next_val FROM " + TABLE).getSingleResult()).longValue();
+	}
+}
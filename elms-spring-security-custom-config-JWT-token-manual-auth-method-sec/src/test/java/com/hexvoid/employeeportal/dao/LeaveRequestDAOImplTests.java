@@ -0,0 +1,101 @@
+package com.hexvoid.employeeportal.dao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import com.hexvoid.employeeportal.entity.Employees;
+import com.hexvoid.employeeportal.entity.LeaveRequests;
+import com.hexvoid.employeeportal.entity.LeaveType;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Checks that reading leave requests costs a constant number of SQL statements, whatever the
+ * number of leave requests and employees, for both {@link LeaveRequestDAOImpl.EmployeeFetch} strategies.
+ *
+ * Runs against an embedded H2 database and counts statements with Hibernate {@link Statistics}.
+ */
+@DataJpaTest(properties = {
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class LeaveRequestDAOImplTests {
+
+	private static final int EMPLOYEES = 20;
+	private static final int LEAVES_PER_EMPLOYEE = 2;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private Statistics statistics;
+	private long firstLeaveId;
+
+	@BeforeEach
+	void setUp() {
+		for (int i = 0; i < EMPLOYEES; i++) {
+			Employees employee = new Employees();
+			employee.setName("Employee " + i);
+			employee.setEmail("employee" + i + "@hexvoid.com");
+			employee.setDepartment("Engineering");
+			entityManager.persist(employee);
+			for (int j = 0; j < LEAVES_PER_EMPLOYEE; j++) {
+				LeaveRequests leaveRequest = new LeaveRequests();
+				leaveRequest.setEmployee(employee);
+				leaveRequest.setLeaveType(LeaveType.SICK);
+				leaveRequest.setStartDate(LocalDate.of(2024, 1, 1));
+				leaveRequest.setEndDate(LocalDate.of(2024, 1, 2));
+				entityManager.persist(leaveRequest);
+				if (firstLeaveId == 0) {
+					firstLeaveId = leaveRequest.getId();
+				}
+			}
+		}
+		entityManager.flush();
+		entityManager.clear();
+		statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@ParameterizedTest
+	@EnumSource(LeaveRequestDAOImpl.EmployeeFetch.class)
+	void findAllLoadsEmployeesInOneStatement(LeaveRequestDAOImpl.EmployeeFetch employeeFetch) {
+		List<LeaveRequests> leaveRequests = dao(employeeFetch).findAll();
+
+		assertEquals(EMPLOYEES * LEAVES_PER_EMPLOYEE, leaveRequests.size());
+		leaveRequests.forEach(leaveRequest -> leaveRequest.getEmployee().getName());
+		assertEquals(1, statistics.getPrepareStatementCount());
+	}
+
+	@ParameterizedTest
+	@EnumSource(LeaveRequestDAOImpl.EmployeeFetch.class)
+	void findPageLoadsEmployeesInOneStatement(LeaveRequestDAOImpl.EmployeeFetch employeeFetch) {
+		List<LeaveRequests> leaveRequests = dao(employeeFetch).findPage(0, 25);
+
+		assertEquals(25, leaveRequests.size());
+		leaveRequests.forEach(leaveRequest -> leaveRequest.getEmployee().getName());
+		assertEquals(1, statistics.getPrepareStatementCount());
+	}
+
+	@ParameterizedTest
+	@EnumSource(LeaveRequestDAOImpl.EmployeeFetch.class)
+	void findByIdLoadsEmployeeInOneStatement(LeaveRequestDAOImpl.EmployeeFetch employeeFetch) {
+		LeaveRequests leaveRequest = dao(employeeFetch).findById((int) firstLeaveId);
+
+		assertEquals("Employee 0", leaveRequest.getEmployee().getName());
+		assertEquals(1, statistics.getPrepareStatementCount());
+	}
+
+	private LeaveRequestDao dao(LeaveRequestDAOImpl.EmployeeFetch employeeFetch) {
+		return new LeaveRequestDAOImpl(entityManager, employeeFetch, 50);
+	}
+}
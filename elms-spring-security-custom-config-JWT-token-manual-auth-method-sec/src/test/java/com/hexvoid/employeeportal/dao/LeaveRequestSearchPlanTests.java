@@ -0,0 +1,168 @@
+package com.hexvoid.employeeportal.dao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Session;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import com.hexvoid.employeeportal.entity.Employees;
+import com.hexvoid.employeeportal.entity.LeaveRequestSearch;
+import com.hexvoid.employeeportal.entity.LeaveRequests;
+import com.hexvoid.employeeportal.entity.LeaveStatus;
+import com.hexvoid.employeeportal.entity.LeaveType;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Checks that {@link LeaveRequestDao#search} and {@link LeaveRequestDao#existsOverlapping} are served by the {@code leave_requests} indexes: the SQL
+ * Hibernate generates is captured and run through H2's {@code EXPLAIN} with the same parameters.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import(LeaveRequestSearchPlanTests.CaptureSql.class)
+class LeaveRequestSearchPlanTests {
+
+	private static final int EMPLOYEES = 20;
+	private static final int LEAVES_PER_EMPLOYEE = 10;
+	private static final LocalDate FIRST_START = LocalDate.of(2024, 1, 1);
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private CaptureSql capturedSql;
+
+	private Employees someEmployee;
+
+	@BeforeEach
+	void setUp() {
+		LeaveStatus[] statuses = LeaveStatus.values();
+		for (int i = 0; i < EMPLOYEES; i++) {
+			Employees employee = new Employees();
+			employee.setName("Employee " + i);
+			employee.setEmail("employee" + i + "@hexvoid.com");
+			entityManager.persist(employee);
+			for (int j = 0; j < LEAVES_PER_EMPLOYEE; j++) {
+				LeaveRequests leaveRequest = new LeaveRequests();
+				leaveRequest.setEmployee(employee);
+				leaveRequest.setLeaveType(LeaveType.CASUAL);
+				leaveRequest.setStartDate(FIRST_START.plusWeeks(j));
+				leaveRequest.setEndDate(FIRST_START.plusWeeks(j).plusDays(2));
+				leaveRequest.setLeaveStatus(statuses[(i + j) % statuses.length]);
+				entityManager.persist(leaveRequest);
+			}
+			someEmployee = employee;
+		}
+		entityManager.flush();
+		entityManager.clear();
+	}
+
+	@Test
+	void searchByEmployeeStatusAndDateUsesEmployeeIndex() {
+		LocalDate to = FIRST_START.plusWeeks(5);
+		LeaveRequestSearch criteria = new LeaveRequestSearch(someEmployee.getId(), LeaveStatus.PENDING, null, to);
+
+		List<LeaveRequests> found = dao().search(criteria, 0, 50);
+
+		assertFalse(found.isEmpty());
+		found.forEach(leaveRequest -> {
+			assertEquals(someEmployee.getId(), leaveRequest.getEmployee().getId());
+			assertEquals(LeaveStatus.PENDING, leaveRequest.getLeaveStatus());
+			assertFalse(leaveRequest.getStartDate().isAfter(to));
+		});
+		String plan = explain(0L, someEmployee.getId(), LeaveStatus.PENDING.name(), to, 51);
+		assertTrue(plan.contains("IDX_LEAVE_REQUESTS_EMPLOYEE_STATUS_START"), plan);
+	}
+
+	@Test
+	void searchByStatusAndDateUsesStatusIndex() {
+		LocalDate to = FIRST_START.plusWeeks(1);
+		LeaveRequestSearch criteria = new LeaveRequestSearch(null, LeaveStatus.APPROVED, null, to);
+
+		List<LeaveRequests> found = dao().search(criteria, 0, 50);
+
+		assertFalse(found.isEmpty());
+		found.forEach(leaveRequest -> assertEquals(LeaveStatus.APPROVED, leaveRequest.getLeaveStatus()));
+		String plan = explain(0L, LeaveStatus.APPROVED.name(), to, 51);
+		assertTrue(plan.contains("IDX_LEAVE_REQUESTS_STATUS_START"), plan);
+	}
+
+	@Test
+	void overlapCheckUsesEmployeeEndIndex() {
+		LocalDate start = FIRST_START.plusWeeks(3).plusDays(1);
+		LocalDate end = FIRST_START.plusWeeks(3).plusDays(5);
+
+		boolean overlaps = dao().existsOverlapping(someEmployee.getId(), start, end, null);
+
+		assertTrue(overlaps);
+		assertFalse(dao().existsOverlapping(someEmployee.getId(), FIRST_START.minusDays(5), FIRST_START.minusDays(1), null));
+		String plan = explain(someEmployee.getId(), start, end, LeaveStatus.REJECTED.name(), 1);
+		assertTrue(plan.contains("IDX_LEAVE_REQUESTS_EMPLOYEE_END"), plan);
+	}
+
+	private LeaveRequestDao dao() {
+		return new LeaveRequestDAOImpl(entityManager, LeaveRequestDAOImpl.EmployeeFetch.FETCH_JOIN, 50);
+	}
+
+	/**
+	 * Runs {@code EXPLAIN} on the last select Hibernate issued, binding {@code parameters} in order.
+	 */
+	private String explain(Object... parameters) {
+		String sql = capturedSql.lastSelect();
+		return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+			try (PreparedStatement explain = connection.prepareStatement("explain " + sql)) {
+				for (int i = 0; i < parameters.length; i++) {
+					explain.setObject(i + 1, parameters[i]);
+				}
+				try (ResultSet plan = explain.executeQuery()) {
+					plan.next();
+					return plan.getString(1).toUpperCase();
+				}
+			}
+		});
+	}
+
+	/**
+	 * Records the SQL of every statement Hibernate prepares.
+	 */
+	@TestConfiguration
+	static class CaptureSql implements StatementInspector {
+
+		private final List<String> statements = new ArrayList<>();
+
+		@Bean
+		HibernatePropertiesCustomizer statementInspector() {
+			return properties -> properties.put("hibernate.session_factory.statement_inspector", this);
+		}
+
+		@Override
+		public String inspect(String sql) {
+			statements.add(sql);
+			return sql;
+		}
+
+		String lastSelect() {
+			for (int i = statements.size() - 1; i >= 0; i--) {
+				if (statements.get(i).startsWith("select")) {
+					return statements.get(i);
+				}
+			}
+			throw new IllegalStateException("No select was issued");
+		}
+	}
+}
@@ -0,0 +1,96 @@
+package com.hexvoid.employeeportal.dao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Routes transactions over two embedded H2 databases standing in for the primary and the replica,
+ * each holding a row that names it.
+ */
+class ReadReplicaConfigTests {
+
+	private DriverManagerDataSource primary;
+	private DriverManagerDataSource replica;
+	private JdbcTemplate jdbcTemplate;
+	private TransactionTemplate readWrite;
+	private TransactionTemplate readOnly;
+
+	@BeforeEach
+	void setUp() {
+		primary = database("primary");
+		replica = database("replica");
+		ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofMinutes(1), 100);
+		DataSource dataSource = new ReadReplicaConfig(false).dataSource(primary, replica, tracker);
+
+		DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+		transactionManager.addListener(tracker);
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		readWrite = new TransactionTemplate(transactionManager);
+		readOnly = new TransactionTemplate(transactionManager);
+		readOnly.setReadOnly(true);
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+		new JdbcTemplate(primary).execute("drop table database_name");
+		new JdbcTemplate(replica).execute("drop table database_name");
+	}
+
+	@Test
+	void readOnlyTransactionsUseTheReplica() {
+		assertEquals("replica", readOnly.execute(status -> databaseName()));
+		assertEquals("primary", readWrite.execute(status -> databaseName()));
+		assertEquals("primary", databaseName());
+	}
+
+	@Test
+	void userReadsTheirOwnWritesFromThePrimary() {
+		authenticate("alice");
+		readWrite.executeWithoutResult(status -> jdbcTemplate.update("update database_name set name = 'primary, updated'"));
+
+		assertEquals("primary, updated", readOnly.execute(status -> databaseName()));
+
+		authenticate("bob");
+		assertEquals("replica", readOnly.execute(status -> databaseName()));
+	}
+
+	@Test
+	void readOnlyTransactionsDoNotCountAsWrites() {
+		authenticate("alice");
+		readOnly.executeWithoutResult(status -> databaseName());
+
+		assertEquals("replica", readOnly.execute(status -> databaseName()));
+	}
+
+	private String databaseName() {
+		return jdbcTemplate.queryForObject("select name from database_name", String.class);
+	}
+
+	private static void authenticate(String username) {
+		SecurityContextHolder.getContext().setAuthentication(
+				UsernamePasswordAuthenticationToken.authenticated(username, null, List.of()));
+	}
+
+	private static DriverManagerDataSource database(String name) {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("create table database_name (name varchar(50))");
+		jdbcTemplate.update("insert into database_name values (?)", name);
+		return dataSource;
+	}
+}
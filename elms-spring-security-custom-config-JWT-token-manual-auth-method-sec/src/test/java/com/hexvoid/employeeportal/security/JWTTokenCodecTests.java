@@ -0,0 +1,88 @@
+package com.hexvoid.employeeportal.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * Round trips through {@link JWTTokenCodec} and {@link AuthorityClaimCodec}, in both claim formats.
+ */
+class JWTTokenCodecTests {
+
+	private static final String SECRET = "0123456789abcdef0123456789abcdef";
+	private static final String EMAIL = "alice@hexvoid.com";
+
+	private final AuthorityClaimCodec compactClaims = new AuthorityClaimCodec(true, List.of("VIEW", "UPDATE", "ROLE_ADMIN"));
+	private final JWTTokenCodec compact = new JWTTokenCodec(SECRET, Duration.ofMinutes(15), compactClaims);
+	private final JWTTokenCodec classic = new JWTTokenCodec(SECRET);
+
+	@Test
+	void knownAuthoritiesRoundTripThroughTheMask() {
+		Claims claims = compact.parseClaims(compact.generateToken(EMAIL, authorities("UPDATE", "ROLE_ADMIN")));
+
+		assertEquals(0b110L, claims.get(AuthorityClaimCodec.AUTHORITY_MASK_CLAIM, Number.class).longValue());
+		assertNull(claims.get(AuthorityClaimCodec.AUTHORITIES_CLAIM));
+		assertEquals(authorities("UPDATE", "ROLE_ADMIN"), compact.parseAuthorities(claims));
+		assertEquals(EMAIL, claims.get("email"));
+		assertNotNull(claims.getId());
+		// Repeat masks share one immutable list
+		assertSame(compact.parseAuthorities(claims), compact.parseAuthorities(claims));
+	}
+
+	@Test
+	void unknownAuthorityFallsBackToTheCommaJoinedClaim() {
+		Claims claims = compact.parseClaims(compact.generateToken(EMAIL, authorities("VIEW", "AUDIT")));
+
+		assertNull(claims.get(AuthorityClaimCodec.AUTHORITY_MASK_CLAIM));
+		assertEquals("VIEW,AUDIT", claims.get(AuthorityClaimCodec.AUTHORITIES_CLAIM));
+		assertEquals(authorities("VIEW", "AUDIT"), compact.parseAuthorities(claims));
+	}
+
+	@Test
+	void eitherCodecReadsTheOthersTokens() {
+		String classicToken = classic.generateToken(EMAIL, authorities("VIEW", "UPDATE"));
+		String compactToken = compact.generateToken(EMAIL, authorities("VIEW", "UPDATE"));
+
+		assertEquals(authorities("VIEW", "UPDATE"), compact.parseAuthorities(compact.parseClaims(classicToken)));
+		assertEquals(List.of(), classic.parseAuthorities(classic.parseClaims(classic.generateToken(EMAIL, List.of()))));
+		assertEquals(authorities("VIEW", "UPDATE"), compactClaims.readClaim(classic.parseClaims(compactToken)));
+	}
+
+	@Test
+	void tokenSignedWithAnotherKeyIsRejected() {
+		JWTTokenCodec other = new JWTTokenCodec("fedcba9876543210fedcba9876543210");
+
+		assertThrows(JwtException.class, () -> classic.parseClaims(other.generateToken(EMAIL, authorities("VIEW"))));
+	}
+
+	@Test
+	void tokenWithoutExpirationIsRejected() {
+		String neverExpires = Jwts.builder()
+				.id(UUID.randomUUID().toString())
+				.claim("email", EMAIL)
+				.signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+				.compact();
+
+		assertThrows(JwtException.class, () -> classic.parseClaims(neverExpires));
+	}
+
+	private static List<GrantedAuthority> authorities(String... names) {
+		return AuthorityUtils.createAuthorityList(names);
+	}
+}
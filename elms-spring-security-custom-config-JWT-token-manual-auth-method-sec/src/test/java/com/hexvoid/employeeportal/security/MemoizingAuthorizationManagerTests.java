@@ -0,0 +1,103 @@
+package com.hexvoid.employeeportal.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.util.SimpleMethodInvocation;
+
+class MemoizingAuthorizationManagerTests {
+
+	interface Secured {
+
+		@PreAuthorize("hasAuthority('VIEW') and not hasRole('GUEST')")
+		void authorityOnly();
+
+		@PreAuthorize("hasAuthority('VIEW') and #id > 0")
+		void readsArgument(int id);
+	}
+
+	static class SecuredImpl implements Secured {
+
+		@Override
+		public void authorityOnly() {
+		}
+
+		@Override
+		public void readsArgument(int id) {
+		}
+	}
+
+	private final AtomicInteger evaluations = new AtomicInteger();
+	private MemoizingAuthorizationManager manager;
+
+	@BeforeEach
+	void setUp() {
+		AuthorizationManager<MethodInvocation> delegate = (authentication, invocation) -> {
+			evaluations.incrementAndGet();
+			return new AuthorizationDecision(authentication.get().getAuthorities().stream()
+					.anyMatch(authority -> authority.getAuthority().equals("VIEW")));
+		};
+		manager = new MemoizingAuthorizationManager(delegate, new SpelExpressionParser(), true, 100);
+	}
+
+	@Test
+	void authorityOnlyRuleIsEvaluatedOncePerAuthoritySet() throws Exception {
+		MethodInvocation invocation = invocation("authorityOnly");
+
+		assertTrue(check(user("alice", "VIEW", "UPDATE"), invocation));
+		assertTrue(check(user("bob", "VIEW", "UPDATE"), invocation));
+		assertFalse(check(user("carol", "UPDATE"), invocation));
+		assertFalse(check(user("dave", "UPDATE"), invocation));
+
+		assertEquals(2, evaluations.get());
+	}
+
+	@Test
+	void ruleReadingAnArgumentIsAlwaysEvaluated() throws Exception {
+		MethodInvocation invocation = invocation("readsArgument", int.class);
+
+		check(user("alice", "VIEW"), invocation);
+		check(user("alice", "VIEW"), invocation);
+
+		assertEquals(2, evaluations.get());
+	}
+
+	@Test
+	void disabledCacheAlwaysEvaluates() throws Exception {
+		AuthorizationManager<MethodInvocation> delegate = (authentication, invocation) -> {
+			evaluations.incrementAndGet();
+			return new AuthorizationDecision(true);
+		};
+		manager = new MemoizingAuthorizationManager(delegate, new SpelExpressionParser(), false, 100);
+		MethodInvocation invocation = invocation("authorityOnly");
+
+		check(user("alice", "VIEW"), invocation);
+		check(user("alice", "VIEW"), invocation);
+
+		assertEquals(2, evaluations.get());
+	}
+
+	private boolean check(Authentication authentication, MethodInvocation invocation) {
+		return manager.check(() -> authentication, invocation).isGranted();
+	}
+
+	private static MethodInvocation invocation(String name, Class<?>... parameterTypes) throws Exception {
+		return new SimpleMethodInvocation(new SecuredImpl(), SecuredImpl.class.getMethod(name, parameterTypes));
+	}
+
+	private static Authentication user(String name, String... authorities) {
+		return new TestingAuthenticationToken(name, "password", authorities);
+	}
+}
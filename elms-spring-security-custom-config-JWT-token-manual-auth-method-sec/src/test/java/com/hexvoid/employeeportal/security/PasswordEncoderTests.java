@@ -0,0 +1,33 @@
+package com.hexvoid.employeeportal.security;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+class PasswordEncoderTests {
+
+	private final PasswordEncoder passwordEncoder =
+			new SpringSecurityConfig().passwordEncoder(6, false, Duration.ofMillis(250), 4, 14);
+
+	@Test
+	void bcryptHashesWithAnotherStrengthAreReEncoded() {
+		assertTrue(passwordEncoder.upgradeEncoding("{bcrypt}" + new BCryptPasswordEncoder(5).encode("secret")));
+		assertFalse(passwordEncoder.upgradeEncoding("{bcrypt}" + new BCryptPasswordEncoder(6).encode("secret")));
+		assertTrue(passwordEncoder.upgradeEncoding("{bcrypt}" + new BCryptPasswordEncoder(7).encode("secret")));
+	}
+
+	@Test
+	void hashesOfOtherSupportedFormatsStillMatchAndAreUpgraded() {
+		String pbkdf2 = "{pbkdf2}" + Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_5().encode("secret");
+
+		assertTrue(passwordEncoder.matches("secret", pbkdf2));
+		assertTrue(passwordEncoder.matches("secret", "{noop}secret"));
+		assertTrue(passwordEncoder.upgradeEncoding(pbkdf2));
+	}
+}
@@ -0,0 +1,73 @@
+package com.hexvoid.employeeportal.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hexvoid.employeeportal.exceptionhandler.PasswordHashingOverloadedException;
+
+/**
+ * Runs HTTP Basic authentication through {@link BasicAuthenticationFilter} and
+ * {@link PasswordHashingOverloadEntryPoint}, as configured by {@link SpringSecurityConfig}.
+ */
+class PasswordHashingOverloadEntryPointTests {
+
+	@Test
+	void overloadedHashingQueueAnswers503WithRetryAfter() throws Exception {
+		MockHttpServletResponse response = authenticate(failingWith(new PasswordHashingOverloadedException(3)));
+
+		assertEquals(503, response.getStatus());
+		assertEquals("3", response.getHeader(HttpHeaders.RETRY_AFTER));
+		assertNull(response.getHeader(HttpHeaders.WWW_AUTHENTICATE));
+		assertEquals(503, new ObjectMapper().readTree(response.getContentAsString()).get("status").asInt());
+	}
+
+	@Test
+	void wrongPasswordStillAnswers401WithAChallenge() throws Exception {
+		MockHttpServletResponse response = authenticate(failingWith(new BadCredentialsException("Bad credentials")));
+
+		assertEquals(401, response.getStatus());
+		assertNotNull(response.getHeader(HttpHeaders.WWW_AUTHENTICATE));
+	}
+
+	private static AuthenticationProvider failingWith(RuntimeException failure) {
+		return new AuthenticationProvider() {
+
+			@Override
+			public Authentication authenticate(Authentication authentication) {
+				throw failure;
+			}
+
+			@Override
+			public boolean supports(Class<?> authentication) {
+				return true;
+			}
+		};
+	}
+
+	private static MockHttpServletResponse authenticate(AuthenticationProvider provider) throws Exception {
+		BasicAuthenticationFilter filter = new BasicAuthenticationFilter(new ProviderManager(provider),
+				new PasswordHashingOverloadEntryPoint(new ObjectMapper()));
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/employee");
+		request.addHeader(HttpHeaders.AUTHORIZATION, "Basic "
+				+ Base64.getEncoder().encodeToString("alice@hexvoid.com:secret".getBytes(StandardCharsets.UTF_8)));
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(request, response, new MockFilterChain());
+		return response;
+	}
+}
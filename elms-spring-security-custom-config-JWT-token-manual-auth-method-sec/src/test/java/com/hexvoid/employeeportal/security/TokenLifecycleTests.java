@@ -0,0 +1,117 @@
+package com.hexvoid.employeeportal.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hexvoid.employeeportal.constants.ApplicationConstants;
+import com.hexvoid.employeeportal.entity.EmployeeAuthorities;
+import com.hexvoid.employeeportal.entity.EmployeeCredentials;
+import com.hexvoid.employeeportal.entity.LoginResponse;
+import com.hexvoid.employeeportal.entity.RefreshTokenRequest;
+import com.hexvoid.employeeportal.service.EmployeeSecretsService;
+
+/**
+ * Runs login, refresh and logout through the security filter chain, on an in-memory database.
+ */
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:token-lifecycle;DB_CLOSE_DELAY=-1",
+		"spring.datasource.username=sa",
+		"spring.datasource.password=",
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect" })
+@AutoConfigureMockMvc
+class TokenLifecycleTests {
+
+	private static final String EMAIL = "alice@hexvoid.com";
+	private static final String PASSWORD = "secret";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private PasswordEncoder passwordEncoder;
+
+	@Autowired
+	private EmployeeSecretsService employeeSecretsService;
+
+	@BeforeEach
+	void setUp() {
+		// The application context, and with it the database, is shared by the tests
+		if (employeeSecretsService.findByEmail(EMAIL) == null) {
+			EmployeeCredentials credentials = new EmployeeCredentials();
+			credentials.setName("Alice");
+			credentials.setEmail(EMAIL);
+			credentials.setPassword(passwordEncoder.encode(PASSWORD));
+			credentials.setRoles("user");
+			EmployeeAuthorities view = new EmployeeAuthorities();
+			view.setAuthority("VIEW");
+			credentials.associateAuthorities(view);
+			employeeSecretsService.save(credentials);
+		}
+	}
+
+	@Test
+	void revokedAccessTokenIsRejectedWith401() throws Exception {
+		LoginResponse session = login();
+
+		assertEquals(204, perform(post("/api/logout").header(ApplicationConstants.JWT_HEADER_NAME, session.jwtToken())).getStatus());
+		assertEquals(401, perform(post("/api/logout").header(ApplicationConstants.JWT_HEADER_NAME, session.jwtToken())).getStatus());
+		assertEquals(401, perform(post("/api/logout").header(ApplicationConstants.JWT_HEADER_NAME, "not-a-jwt")).getStatus());
+	}
+
+	@Test
+	void refreshRotatesTheRefreshToken() throws Exception {
+		LoginResponse session = login();
+
+		MockHttpServletResponse refreshed = refresh(session.refreshToken());
+		assertEquals(200, refreshed.getStatus());
+		LoginResponse rotated = objectMapper.readValue(refreshed.getContentAsString(), LoginResponse.class);
+		assertNotEquals(session.refreshToken(), rotated.refreshToken());
+
+		// The presented token is single-use; its successor works once as well
+		assertEquals(401, refresh(session.refreshToken()).getStatus());
+		assertEquals(200, refresh(rotated.refreshToken()).getStatus());
+		assertEquals(401, refresh(rotated.refreshToken()).getStatus());
+	}
+
+	@Test
+	void logoutRevokesTheSessionsRefreshToken() throws Exception {
+		LoginResponse session = login();
+
+		assertEquals(204, perform(post("/api/logout").header(ApplicationConstants.JWT_HEADER_NAME, session.jwtToken())
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(new RefreshTokenRequest(session.refreshToken())))).getStatus());
+		assertEquals(401, refresh(session.refreshToken()).getStatus());
+	}
+
+	private LoginResponse login() throws Exception {
+		MockHttpServletResponse response = perform(post("/api/login").contentType(MediaType.APPLICATION_JSON)
+				.content("{\"userName\":\"" + EMAIL + "\",\"password\":\"" + PASSWORD + "\"}"));
+		assertEquals(200, response.getStatus());
+		return objectMapper.readValue(response.getContentAsString(), LoginResponse.class);
+	}
+
+	private MockHttpServletResponse refresh(String refreshToken) throws Exception {
+		return perform(post("/api/token/refresh").contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(new RefreshTokenRequest(refreshToken))));
+	}
+
+	private MockHttpServletResponse perform(MockHttpServletRequestBuilder request) throws Exception {
+		return mockMvc.perform(request).andReturn().getResponse();
+	}
+}
@@ -0,0 +1,110 @@
+package com.hexvoid.employeeportal.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.core.userdetails.User;
+
+import com.hexvoid.employeeportal.dao.EmployeeCacheInvalidator;
+import com.hexvoid.employeeportal.dao.EmployeeCredentialsDao;
+import com.hexvoid.employeeportal.dao.RefreshTokenDao;
+import com.hexvoid.employeeportal.entity.EmployeeCredentials;
+import com.hexvoid.employeeportal.entity.RefreshToken;
+import com.hexvoid.employeeportal.security.EmployeeUserCache;
+import com.hexvoid.employeeportal.security.EmployeeUserDetailsService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Checks which credential writes end the user's sessions: a password re-encoded on login keeps the
+ * refresh tokens, a real credential change deletes them.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class EmployeeSecretServiceImplTests {
+
+	private static final String EMAIL = "alice@hexvoid.com";
+	private static final String OTHER_EMAIL = "bob@hexvoid.com";
+
+	@Autowired
+	private EmployeeCredentialsDao employeeCredentialsDao;
+
+	@Autowired
+	private RefreshTokenDao refreshTokenDao;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+
+	@Autowired
+	private ObjectProvider<MeterRegistry> meterRegistry;
+
+	private EmployeeSecretServiceImpl employeeSecretService;
+	private EmployeeUserDetailsService employeeUserDetailsService;
+
+	@BeforeEach
+	void setUp() {
+		EmployeeUserCache employeeUserCache = new EmployeeUserCache(false, Duration.ofMinutes(10), 10_000, meterRegistry);
+		employeeSecretService = new EmployeeSecretServiceImpl(employeeCredentialsDao, employeeUserCache,
+				new EmployeeCacheInvalidator(entityManagerFactory, eventPublisher), refreshTokenDao);
+		employeeUserDetailsService = new EmployeeUserDetailsService(employeeSecretService, employeeUserCache);
+
+		employeeCredentialsDao.save(credentials(EMAIL, "{noop}old"));
+		Instant expiresAt = Instant.now().plus(Duration.ofDays(7));
+		refreshTokenDao.save(new RefreshToken("token-1", EMAIL, expiresAt));
+		refreshTokenDao.save(new RefreshToken("token-2", EMAIL, expiresAt));
+		refreshTokenDao.save(new RefreshToken("token-3", OTHER_EMAIL, expiresAt));
+	}
+
+	@Test
+	void passwordReEncodedOnLoginKeepsRefreshTokens() {
+		employeeUserDetailsService.updatePassword(
+				User.withUsername(EMAIL).password("{noop}old").authorities("VIEW").build(), "{noop}reencoded");
+
+		assertEquals(List.of("token-1", "token-2", "token-3"), tokens());
+	}
+
+	@Test
+	void passwordChangeDeletesTheUsersRefreshTokens() {
+		assertTrue(employeeSecretService.updatePassword(EMAIL, "{noop}new"));
+
+		assertEquals(List.of("token-3"), tokens());
+	}
+
+	@Test
+	void savingCredentialsDeletesTheUsersRefreshTokens() {
+		EmployeeCredentials changed = employeeSecretService.findByEmail(EMAIL);
+		changed.setPassword("{noop}new");
+		employeeSecretService.save(changed);
+
+		assertEquals(List.of("token-3"), tokens());
+	}
+
+	private List<String> tokens() {
+		return refreshTokenDao.findAll().stream().map(RefreshToken::getTokenHash).sorted().toList();
+	}
+
+	private static EmployeeCredentials credentials(String email, String password) {
+		EmployeeCredentials employeeCredentials = new EmployeeCredentials();
+		employeeCredentials.setName("Alice");
+		employeeCredentials.setEmail(email);
+		employeeCredentials.setPassword(password);
+		employeeCredentials.setRoles("user");
+		employeeCredentials.setEmployeeAuthorities(new ArrayList<>());
+		return employeeCredentials;
+	}
+}
@@ -0,0 +1,65 @@
+package com.hexvoid.employeeportal.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.hexvoid.employeeportal.entity.LeavePeriod;
+
+/**
+ * Checks {@link LeaveOverlapIndex} against periods that touch, nest and overlap each other.
+ */
+class LeaveOverlapIndexTests {
+
+	private static final LocalDate JAN_1 = LocalDate.of(2024, 1, 1);
+
+	@Test
+	void emptyIndexOverlapsNothing() {
+		assertFalse(LeaveOverlapIndex.of(List.of()).overlaps(JAN_1, JAN_1.plusDays(10)));
+	}
+
+	@Test
+	void periodsSharingADayOverlap() {
+		LeaveOverlapIndex index = LeaveOverlapIndex.of(List.of(period(10, 12), period(1, 3)));
+
+		assertTrue(index.overlaps(day(3), day(5)));
+		assertTrue(index.overlaps(day(5), day(10)));
+		assertTrue(index.overlaps(day(11), day(11)));
+		assertFalse(index.overlaps(day(4), day(9)));
+		assertFalse(index.overlaps(day(13), day(20)));
+	}
+
+	@Test
+	void longEarlyPeriodIsFoundBehindLaterShortOnes() {
+		// The long leave starts first, so only the running maximum of the end days finds it.
+		LeaveOverlapIndex index = LeaveOverlapIndex.of(List.of(period(1, 30), period(5, 6), period(8, 9)));
+
+		assertTrue(index.overlaps(day(20), day(21)));
+		assertFalse(index.overlaps(day(31), day(40)));
+	}
+
+	@Test
+	void withAddsThePeriodToACopy() {
+		LeaveOverlapIndex index = LeaveOverlapIndex.of(List.of(period(1, 3), period(20, 22)));
+
+		LeaveOverlapIndex extended = index.with(period(10, 12));
+
+		assertEquals(3, extended.size());
+		assertTrue(extended.overlaps(day(12), day(15)));
+		assertTrue(extended.overlaps(day(21), day(25)));
+		assertFalse(index.overlaps(day(12), day(15)));
+	}
+
+	private static LeavePeriod period(int startDay, int endDay) {
+		return new LeavePeriod(day(startDay), day(endDay));
+	}
+
+	private static LocalDate day(int day) {
+		return JAN_1.plusDays(day - 1);
+	}
+}
@@ -0,0 +1,334 @@
+package com.hexvoid.employeeportal.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.hexvoid.employeeportal.dao.EmployeeDAO;
+import com.hexvoid.employeeportal.dao.EmployeeDaoImpl;
+import com.hexvoid.employeeportal.dao.LeaveRequestDAOImpl;
+import com.hexvoid.employeeportal.dao.LeaveRequestDao;
+import com.hexvoid.employeeportal.entity.BulkInsertResult;
+import com.hexvoid.employeeportal.entity.Employees;
+import com.hexvoid.employeeportal.entity.LeaveRequests;
+import com.hexvoid.employeeportal.entity.LeaveStatus;
+import com.hexvoid.employeeportal.entity.LeaveType;
+import com.hexvoid.employeeportal.exceptionhandler.LeaveOverlapException;
+import com.hexvoid.employeeportal.exceptionhandler.MyCustomExceptionClass;
+import com.hexvoid.employeeportal.exceptionhandler.VersionConflictException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Counts the SQL statements of a leave request update with Hibernate {@link Statistics}, on an
+ * embedded H2 database: the previous load, look up and merge sequence against
+ * {@link LeaveRequestServiceImpl#updateById(LeaveRequests, int)}, the version-guarded
+ * {@link LeaveRequestServiceImpl#patchById(LeaveRequests, int)} and the set-based
+ * {@link LeaveRequestServiceImpl#updateStatus(List, LeaveStatus)}, and the overlap check of
+ * {@link LeaveRequestServiceImpl#save(LeaveRequests)} and of the other paths that change leave.
+ */
+@DataJpaTest(properties = {
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class LeaveRequestServiceImplTests {
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private ObjectProvider<MeterRegistry> meterRegistry;
+
+	private LeaveRequestDao leaveRequestDao;
+	private EmployeeDAO employeeDao;
+	private LeaveRequestServiceImpl leaveRequestService;
+	private Statistics statistics;
+	private Employees employee;
+	private int leaveId;
+
+	@BeforeEach
+	void setUp() {
+		leaveRequestDao = new LeaveRequestDAOImpl(entityManager, LeaveRequestDAOImpl.EmployeeFetch.FETCH_JOIN, 50);
+		employeeDao = new EmployeeDaoImpl(entityManager, 50);
+		leaveRequestService = new LeaveRequestServiceImpl();
+		leaveRequestService.setLeaveRequestDao(leaveRequestDao, employeeDao);
+		leaveRequestService.setImportSettings(transactionManager, 10);
+		leaveRequestService.setLeaveOverlapCache(new LeaveOverlapCache(false, Duration.ofMinutes(10), 10_000, meterRegistry));
+
+		employee = new Employees();
+		employee.setName("Alice");
+		employee.setEmail("alice@hexvoid.com");
+		entityManager.persist(employee);
+		LeaveRequests leaveRequest = new LeaveRequests();
+		leaveRequest.setEmployee(employee);
+		leaveRequest.setLeaveType(LeaveType.SICK);
+		leaveRequest.setStartDate(LocalDate.of(2024, 1, 1));
+		leaveRequest.setEndDate(LocalDate.of(2024, 1, 2));
+		leaveRequest.setReason("Flu");
+		entityManager.persist(leaveRequest);
+		leaveId = leaveRequest.getId().intValue();
+		entityManager.flush();
+		entityManager.clear();
+
+		statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	void updateByIdValidatesAndUpdatesInTwoStatements() {
+		LeaveRequests approved = leaveRequestService.updateById(approval("Alice"), leaveId);
+		entityManager.flush();
+
+		assertEquals(2, statistics.getPrepareStatementCount());
+		assertEquals(LeaveStatus.APPROVED, approved.getLeaveStatus());
+		assertEquals("Alice", approved.getEmployee().getName());
+
+		entityManager.clear();
+		LeaveRequests stored = entityManager.find(LeaveRequests.class, (long) leaveId);
+		assertEquals(LeaveStatus.APPROVED, stored.getLeaveStatus());
+		assertEquals(LeaveType.SICK, stored.getLeaveType());
+		assertEquals("Flu", stored.getReason());
+	}
+
+	@Test
+	void loadThenMergeNeedsMoreStatements() {
+		// The sequence updateById used before: load, look the employee up by name and ID, merge.
+		LeaveRequests existing = leaveRequestDao.findById(leaveId);
+		employeeDao.findByName("Alice");
+		employeeDao.findById(employee.getId().intValue());
+		existing.setLeaveStatus(LeaveStatus.APPROVED);
+		leaveRequestDao.updateById(existing, leaveId);
+		entityManager.flush();
+		long loadThenMerge = statistics.getPrepareStatementCount();
+
+		entityManager.clear();
+		statistics.clear();
+		leaveRequestService.updateById(approval("Alice"), leaveId);
+		entityManager.flush();
+
+		assertTrue(loadThenMerge >= 3, "load-then-merge used " + loadThenMerge + " statements");
+		assertTrue(statistics.getPrepareStatementCount() < loadThenMerge);
+	}
+
+	@Test
+	void updateByIdRejectsUnknownEmployeeWithOneStatement() {
+		LeaveRequests changes = approval(null);
+		changes.getEmployee().setId(employee.getId() + 1000);
+
+		assertThrows(MyCustomExceptionClass.class, () -> leaveRequestService.updateById(changes, leaveId));
+		assertEquals(1, statistics.getPrepareStatementCount());
+	}
+
+	@Test
+	void updateByIdRejectsMismatchedEmployeeName() {
+		assertThrows(MyCustomExceptionClass.class, () -> leaveRequestService.updateById(approval("Bob"), leaveId));
+	}
+
+	@Test
+	void patchByIdUpdatesOnlyWhileAtTheExpectedVersion() {
+		LeaveRequests approve = new LeaveRequests();
+		approve.setLeaveStatus(LeaveStatus.APPROVED);
+		approve.setVersion(0L);
+		LeaveRequests patched = leaveRequestService.patchById(approve, leaveId);
+
+		// Approving leave that is not REJECTED is one UPDATE: no lock, no read.
+		assertEquals(1, statistics.getPrepareStatementCount());
+		assertEquals(1L, patched.getVersion());
+
+		// A second approver still holding version 0 loses the race with its one UPDATE.
+		LeaveRequests reject = new LeaveRequests();
+		reject.setLeaveStatus(LeaveStatus.REJECTED);
+		reject.setVersion(0L);
+		assertThrows(VersionConflictException.class, () -> leaveRequestService.patchById(reject, leaveId));
+		assertEquals(2, statistics.getPrepareStatementCount());
+
+		// Changing only the leave type reads nothing either.
+		LeaveRequests retype = new LeaveRequests();
+		retype.setLeaveType(LeaveType.EARNED);
+		retype.setLeaveStatus(null);
+		retype.setVersion(1L);
+		leaveRequestService.patchById(retype, leaveId);
+		assertEquals(3, statistics.getPrepareStatementCount());
+
+		entityManager.clear();
+		LeaveRequests stored = entityManager.find(LeaveRequests.class, (long) leaveId);
+		assertEquals(LeaveStatus.APPROVED, stored.getLeaveStatus());
+		assertEquals(LeaveType.EARNED, stored.getLeaveType());
+		assertEquals(2L, stored.getVersion());
+	}
+
+	@Test
+	void updateStatusChangesOnlyExistingRowsWithAnotherStatus() {
+		LeaveRequests alreadyApproved = new LeaveRequests();
+		alreadyApproved.setEmployee(entityManager.getReference(Employees.class, employee.getId()));
+		alreadyApproved.setLeaveType(LeaveType.CASUAL);
+		alreadyApproved.setStartDate(LocalDate.of(2024, 2, 1));
+		alreadyApproved.setEndDate(LocalDate.of(2024, 2, 1));
+		alreadyApproved.setLeaveStatus(LeaveStatus.APPROVED);
+		entityManager.persist(alreadyApproved);
+		entityManager.flush();
+		entityManager.clear();
+		statistics.clear();
+
+		List<Long> changed = leaveRequestService.updateStatus(
+				List.of((long) leaveId, alreadyApproved.getId(), 999_999L), LeaveStatus.APPROVED);
+
+		assertEquals(List.of((long) leaveId), changed);
+		assertEquals(2, statistics.getPrepareStatementCount());
+		LeaveRequests stored = entityManager.find(LeaveRequests.class, (long) leaveId);
+		assertEquals(LeaveStatus.APPROVED, stored.getLeaveStatus());
+		assertEquals(1L, stored.getVersion());
+		assertEquals(0L, entityManager.find(LeaveRequests.class, alreadyApproved.getId()).getVersion());
+	}
+
+	@Test
+	void saveRejectsLeaveOverlappingAnotherLeaveOfTheEmployee() {
+		assertThrows(LeaveOverlapException.class,
+				() -> leaveRequestService.save(newLeave(LocalDate.of(2024, 1, 2), LocalDate.of(2024, 1, 5))));
+
+		leaveRequestService.save(newLeave(LocalDate.of(2024, 1, 3), LocalDate.of(2024, 1, 5)));
+		LeaveRequests rejected = newLeave(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 5));
+		rejected.setLeaveStatus(LeaveStatus.REJECTED);
+		leaveRequestService.save(rejected);
+		entityManager.flush();
+
+		assertEquals(3L, entityManager.createQuery("select count(lr) from LeaveRequests lr", Long.class).getSingleResult());
+	}
+
+	@Test
+	void updateByIdRejectsDatesOverlappingAnotherLeave() {
+		persistLeave(LocalDate.of(2024, 1, 10), LocalDate.of(2024, 1, 12), LeaveStatus.PENDING);
+
+		LeaveRequests overlapping = approval("Alice");
+		overlapping.setStartDate(LocalDate.of(2024, 1, 11));
+		overlapping.setEndDate(LocalDate.of(2024, 1, 13));
+		assertThrows(LeaveOverlapException.class, () -> leaveRequestService.updateById(overlapping, leaveId));
+
+		// The leave request itself is not counted as an overlap.
+		LeaveRequests extended = approval("Alice");
+		extended.setEndDate(LocalDate.of(2024, 1, 9));
+		leaveRequestService.updateById(extended, leaveId);
+
+		LeaveRequests inverted = approval("Alice");
+		inverted.setStartDate(LocalDate.of(2024, 1, 20));
+		assertThrows(MyCustomExceptionClass.class, () -> leaveRequestService.updateById(inverted, leaveId));
+	}
+
+	@Test
+	void patchByIdRejectsBringingBackOverlappingRejectedLeave() {
+		long rejectedId = persistLeave(LocalDate.of(2024, 1, 2), LocalDate.of(2024, 1, 3), LeaveStatus.REJECTED);
+
+		LeaveRequests approve = new LeaveRequests();
+		approve.setLeaveStatus(LeaveStatus.APPROVED);
+		approve.setVersion(0L);
+		assertThrows(LeaveOverlapException.class, () -> leaveRequestService.patchById(approve, (int) rejectedId));
+
+		persistLeave(LocalDate.of(2024, 1, 5), LocalDate.of(2024, 1, 6), LeaveStatus.APPROVED);
+		LeaveRequests move = new LeaveRequests();
+		move.setEndDate(LocalDate.of(2024, 1, 5));
+		move.setLeaveStatus(null);
+		move.setVersion(0L);
+		assertThrows(LeaveOverlapException.class, () -> leaveRequestService.patchById(move, leaveId));
+	}
+
+	@Test
+	void updateStatusRejectsBringingBackLeaveOverlappingEachOther() {
+		long first = persistLeave(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 3), LeaveStatus.REJECTED);
+		long second = persistLeave(LocalDate.of(2024, 2, 3), LocalDate.of(2024, 2, 4), LeaveStatus.REJECTED);
+
+		assertThrows(LeaveOverlapException.class,
+				() -> leaveRequestService.updateStatus(List.of(first, second), LeaveStatus.PENDING));
+		assertEquals(List.of(first), leaveRequestService.updateStatus(List.of(first), LeaveStatus.PENDING));
+		assertThrows(LeaveOverlapException.class,
+				() -> leaveRequestService.updateStatus(List.of(second), LeaveStatus.APPROVED));
+	}
+
+	@Test
+	void updateStatusReadsTheOtherLeaveOfAllRestoredRowsWithOneQuery() {
+		long first = persistLeave(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 3), LeaveStatus.REJECTED);
+		long second = persistLeave(LocalDate.of(2024, 2, 5), LocalDate.of(2024, 2, 6), LeaveStatus.REJECTED);
+		long third = persistLeave(LocalDate.of(2024, 2, 8), LocalDate.of(2024, 2, 9), LeaveStatus.REJECTED);
+		statistics.clear();
+
+		leaveRequestService.updateStatus(List.of(first, second, third), LeaveStatus.APPROVED);
+
+		// Lock the leave, lock the employee, read the other leave, update.
+		assertEquals(4, statistics.getPrepareStatementCount());
+	}
+
+	@Test
+	void deleteByIdDeletesTheLockedRowWithoutLoadingItAgain() {
+		leaveRequestService.deleteById(leaveId);
+
+		// Lock the leave, lock the employee, delete.
+		assertEquals(3, statistics.getPrepareStatementCount());
+		assertEquals(0L, entityManager.createQuery("select count(lr) from LeaveRequests lr", Long.class).getSingleResult());
+		assertThrows(MyCustomExceptionClass.class, () -> leaveRequestService.deleteById(leaveId));
+	}
+
+	@Test
+	void importAllRejectsRowsOverlappingExistingLeaveOrEarlierRows() {
+		List<LeaveRequests> rows = List.of(
+				newLeave(LocalDate.of(2024, 1, 2), LocalDate.of(2024, 1, 3)),
+				newLeave(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 2)),
+				newLeave(LocalDate.of(2024, 3, 2), LocalDate.of(2024, 3, 3)));
+
+		BulkInsertResult result = leaveRequestService.importAll(rows.iterator());
+
+		assertEquals(1, result.accepted());
+		assertEquals(List.of(0, 2), result.rows().stream().map(BulkInsertResult.Row::row).toList());
+	}
+
+	private long persistLeave(LocalDate startDate, LocalDate endDate, LeaveStatus status) {
+		LeaveRequests leaveRequest = new LeaveRequests();
+		leaveRequest.setEmployee(entityManager.getReference(Employees.class, employee.getId()));
+		leaveRequest.setLeaveType(LeaveType.CASUAL);
+		leaveRequest.setStartDate(startDate);
+		leaveRequest.setEndDate(endDate);
+		leaveRequest.setLeaveStatus(status);
+		entityManager.persist(leaveRequest);
+		entityManager.flush();
+		entityManager.clear();
+		return leaveRequest.getId();
+	}
+
+	private LeaveRequests newLeave(LocalDate startDate, LocalDate endDate) {
+		Employees reference = new Employees();
+		reference.setId(employee.getId());
+		LeaveRequests leaveRequest = new LeaveRequests();
+		leaveRequest.setEmployee(reference);
+		leaveRequest.setLeaveType(LeaveType.CASUAL);
+		leaveRequest.setStartDate(startDate);
+		leaveRequest.setEndDate(endDate);
+		return leaveRequest;
+	}
+
+	private LeaveRequests approval(String employeeName) {
+		Employees reference = new Employees();
+		reference.setId(employee.getId());
+		reference.setName(employeeName);
+		LeaveRequests changes = new LeaveRequests();
+		changes.setId((long) leaveId);
+		changes.setEmployee(reference);
+		changes.setLeaveStatus(LeaveStatus.APPROVED);
+		return changes;
+	}
+}
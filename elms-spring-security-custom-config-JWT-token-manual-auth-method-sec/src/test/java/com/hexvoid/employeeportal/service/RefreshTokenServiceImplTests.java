@@ -0,0 +1,49 @@
+package com.hexvoid.employeeportal.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import com.hexvoid.employeeportal.dao.RefreshTokenDao;
+
+/**
+ * Checks how refresh tokens are consumed on refresh and revoked on logout.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class RefreshTokenServiceImplTests {
+
+	private static final String EMAIL = "alice@hexvoid.com";
+	private static final String OTHER_EMAIL = "bob@hexvoid.com";
+
+	@Autowired
+	private RefreshTokenDao refreshTokenDao;
+
+	private RefreshTokenServiceImpl refreshTokenService;
+
+	@BeforeEach
+	void setUp() {
+		refreshTokenService = new RefreshTokenServiceImpl(refreshTokenDao, Duration.ofDays(7));
+	}
+
+	@Test
+	void logoutRevokesOnlyTheCallersOwnRefreshToken() {
+		String othersToken = refreshTokenService.createRefreshToken(OTHER_EMAIL);
+		String ownToken = refreshTokenService.createRefreshToken(EMAIL);
+
+		assertFalse(refreshTokenService.revokeRefreshToken(othersToken, EMAIL));
+		assertEquals(OTHER_EMAIL, refreshTokenService.consumeRefreshToken(othersToken));
+
+		assertTrue(refreshTokenService.revokeRefreshToken(ownToken, EMAIL));
+		assertThrows(BadCredentialsException.class, () -> refreshTokenService.consumeRefreshToken(ownToken));
+		assertFalse(refreshTokenService.revokeRefreshToken(null, EMAIL));
+	}
+}
@@ -1,18 +1,12 @@
 package com.hexvoid.employeeportal.controller;
 
-import java.nio.charset.StandardCharsets;
-import java.util.Date;
 import java.util.List;
-import java.util.stream.Collectors;
-
-import javax.crypto.SecretKey;
 
 import com.hexvoid.employeeportal.entity.Employees;
 import com.hexvoid.employeeportal.entity.LoginRequest;
 import com.hexvoid.employeeportal.entity.LoginResponse;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.env.Environment;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -31,11 +25,9 @@ import org.springframework.web.bind.annotation.RestController;
 import com.hexvoid.employeeportal.constants.ApplicationConstants;
 import com.hexvoid.employeeportal.entity.EmployeeAuthorities;
 import com.hexvoid.employeeportal.entity.EmployeeCredentials;
+import com.hexvoid.employeeportal.security.JWTTokenCodec;
 import com.hexvoid.employeeportal.service.EmployeeSecretServiceImpl;
 
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
-
 /**
  * The {@code UserController} class exposes REST endpoints for handling user authentication, registration, and profile retrieval.
  * <p>
@@ -66,7 +58,7 @@ import io.jsonwebtoken.security.Keys;
  * <ul>
  *   <li>The {@link #customAuthentication(LoginRequest)} method generates JWT tokens after successful login.</li>
  *   <li>JWT tokens include user-specific claims such as email and granted authorities.</li>
- *   <li>Tokens are signed using a secret key fetched from application properties to ensure integrity.</li>
+ *   <li>Tokens are signed by the shared {@link JWTTokenCodec}, whose key is derived once at startup.</li>
  * </ul>
  *
  * <p><b>Flow of Authentication and Token Generation:</b></p>
@@ -88,7 +80,7 @@ public class UserController {
 	private final EmployeeSecretServiceImpl employeeSecretService;
 	private final PasswordEncoder passwordEncoder;
 	private final AuthenticationManager authenticationManager;
-	private final Environment environment;
+	private final JWTTokenCodec jwtTokenCodec;
 
 	/**
 	 * Constructs a {@code UserController} with the specified services and components.
@@ -96,16 +88,16 @@ public class UserController {
 	 * @param employeeSecretService the service for employee-related operations
 	 * @param passwordEncoder       the encoder for password encryption
 	 * @param authenticationManager the authentication manager for login handling
-	 * @param environment           the environment for fetching application properties
+	 * @param jwtTokenCodec         the shared codec used to sign issued JWT tokens
 	 */
 
 	@Autowired
 	public UserController(EmployeeSecretServiceImpl employeeSecretService, PasswordEncoder passwordEncoder
-			,AuthenticationManager authenticationManager ,Environment environment) {
+			,AuthenticationManager authenticationManager ,JWTTokenCodec jwtTokenCodec) {
 		this.employeeSecretService = employeeSecretService;
 		this.passwordEncoder = passwordEncoder;
 		this.authenticationManager=authenticationManager;
-		this.environment=environment;
+		this.jwtTokenCodec=jwtTokenCodec;
 	}
 
 	/**
@@ -233,7 +225,7 @@ public class UserController {
 	 * <p>If authentication is successful:
 	 * <ul>
 	 *   <li>Generates a JWT token with claims including email and authorities.</li>
-	 *   <li>Signs the token using a secret key fetched from application properties.</li>
+	 *   <li>Signs the token with the key held by {@link JWTTokenCodec}.</li>
 	 *   <li>Sets the JWT token in both the response body and HTTP headers.</li>
 	 * </ul>
 	 *
@@ -259,27 +251,7 @@ public class UserController {
 
 		// On successful authentication, generate JWT token
 		if (authenticationResponse != null && authenticationResponse.isAuthenticated()) {
-			if (environment != null) {
-				String secret = environment.getProperty(
-						ApplicationConstants.JWT_SECRET_KEY,
-						ApplicationConstants.JWT_DEFAULT_SECRET_VALUE);
-
-				System.out.println("JWT Secret Key For Debug: " + secret);
-
-				SecretKey secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
-
-				jwt = Jwts.builder()
-						.issuer("Hex Void")
-						.subject("JWT Token")
-						.claim("email", authenticationResponse.getName())
-						.claim("authorities", authenticationResponse.getAuthorities().stream()
-								.map(grantedAuthority -> grantedAuthority.getAuthority())
-								.collect(Collectors.joining(",")))
-						.issuedAt(new Date())
-						.expiration(new Date(System.currentTimeMillis() + 1000 * 60 * 60 * 24)) // 24 hrs
-						.signWith(secretKey)
-						.compact();
-			}
+			jwt = jwtTokenCodec.generateToken(authenticationResponse);
 		}
 
 		// Set JWT token in HTTP header
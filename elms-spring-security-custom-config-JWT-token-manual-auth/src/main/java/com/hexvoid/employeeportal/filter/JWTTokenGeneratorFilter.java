@@ -1,22 +1,16 @@
 package com.hexvoid.employeeportal.filter;
 
 import com.hexvoid.employeeportal.constants.ApplicationConstants;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
+import com.hexvoid.employeeportal.security.JWTTokenCodec;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.core.env.Environment;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import javax.crypto.SecretKey;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.util.Date;
-import java.util.stream.Collectors;
 
 /**
  * This filter is responsible for generating a JWT (JSON Web Token)
@@ -30,6 +24,15 @@ import java.util.stream.Collectors;
  */
 public class JWTTokenGeneratorFilter extends OncePerRequestFilter {
 
+	private final JWTTokenCodec jwtTokenCodec;
+
+	/**
+	 * @param jwtTokenCodec shared codec holding the signing key derived at startup
+	 */
+	public JWTTokenGeneratorFilter(JWTTokenCodec jwtTokenCodec) {
+		this.jwtTokenCodec = jwtTokenCodec;
+	}
+
 	/**
 	 * @param request
 	 * @param response
@@ -44,7 +47,7 @@ public class JWTTokenGeneratorFilter extends OncePerRequestFilter {
 	 * <ol>
 	 *     <li>Extract the current authenticated principal</li>
 	 *     <li>Build a secure JWT using claims like email and authorities</li>
-	 *     <li>Sign the token using a secret key from environment or default fallback</li>
+	 *     <li>Sign the token using the key held by {@link JWTTokenCodec} (derived once at startup)</li>
 	 *     <li>Attach the token to the response header with key: <b>Authorization</b></li>
 	 * </ol>
 	 *
@@ -61,51 +64,20 @@ public class JWTTokenGeneratorFilter extends OncePerRequestFilter {
 		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 		// Step 2: Proceed only if the user is authenticated
 		if (authentication != null) {
-			Environment environment = getEnvironment();
-			if (environment != null) {
-
-				// Step 3: Fetch the JWT secret key from env, or fall back to a default secure value
-				//
-				// Why use a fallback?
-				// --------------------
-				// In local/dev environments, environment variables may not be set.
-				// Using a fallback value ensures the app doesn’t crash and can still generate tokens.
-				//
-				// But in production, it is highly recommended to always define your own secure key via env variables
-				// like Docker secrets, .env files, or Kubernetes config maps.
-				//
-				//  Example production-level secure secret (recommended 256-bit key for HMAC-SHA256):
-				// jwt.secretKey=a8VYmKz7nL5xQ2pNfJrGcTeWvBdYzXh9UsMwEnRbTqOjSl3K
-
-				//System.out.println("SECRET: " + environment.getProperty("jwt.secretKey"));
-				//System.out.println("DEFAULT SECRET: " + environment.getProperty("jwt.defaultSecretKey"));
-
-				//Get Property is having 2 parameter in case if no secret key is there it will fall to default value
-				String secret = environment.getProperty(
-						ApplicationConstants.JWT_SECRET_KEY,
-						ApplicationConstants.JWT_DEFAULT_SECRET_VALUE
-						);
-
-
-				System.out.println("JWT Secret Key For Debug: " + secret); // Avoid printing it's just for learning reference
-				SecretKey secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+			// Step 3: Build and sign the JWT token with custom claims (email, authorities).
+			//
+			// The secret is resolved from env (or the development fallback) only once,
+			// when JWTTokenCodec is created, instead of on every request.
+			//
+			// In production, it is highly recommended to always define your own secure key via env variables
+			// like Docker secrets, .env files, or Kubernetes config maps.
+			//
+			//  Example production-level secure secret (recommended 256-bit key for HMAC-SHA256):
+			// jwt.secretKey=a8VYmKz7nL5xQ2pNfJrGcTeWvBdYzXh9UsMwEnRbTqOjSl3K
+			String jwt = jwtTokenCodec.generateToken(authentication);
 
-				// Step 4: Build the JWT token with custom claims
-				String jwt = Jwts.builder()
-						.issuer("Hex Void")   // Identifies the token creator
-						.subject("JWT Token") // General description of the token
-						.claim("email", authentication.getName()) // Add user's email (unique identity)
-						.claim("authorities",authentication.getAuthorities().stream()
-								.map(grantedAuthority ->
-								grantedAuthority.getAuthority().toString())
-								.collect(Collectors.joining(","))) // Convert authorities to CSV
-						.issuedAt(new Date()) // Token issue time
-						.expiration(new Date(new Date().getTime() + 1000 * 60 * 60 * 24)) // Token validity: 24 hours
-						.signWith(secretKey) // Sign using HMAC SHA algorithm and the secret key
-						.compact();
-				// Step 5: Set the generated JWT token in response header to be used by client
-				response.setHeader(ApplicationConstants.JWT_HEADER_NAME, jwt);
-			}
+			// Step 4: Set the generated JWT token in response header to be used by client
+			response.setHeader(ApplicationConstants.JWT_HEADER_NAME, jwt);
 		}
 		// Continue with the remaining filter chain
 		filterChain.doFilter(request, response);
@@ -153,4 +125,4 @@ public class JWTTokenGeneratorFilter extends OncePerRequestFilter {
 		//return false; -- Do not run this filter for any request where the URL path is not /user/details
 		return !request.getServletPath().equals("/user/details");
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,116 @@
+package com.hexvoid.employeeportal.security;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Date;
+import java.util.stream.Collectors;
+
+import javax.crypto.SecretKey;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import com.hexvoid.employeeportal.constants.ApplicationConstants;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * Single place where JWT tokens are signed and parsed.
+ *
+ * <p>The HMAC {@link SecretKey} is derived from {@code jwt.secretKey} once, when the bean is
+ * created at startup, and the {@link JwtParser} built from it is reused for every request.
+ * Both objects are immutable and thread-safe, so the token filters and the {@code /api/login}
+ * endpoint all share this instance instead of re-reading the {@link Environment}, re-deriving
+ * the key and rebuilding the parser on each call.
+ *
+ * <p>{@code JwtBuilder} itself is not reusable, so issuance starts a fresh builder from the
+ * same template (issuer, subject, lifetime and key) every time.
+ */
+@Component
+public class JWTTokenCodec {
+
+	/** Identifies the token creator. */
+	private static final String ISSUER = "Hex Void";
+
+	/** General description of the token. */
+	private static final String SUBJECT = "JWT Token";
+
+	/** Token validity: 24 hours. */
+	private static final long TOKEN_VALIDITY_MILLIS = 1000L * 60 * 60 * 24;
+
+	private final SecretKey secretKey;
+	private final JwtParser jwtParser;
+
+	/**
+	 * Resolves the secret from the environment, falling back to the development default.
+	 *
+	 * @param environment the environment holding {@link ApplicationConstants#JWT_SECRET_KEY}
+	 */
+	@Autowired
+	public JWTTokenCodec(Environment environment) {
+		this(environment.getProperty(
+				ApplicationConstants.JWT_SECRET_KEY,
+				ApplicationConstants.JWT_DEFAULT_SECRET_VALUE));
+	}
+
+	/**
+	 * Creates a codec for the given raw secret.
+	 *
+	 * @param secret the HMAC secret; must be at least 256 bits once UTF-8 encoded
+	 */
+	public JWTTokenCodec(String secret) {
+		this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+		this.jwtParser = Jwts.parser()
+				.verifyWith(secretKey)
+				.build();
+	}
+
+	/**
+	 * Issues a signed token for an authenticated principal.
+	 *
+	 * @param authentication the authenticated user
+	 * @return the compact, signed JWT
+	 */
+	public String generateToken(Authentication authentication) {
+		return generateToken(authentication.getName(), authentication.getAuthorities());
+	}
+
+	/**
+	 * Issues a signed token carrying the {@code email} and comma separated {@code authorities} claims.
+	 *
+	 * @param email       the user's email (unique identity)
+	 * @param authorities the user's granted authorities
+	 * @return the compact, signed JWT
+	 */
+	public String generateToken(String email, Collection<? extends GrantedAuthority> authorities) {
+		Date issuedAt = new Date();
+		return Jwts.builder()
+				.issuer(ISSUER)
+				.subject(SUBJECT)
+				.claim("email", email)
+				.claim("authorities", authorities.stream()
+						.map(GrantedAuthority::getAuthority)
+						.collect(Collectors.joining(",")))
+				.issuedAt(issuedAt)
+				.expiration(new Date(issuedAt.getTime() + TOKEN_VALIDITY_MILLIS))
+				.signWith(secretKey)
+				.compact();
+	}
+
+	/**
+	 * Verifies the signature and expiry of a token and returns its claims.
+	 *
+	 * @param jwt the compact JWT received from the client
+	 * @return the verified claims
+	 * @throws io.jsonwebtoken.JwtException if the token is invalid, expired, tampered or malformed
+	 */
+	public Claims parseClaims(String jwt) {
+		return jwtParser.parseSignedClaims(jwt).getPayload();
+	}
+}
@@ -94,7 +94,7 @@ public class SpringSecurityConfig {
 
 
 	@Bean
-	SecurityFilterChain chain(HttpSecurity http) throws Exception {
+	SecurityFilterChain chain(HttpSecurity http, JWTTokenCodec jwtTokenCodec) throws Exception {
 
 
 		http.authorizeHttpRequests(customizer ->
@@ -163,8 +163,9 @@ public class SpringSecurityConfig {
 		http.addFilterBefore(new RequestValidationBeforeFilter(), BasicAuthenticationFilter.class);
 		http.addFilterAfter(new AuthoritiesLoggingAfterFilter(), BasicAuthenticationFilter.class);
 		http.addFilterAt(new AuthoritiesLoggingAtFilter(), BasicAuthenticationFilter.class);
-		http.addFilterAfter(new JWTTokenGeneratorFilter(), BasicAuthenticationFilter.class);
-		http.addFilterBefore(new JWTTokenValidatorFilter(), BasicAuthenticationFilter.class);
+		// Both JWT filters share the single JWTTokenCodec created at startup.
+		http.addFilterAfter(new JWTTokenGeneratorFilter(jwtTokenCodec), BasicAuthenticationFilter.class);
+		http.addFilterBefore(new JWTTokenValidatorFilter(jwtTokenCodec), BasicAuthenticationFilter.class);
 		//with STATELESS it will not be stored into session
 		//If ALWAYS here it will generate JSESSION ID Always -- more explanation check --Security Context we need together when creating JSessionID
 		http.sessionManagement(sessionConfig -> sessionConfig.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
@@ -1,14 +1,12 @@
 package com.hexvoid.employeeportal.filter;
 
 import com.hexvoid.employeeportal.constants.ApplicationConstants;
+import com.hexvoid.employeeportal.security.JWTTokenCodec;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.core.env.Environment;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -16,9 +14,7 @@ import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import javax.crypto.SecretKey;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 
 /**
  * This filter is responsible for validating incoming JWT tokens from client requests.
@@ -29,13 +25,23 @@ import java.nio.charset.StandardCharsets;
  * This filter:
  * <ul>
  *     <li>Extracts the token from the <code>Authorization</code> header</li>
- *     <li>Parses and validates the token using the secret key</li>
+ *     <li>Parses and validates the token using the shared {@link JWTTokenCodec}</li>
  *     <li>Extracts user details and sets them in Spring Security’s context</li>
  * </ul>
  * Once the context is set, Spring Security handles authorization based on roles/authorities.
  * </p>
  */
 public class JWTTokenValidatorFilter extends OncePerRequestFilter {
+
+	private final JWTTokenCodec jwtTokenCodec;
+
+	/**
+	 * @param jwtTokenCodec shared codec holding the signing key and the prebuilt parser
+	 */
+	public JWTTokenValidatorFilter(JWTTokenCodec jwtTokenCodec) {
+		this.jwtTokenCodec = jwtTokenCodec;
+	}
+
 	/**
 	 * @param request
 	 * @param response
@@ -69,42 +75,23 @@ public class JWTTokenValidatorFilter extends OncePerRequestFilter {
 		//}
 		if (jwt != null) {
 			try {
-				Environment environment = getEnvironment();
-				if (environment != null) {
-
-					// Step 2: Retrieve secret key from environment or fallback default
-					String secretKeyEnv = environment.getProperty(
-							ApplicationConstants.JWT_SECRET_KEY,
-							ApplicationConstants.JWT_DEFAULT_SECRET_VALUE
-							);
-
-					SecretKey secretKey = Keys.hmacShaKeyFor(secretKeyEnv.getBytes(StandardCharsets.UTF_8));
-
-					if (secretKey != null) {
-
-						// Step 3: Parse and validate the JWT token
-						Claims claims = Jwts.parser()
-								.verifyWith(secretKey)
-								.build()
-								.parseSignedClaims(jwt)
-								.getPayload();
+				// Step 2: Parse and validate the JWT token with the prebuilt parser
+				Claims claims = jwtTokenCodec.parseClaims(jwt);
 
-						// Step 4: Extract user information and authorities from the token
-						String username = String.valueOf(claims.get("email"));
-						String authorities = String.valueOf(claims.get("authorities"));
+				// Step 3: Extract user information and authorities from the token
+				String username = String.valueOf(claims.get("email"));
+				String authorities = String.valueOf(claims.get("authorities"));
 
-						//It will set authentication value as true under UsernamePasswordAuthenticationToken
+				//It will set authentication value as true under UsernamePasswordAuthenticationToken
 
-						// Step 5: Set the user authentication in the SecurityContext for Spring Security
-						Authentication authentication = new UsernamePasswordAuthenticationToken(
-								username,
-								null,
-								AuthorityUtils.commaSeparatedStringToAuthorityList(authorities)
-								);
+				// Step 4: Set the user authentication in the SecurityContext for Spring Security
+				Authentication authentication = new UsernamePasswordAuthenticationToken(
+						username,
+						null,
+						AuthorityUtils.commaSeparatedStringToAuthorityList(authorities)
+						);
 
-						SecurityContextHolder.getContext().setAuthentication(authentication);
-					}
-				}
+				SecurityContextHolder.getContext().setAuthentication(authentication);
 			} catch (Exception e) {
 				// Token is invalid, expired, tampered or malformed
 				throw new BadCredentialsException("Invalid JWT Token Received");
@@ -136,4 +123,4 @@ public class JWTTokenValidatorFilter extends OncePerRequestFilter {
 		//Why not keeping ! here like in Token Generator
 		return request.getServletPath().equals("/user/details");
 	}
-}
+}
\ No newline at end of file
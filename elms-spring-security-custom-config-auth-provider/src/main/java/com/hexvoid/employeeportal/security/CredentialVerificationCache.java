@@ -0,0 +1,174 @@
+package com.hexvoid.employeeportal.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Opt-in cache of successful HTTP Basic credential checks.
+ *
+ * <p>Every Basic request loads the user and runs a full bcrypt {@code matches}, which costs
+ * around 100 ms of CPU. Integration clients that cannot use tokens send the same credentials
+ * thousands of times a minute, so when this cache is enabled a repeat request with the same
+ * username and password is answered with a single hash lookup instead.
+ *
+ * <ul>
+ *   <li>Keys are the username plus an HMAC-SHA256 of the presented password. The HMAC key is
+ *       random per process, so raw passwords are never stored and the cache keys cannot be
+ *       brute-forced offline.</li>
+ *   <li>Only successful checks are cached; a wrong password always goes through bcrypt.</li>
+ *   <li>Entries live for {@code security.credential-cache.ttl} (60 seconds by default) and the
+ *       cache holds at most {@code security.credential-cache.max-size} entries.</li>
+ *   <li>{@link #invalidate(String)} drops every entry of a user and is called whenever that
+ *       user's credentials are saved.</li>
+ *   <li>Each user has a generation, raised by every {@link #invalidate(String)}. A check reads it
+ *       with {@link #generation(String)} before loading the user, and {@link #put} keeps the
+ *       result only while the generation is unchanged. A check that read the old password before
+ *       a change but finished after its invalidation is therefore never cached.</li>
+ * </ul>
+ *
+ * <p>Disabled by default; set {@code security.credential-cache.enabled=true} to turn it on.
+ */
+@Component
+public class CredentialVerificationCache {
+
+	private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+	/**
+	 * Cache key: the username and the keyed hash of the password presented with it.
+	 */
+	private record CredentialKey(String username, String passwordMac) {
+	}
+
+	/**
+	 * What is kept for a verified credential. A fresh {@link Authentication} is built from it
+	 * on every hit, so erasing credentials on one request never affects another.
+	 */
+	private record VerifiedCredential(Object principal, List<GrantedAuthority> authorities) {
+	}
+
+	private final Cache<CredentialKey, VerifiedCredential> cache;
+	private final SecretKeySpec macKey;
+
+	/** Number of invalidations per user; users whose credentials never changed have none. */
+	private final Map<String, Long> generations = new ConcurrentHashMap<>();
+
+	/**
+	 * @param enabled whether successful credential checks should be cached at all
+	 * @param ttl     how long a cached check stays valid
+	 * @param maxSize the maximum number of cached checks
+	 */
+	public CredentialVerificationCache(@Value("${security.credential-cache.enabled:false}") boolean enabled,
+			@Value("${security.credential-cache.ttl:60s}") Duration ttl,
+			@Value("${security.credential-cache.max-size:10000}") long maxSize) {
+		if (enabled) {
+			byte[] keyBytes = new byte[32];
+			new SecureRandom().nextBytes(keyBytes);
+			this.macKey = new SecretKeySpec(keyBytes, HMAC_ALGORITHM);
+			this.cache = Caffeine.newBuilder()
+					.expireAfterWrite(ttl)
+					.maximumSize(maxSize)
+					.build();
+		} else {
+			this.macKey = null;
+			this.cache = null;
+		}
+	}
+
+	/**
+	 * Returns a new authenticated token if these exact credentials were verified recently.
+	 *
+	 * @param username the presented username
+	 * @param password the presented raw password
+	 * @return an authenticated token, or {@code null} on a miss or when the cache is disabled
+	 */
+	public Authentication get(String username, String password) {
+		if (cache == null) {
+			return null;
+		}
+		VerifiedCredential verified = cache.getIfPresent(key(username, password));
+		if (verified == null) {
+			return null;
+		}
+		return UsernamePasswordAuthenticationToken.authenticated(verified.principal(), null, verified.authorities());
+	}
+
+	/**
+	 * Returns the current generation of a user, to be read before the user is loaded and passed to {@link #put}.
+	 *
+	 * @param username the presented username
+	 * @return the number of times the user's cached checks were invalidated
+	 */
+	public long generation(String username) {
+		return generations.getOrDefault(username, 0L);
+	}
+
+	/**
+	 * Remembers a successful credential check, unless the user's credentials changed since
+	 * {@code generation} was read.
+	 *
+	 * @param username      the presented username
+	 * @param password      the presented raw password
+	 * @param generation    the user's generation, read before the user was loaded
+	 * @param authenticated the authenticated result returned for these credentials
+	 */
+	public void put(String username, String password, long generation, Authentication authenticated) {
+		if (cache == null || generation(username) != generation) {
+			return;
+		}
+		CredentialKey key = key(username, password);
+		Collection<? extends GrantedAuthority> authorities = authenticated.getAuthorities();
+		cache.put(key, new VerifiedCredential(authenticated.getPrincipal(), List.copyOf(authorities)));
+		// An invalidation between the check above and the put may have missed the new entry.
+		if (generation(username) != generation) {
+			cache.invalidate(key);
+		}
+	}
+
+	/**
+	 * Drops every cached check for a user, e.g. after the password or authorities changed,
+	 * and raises the user's generation so that checks still in progress are not cached.
+	 *
+	 * @param username the user's username (email)
+	 */
+	public void invalidate(String username) {
+		if (cache == null || username == null) {
+			return;
+		}
+		generations.merge(username, 1L, Long::sum);
+		cache.asMap().keySet().removeIf(key -> key.username().equals(username));
+	}
+
+	private CredentialKey key(String username, String password) {
+		try {
+			Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+			mac.init(macKey);
+			mac.update(username.getBytes(StandardCharsets.UTF_8));
+			// Separator so that ("ab", "c") and ("a", "bc") never produce the same input
+			mac.update((byte) 0);
+			byte[] hash = mac.doFinal(password.getBytes(StandardCharsets.UTF_8));
+			return new CredentialKey(username, Base64.getEncoder().withoutPadding().encodeToString(hash));
+		} catch (GeneralSecurityException e) {
+			// HmacSHA256 is mandatory on every Java platform.
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -12,6 +12,9 @@ import org.springframework.stereotype.Component;
 /**
  * Custom Authentication Provider for validating user credentials manually.
  * This class will override Spring Security's default authentication mechanism.
+ *
+ * Successful checks are remembered in {@link CredentialVerificationCache} (when enabled), so a
+ * repeated HTTP Basic request with the same credentials skips the DB lookup and bcrypt.
  */
 @Component
 public class EmployeeUserNamePwdAuthenticationProvider implements AuthenticationProvider {
@@ -22,10 +25,15 @@ public class EmployeeUserNamePwdAuthenticationProvider implements Authentication
 	// Injecting PasswordEncoder to validate the encoded password
 	private final PasswordEncoder passwordEncoder;
 
+	// Short-lived cache of successful credential checks (pass-through when disabled)
+	private final CredentialVerificationCache credentialVerificationCache;
+
 	// Constructor-based Dependency Injection
-	EmployeeUserNamePwdAuthenticationProvider(EmployeeUserDetailsService userDetailsService, PasswordEncoder passwordEncoder) {
+	EmployeeUserNamePwdAuthenticationProvider(EmployeeUserDetailsService userDetailsService, PasswordEncoder passwordEncoder,
+			CredentialVerificationCache credentialVerificationCache) {
 		this.userDetailsService = userDetailsService;
 		this.passwordEncoder = passwordEncoder;
+		this.credentialVerificationCache = credentialVerificationCache;
 	}
 
 	/**
@@ -40,6 +48,15 @@ public class EmployeeUserNamePwdAuthenticationProvider implements Authentication
 		String username = authentication.getName();
 		String password = authentication.getCredentials().toString();
 
+		// Same credentials verified within the cache TTL: no DB lookup, no bcrypt
+		Authentication cachedAuthentication = credentialVerificationCache.get(username, password);
+		if (cachedAuthentication != null) {
+			return cachedAuthentication;
+		}
+
+		// Read before the user is loaded, so a password change during this check is noticed by put()
+		long generation = credentialVerificationCache.generation(username);
+
 		// Fetching user details from the database using EmployeeUserDetailsService
 		UserDetails userDetails = userDetailsService.loadUserByUsername(username);
 
@@ -51,7 +68,9 @@ public class EmployeeUserNamePwdAuthenticationProvider implements Authentication
 		// Checking if the entered password matches the stored encoded password
 		if (passwordEncoder.matches(password, userDetails.getPassword())) {
 			// If passwords match, authentication is successful
-			return new UsernamePasswordAuthenticationToken(username, password, userDetails.getAuthorities());
+			Authentication authenticated = new UsernamePasswordAuthenticationToken(username, password, userDetails.getAuthorities());
+			credentialVerificationCache.put(username, password, generation, authenticated);
+			return authenticated;
 		} else {
 			// If password is incorrect, throw an exception (Login fails)
 			throw new BadCredentialsException("Bad credentials");
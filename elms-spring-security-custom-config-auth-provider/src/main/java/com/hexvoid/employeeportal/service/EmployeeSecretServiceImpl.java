@@ -2,9 +2,12 @@ package com.hexvoid.employeeportal.service;
 
 import com.hexvoid.employeeportal.dao.EmployeeCredentialsDao;
 import com.hexvoid.employeeportal.entity.EmployeeCredentials;
+import com.hexvoid.employeeportal.security.CredentialVerificationCache;
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * Service implementation for managing employee credentials.
@@ -16,15 +19,19 @@ import org.springframework.stereotype.Service;
 public class EmployeeSecretServiceImpl implements EmployeeSecretsService {
 
     private final EmployeeCredentialsDao employeeCredentialsDao;
+    private final CredentialVerificationCache credentialVerificationCache;
 
     /**
      * Constructor-based dependency injection of DAO layer.
      *
      * @param employeeCredentialsDao DAO for employee credentials
+     * @param credentialVerificationCache cache of verified Basic credentials, invalidated on save
      */
     @Autowired
-    public EmployeeSecretServiceImpl(EmployeeCredentialsDao employeeCredentialsDao) {
+    public EmployeeSecretServiceImpl(EmployeeCredentialsDao employeeCredentialsDao,
+                                     CredentialVerificationCache credentialVerificationCache) {
         this.employeeCredentialsDao = employeeCredentialsDao;
+        this.credentialVerificationCache = credentialVerificationCache;
     }
 
     /**
@@ -40,12 +47,28 @@ public class EmployeeSecretServiceImpl implements EmployeeSecretsService {
 
     /**
      * Persists employee credentials into the database.
+     * <p>Any cached credential checks for this user are dropped once the new password is
+     * committed, so the old password stops being accepted immediately. A check with the old
+     * password that is still running then is not cached either, because the invalidation
+     * raises the user's generation in {@link CredentialVerificationCache}.
      *
      * @param employeeCredentials the credentials to save
      * @return the saved EmployeeCredentials
      */
     @Override
     public EmployeeCredentials save(EmployeeCredentials employeeCredentials) {
-        return employeeCredentialsDao.save(employeeCredentials);
+        EmployeeCredentials saved = employeeCredentialsDao.save(employeeCredentials);
+        String email = saved.getEmail();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    credentialVerificationCache.invalidate(email);
+                }
+            });
+        } else {
+            credentialVerificationCache.invalidate(email);
+        }
+        return saved;
     }
 }